@@ -0,0 +1,431 @@
+/**
+ * The AVLUtilities class contains a collection of static methods for operating on AVL trees,
+ * binary search trees that rebalance themselves with rotations so that the heights of the two
+ * subtrees of every node differ by at most one. This keeps the height of a tree with n nodes
+ * at most about 1.44 log n, so contains, insert, and delete take O(log n) time even when the
+ * values arrive in sorted order, which would turn the trees built by BSTUtilities into
+ * linked lists. Each node also stores the size of its subtree, so select and rank can skip
+ * whole subtrees and also take O(log n) time.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public abstract class AVLUtilities
+{
+    /**
+     * Determines if a value is contained inside the AVL tree or not.
+     * @param t root of the AVL tree
+     * @param x value to search for
+     * @param observer TreeObserver told about each visited node
+     * @precondition t is an AVL tree in ascending order
+     * @return true if t contains the value x; otherwise, returns false
+     */
+    public static boolean contains(TreeNode t, Comparable x, TreeObserver observer)
+    {
+        while (t != null)
+        {
+            observer.visit(t);
+
+            int cmp = x.compareTo(t.getValue());
+            if (cmp == 0)
+                return true;
+            else if (cmp < 0)
+                t = t.getLeft();
+            else
+                t = t.getRight();
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the node with the greatest value less than x (or equal to x, if inclusive).
+     * @param t root of the AVL tree
+     * @param x value to search for
+     * @param inclusive true if a node with value x itself may be returned
+     * @param observer TreeObserver told about each visited node
+     * @precondition t is an AVL tree in ascending order
+     * @return the node found, or null if every value is greater than x
+     */
+    public static TreeNode lower(TreeNode t, Comparable x, boolean inclusive, TreeObserver observer)
+    {
+        TreeNode best = null;
+        while (t != null)
+        {
+            observer.visit(t);
+
+            int cmp = x.compareTo(t.getValue());
+            if (cmp == 0 && inclusive)
+                return t;
+            else if (cmp > 0)
+            {
+                best = t;
+                t = t.getRight();
+            }
+            else
+                t = t.getLeft();
+        }
+
+        return best;
+    }
+
+    /**
+     * Finds the node with the least value greater than x (or equal to x, if inclusive).
+     * @param t root of the AVL tree
+     * @param x value to search for
+     * @param inclusive true if a node with value x itself may be returned
+     * @param observer TreeObserver told about each visited node
+     * @precondition t is an AVL tree in ascending order
+     * @return the node found, or null if every value is less than x
+     */
+    public static TreeNode higher(TreeNode t, Comparable x, boolean inclusive, TreeObserver observer)
+    {
+        TreeNode best = null;
+        while (t != null)
+        {
+            observer.visit(t);
+
+            int cmp = x.compareTo(t.getValue());
+            if (cmp == 0 && inclusive)
+                return t;
+            else if (cmp < 0)
+            {
+                best = t;
+                t = t.getLeft();
+            }
+            else
+                t = t.getRight();
+        }
+
+        return best;
+    }
+
+    /**
+     * Inserts a value inside the AVL tree.
+     * @param t root of the AVL tree
+     * @param x value to insert
+     * @param observer TreeObserver told about each visited node
+     * @precondition t is an AVL tree in ascending order
+     * @postcondition x is ignored if it is a duplicate of an element already in t;
+     *                only one new TreeNode is created in the course of the traversal;
+     *                the tree is still an AVL tree
+     * @return the root of the AVL tree, which contains x and may be a different node than t
+     */
+    public static TreeNode insert(TreeNode t, Comparable x, TreeObserver observer)
+    {
+        if (t == null)
+            return new TreeNode(x);
+
+        observer.visit(t);
+
+        int cmp = x.compareTo(t.getValue());
+        if (cmp < 0)
+            t.setLeft(insert(t.getLeft(), x, observer));
+
+        else if (cmp > 0)
+            t.setRight(insert(t.getRight(), x, observer));
+
+        else
+            return t;
+
+        return balance(t);
+    }
+
+    /**
+     * Deletes a value from the AVL tree.
+     * @param t root of the AVL tree
+     * @param x value to delete
+     * @param observer TreeObserver told about each visited node
+     * @precondition t is an AVL tree in ascending order
+     * @postcondition no new TreeNodes have been created; the tree is still an AVL tree
+     * @return the root of the AVL tree, in which the value x has been deleted (if present),
+     *         which may be a different node than t
+     */
+    public static TreeNode delete(TreeNode t, Comparable x, TreeObserver observer)
+    {
+        if (t == null)
+            return null;
+
+        observer.visit(t);
+
+        int cmp = x.compareTo(t.getValue());
+        if (cmp < 0)
+            t.setLeft(delete(t.getLeft(), x, observer));
+
+        else if (cmp > 0)
+            t.setRight(delete(t.getRight(), x, observer));
+
+        else
+            return deleteNode(t);
+
+        return balance(t);
+    }
+
+    /**
+     * Deletes the value at the root of an AVL tree, for callers that find the node to delete
+     * with their own descent and rebalance the nodes above it with balance.
+     * @param t root of a nonempty AVL tree
+     * @postcondition no new TreeNodes have been created
+     * @return the root of the AVL tree without the value that was at t
+     */
+    public static TreeNode deleteNode(TreeNode t)
+    {
+        if (t.getLeft() == null)
+            return t.getRight();
+
+        if (t.getRight() == null)
+            return t.getLeft();
+
+        // replace this node's value with the leftmost of the right subtree
+        Object replace = TreeUtil.leftmost(t.getRight());
+        t.setRight(deleteLeftmost(t.getRight()));
+        t.setValue(replace);
+
+        return balance(t);
+    }
+
+    /**
+     * Deletes the leftmost node of an AVL tree.
+     * @param t root of a nonempty AVL tree
+     * @return the root of the AVL tree without its leftmost node
+     */
+    private static TreeNode deleteLeftmost(TreeNode t)
+    {
+        if (t.getLeft() == null)
+            return t.getRight();
+
+        t.setLeft(deleteLeftmost(t.getLeft()));
+        return balance(t);
+    }
+
+    /**
+     * Returns the height of a tree.
+     * @param t root of the tree
+     * @return 0 if t is empty; otherwise, the height stored in t
+     */
+    public static int height(TreeNode t)
+    {
+        if (t == null)
+            return 0;
+
+        return t.getHeight();
+    }
+
+    /**
+     * Returns the number of nodes in a tree.
+     * @param t root of the tree
+     * @return 0 if t is empty; otherwise, the size stored in t
+     */
+    public static int size(TreeNode t)
+    {
+        if (t == null)
+            return 0;
+
+        return t.getSize();
+    }
+
+    /**
+     * Finds the node with the k-th least value, counting from 0, by using the subtree sizes
+     * to skip whole subtrees.
+     * @param t root of the AVL tree
+     * @param k the number of values less than the value to find
+     * @param observer TreeObserver told about each visited node
+     * @precondition t is an AVL tree in ascending order
+     * @return the node with the k-th least value, or null if k is not in [0, size(t))
+     */
+    public static TreeNode select(TreeNode t, int k, TreeObserver observer)
+    {
+        while (t != null)
+        {
+            observer.visit(t);
+
+            int leftSize = size(t.getLeft());
+            if (k < leftSize)
+                t = t.getLeft();
+            else if (k > leftSize)
+            {
+                k -= leftSize + 1;
+                t = t.getRight();
+            }
+            else
+                return t;
+        }
+
+        return null;
+    }
+
+    /**
+     * Counts the values less than x (or equal to x, if inclusive), by using the subtree sizes
+     * to count whole subtrees at once.
+     * @param t root of the AVL tree
+     * @param x value to compare with
+     * @param inclusive true if a value equal to x is counted
+     * @param observer TreeObserver told about each visited node
+     * @precondition t is an AVL tree in ascending order
+     * @return the number of values in t less than x (or equal to x, if inclusive)
+     */
+    public static int rank(TreeNode t, Comparable x, boolean inclusive, TreeObserver observer)
+    {
+        int rank = 0;
+        while (t != null)
+        {
+            observer.visit(t);
+
+            int cmp = x.compareTo(t.getValue());
+            if (cmp == 0)
+                return rank + size(t.getLeft()) + (inclusive ? 1 : 0);
+            else if (cmp < 0)
+                t = t.getLeft();
+            else
+            {
+                rank += size(t.getLeft()) + 1;
+                t = t.getRight();
+            }
+        }
+
+        return rank;
+    }
+
+    /**
+     * Recomputes the height and size of a node from those of its children.
+     * @param t the node to update
+     */
+    private static void update(TreeNode t)
+    {
+        t.setHeight(1 + Math.max(height(t.getLeft()), height(t.getRight())));
+        t.setSize(1 + size(t.getLeft()) + size(t.getRight()));
+    }
+
+    /**
+     * Rotates a tree to the right, making its left child the new root.
+     * @param t root of the tree, which has a left child
+     * @return the new root of the tree
+     */
+    private static TreeNode rotateRight(TreeNode t)
+    {
+        TreeNode left = t.getLeft();
+        t.setLeft(left.getRight());
+        left.setRight(t);
+
+        update(t);
+        update(left);
+        return left;
+    }
+
+    /**
+     * Rotates a tree to the left, making its right child the new root.
+     * @param t root of the tree, which has a right child
+     * @return the new root of the tree
+     */
+    private static TreeNode rotateLeft(TreeNode t)
+    {
+        TreeNode right = t.getRight();
+        t.setRight(right.getLeft());
+        right.setLeft(t);
+
+        update(t);
+        update(right);
+        return right;
+    }
+
+    /**
+     * Updates the height and size of a node whose subtrees have just changed and, if the heights of its
+     * subtrees now differ by two, rotates it back into balance. Callers that insert or delete
+     * with their own descent call this on each node of the path on the way back up.
+     * @param t root of a tree whose subtrees are AVL trees with heights differing by at most 2
+     * @return the root of the balanced tree
+     */
+    public static TreeNode balance(TreeNode t)
+    {
+        int difference = height(t.getLeft()) - height(t.getRight());
+
+        if (difference > 1)
+        {
+            // left-right case: turn it into the left-left case first
+            if (height(t.getLeft().getLeft()) < height(t.getLeft().getRight()))
+                t.setLeft(rotateLeft(t.getLeft()));
+            return rotateRight(t);
+        }
+
+        if (difference < -1)
+        {
+            // right-left case: turn it into the right-right case first
+            if (height(t.getRight().getRight()) < height(t.getRight().getLeft()))
+                t.setRight(rotateRight(t.getRight()));
+            return rotateLeft(t);
+        }
+
+        update(t);
+        return t;
+    }
+
+    /**
+     * Determines if a tree is a valid AVL tree: its values are in strictly ascending order,
+     * every stored height and size is correct, and the heights of the two subtrees of every
+     * node differ by at most one.
+     * @param t root of the tree
+     * @return true if t is a valid AVL tree; otherwise false
+     */
+    public static boolean isBalanced(TreeNode t)
+    {
+        try
+        {
+            checkInvariants(t);
+            return true;
+        }
+        catch (IllegalStateException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Checks that a tree is a valid AVL tree: its values are in strictly ascending order,
+     * every stored height and size is correct, and the heights of the two subtrees of every
+     * node differ by at most one.
+     * @param t root of the tree
+     * @throws IllegalStateException if t is not a valid AVL tree, describing the first
+     *         violation found
+     */
+    public static void checkInvariants(TreeNode t)
+    {
+        checkInvariants(t, null, null);
+    }
+
+    /**
+     * Checks that a tree is a valid AVL tree whose values all lie strictly between two bounds.
+     * @param t root of the tree
+     * @param low every value must be greater than low (null for no bound)
+     * @param high every value must be less than high (null for no bound)
+     * @return the height of the tree
+     * @throws IllegalStateException if t is not a valid AVL tree within the bounds
+     */
+    private static int checkInvariants(TreeNode t, Comparable low, Comparable high)
+    {
+        if (t == null)
+            return 0;
+
+        Comparable value = (Comparable) t.getValue();
+        if ((low != null && low.compareTo(value) >= 0) || (high != null && high.compareTo(value) <= 0))
+            throw new IllegalStateException(value + " is out of order (should be between " +
+                low + " and " + high + ")");
+
+        int left = checkInvariants(t.getLeft(), low, value);
+        int right = checkInvariants(t.getRight(), value, high);
+
+        if (Math.abs(left - right) > 1)
+            throw new IllegalStateException("the subtrees of " + value + " have heights " + left +
+                " and " + right);
+
+        int height = 1 + Math.max(left, right);
+        if (t.getHeight() != height)
+            throw new IllegalStateException(value + " has stored height " + t.getHeight() +
+                " and should have height " + height);
+
+        int size = 1 + size(t.getLeft()) + size(t.getRight());
+        if (t.getSize() != size)
+            throw new IllegalStateException(value + " has stored size " + t.getSize() +
+                " and should have size " + size);
+
+        return height;
+    }
+}
@@ -10,32 +10,32 @@ public abstract class BSTUtilities
      * Determines if a value is contained inside the BST or not.
      * @param t root of the BST
      * @param x value to search for
-     * @param display TreeDisplay for graphics
+     * @param observer TreeObserver told about each visited node
      * @precondition t is a binary search tree in ascending order
      * @return true if t contains the value x; otherwise, returns false
      */
-    public static boolean contains(TreeNode t, Comparable x, TreeDisplay display)
+    public static boolean contains(TreeNode t, Comparable x, TreeObserver observer)
     {
         if (t == null)
             return false;
 
-        display.visit(t);
+        observer.visit(t);
 
         if (x.compareTo(t.getValue()) == 0)
             return true;
 
         else if (x.compareTo(t.getValue()) < 0)
-            return contains(t.getLeft(), x, display);
+            return contains(t.getLeft(), x, observer);
 
         else
-            return contains(t.getRight(), x, display);
+            return contains(t.getRight(), x, observer);
     }
 
     /**
      * Inserts a value inside the BST.
      * @param t root of the BST
      * @param x value to insert
-     * @param display TreeDisplay for graphics
+     * @param observer TreeObserver told about each visited node
      * @precondition t is a binary search tree in ascending order
      * @postcondition x is ignored if it is a duplicate of an element already in t;
      *                only one new TreeNode is created in the course of the traversal
@@ -43,18 +43,18 @@ public abstract class BSTUtilities
      *         with x having been inserted at the appropriate position to maintain the binary
      *         search tree property
      */
-    public static TreeNode insert(TreeNode t, Comparable x, TreeDisplay display)
+    public static TreeNode insert(TreeNode t, Comparable x, TreeObserver observer)
     {
         if (t == null)
             return new TreeNode(x);
 
-        display.visit(t);
+        observer.visit(t);
 
         if (x.compareTo(t.getValue()) < 0)
-            t.setLeft(insert(t.getLeft(), x, display));
+            t.setLeft(insert(t.getLeft(), x, observer));
 
         else if (x.compareTo(t.getValue()) > 0)
-            t.setRight(insert(t.getRight(), x, display));
+            t.setRight(insert(t.getRight(), x, observer));
 
         return t;
     }
@@ -62,13 +62,13 @@ public abstract class BSTUtilities
     /**
      * Deletes the specified node from the BST.
      * @param t the node to be deleted
-     * @param display TreeDisplay for graphics
+     * @param observer TreeObserver told about each visited node
      * @precondition t is a binary search tree in ascending order
      * @postcondition no new TreeNodes have been created
      * @return returns a pointer to a binary search tree, in which
      *         the value at node t has been deleted
      */
-    private static TreeNode deleteNode(TreeNode t, TreeDisplay display)
+    private static TreeNode deleteNode(TreeNode t, TreeObserver observer)
     {
         // node to delete is a leaf node
         if (t.getLeft() == null && t.getRight() == null)
@@ -84,7 +84,7 @@ public abstract class BSTUtilities
 
         // replace this node with leftmost of right subtree
         Object replace = TreeUtil.leftmost(t.getRight());
-        t.setRight(delete(t.getRight(), (Comparable) replace, display)); // delete replace
+        t.setRight(delete(t.getRight(), (Comparable) replace, observer)); // delete replace
         t.setValue(replace); // assign t's value to replace's value
 
         return t;
@@ -94,27 +94,27 @@ public abstract class BSTUtilities
      * Deletes a value from the BST.
      * @param t root of the BST
      * @param x value to delete
-     * @param display TreeDisplay for graphics
+     * @param observer TreeObserver told about each visited node
      * @precondition t is a binary search tree in ascending order
      * @postcondition no new TreeNodes have been created
      * @return a pointer to a binary search tree, in which the
      *         value x has been deleted (if present)
      */
-    public static TreeNode delete(TreeNode t, Comparable x, TreeDisplay display)
+    public static TreeNode delete(TreeNode t, Comparable x, TreeObserver observer)
     {
         if (t == null)
             return null;
 
-        display.visit(t);
+        observer.visit(t);
 
         if (x.compareTo(t.getValue()) == 0)
-            return deleteNode(t, display);
+            return deleteNode(t, observer);
 
         else if (x.compareTo(t.getValue()) < 0)
-            t.setLeft(delete(t.getLeft(), x, display));
+            t.setLeft(delete(t.getLeft(), x, observer));
 
         else if (x.compareTo(t.getValue()) > 0)
-            t.setRight(delete(t.getRight(), x, display));
+            t.setRight(delete(t.getRight(), x, observer));
 
         return t;
     }
@@ -125,6 +125,44 @@ public class BinarySearchTreeTester extends BinaryTreeTester
         }
     }
 
+    /**
+     * Tests the methods in the AVLUtilities class. Builds a tree from sorted values, which
+     * BSTUtilities would turn into a linked list, then lets the user insert and delete values,
+     * checking the height and balance of every node after each change.
+     */
+    private void testAVLUtilities()
+    {
+        System.out.println("\nTesting AVLUtilities:");
+
+        // build an AVL tree from sorted values without pausing on each visit
+        TreeNode avl = null;
+        display.setDelay(0);
+        for (int i = 1; i <= 31; i++)
+            avl = AVLUtilities.insert(avl, i, display);
+        display.setDelay(500);
+
+        AVLUtilities.checkInvariants(avl);
+        System.out.println("Inserted 1 through 31 in order; the AVL tree has height " +
+            AVLUtilities.height(avl) + " (a BST would have height 31)");
+        display.displayTree(avl);
+
+        while (prompt())
+        {
+            System.out.print("Enter \"i\" to insert or \"d\" to delete, then a number: ");
+            String op = sc.next();
+            int num = Integer.parseInt(sc.next());
+
+            if (op.equalsIgnoreCase("i"))
+                avl = AVLUtilities.insert(avl, num, display);
+            else
+                avl = AVLUtilities.delete(avl, num, display);
+
+            System.out.println("Balanced: " + AVLUtilities.isBalanced(avl) + ", height: " +
+                AVLUtilities.height(avl));
+            display.displayTree(avl);
+        }
+    }
+
     /**
      * Called by the display object to send back the node value
      * when a node is visited.
@@ -142,10 +180,11 @@ public class BinarySearchTreeTester extends BinaryTreeTester
     public static void main(String[] args)
     {
         System.out.println("Welcome to the Binary Search Tree Tester.");
-        System.out.println("You can test your insert, delete, and contains methods.");
+        System.out.println("You can test your insert, delete, and contains methods, and the AVL tree methods.");
 
         BinarySearchTreeTester tester = new BinarySearchTreeTester();
         tester.testBSTUtilites();
+        tester.testAVLUtilities();
 
         System.out.println("\nThank you!");
         System.exit(0);
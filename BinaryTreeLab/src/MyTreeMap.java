@@ -1,12 +1,22 @@
+import java.util.AbstractMap;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
- * The TreeMap uses a BST to add an object, remove an object, or check if an object exists
- * in the TreeMap. It can return the size and a sorted String of its contents.
+ * The TreeMap uses a self-balancing BST (an AVL tree) to add an object, remove an object, or check if an object exists
+ * in the TreeMap. It can return the size and a sorted String of its contents. Every update
+ * (put, remove, computeIfAbsent, and merge) finds or creates its key's node in one descent.
+ * It can also find the keys nearest a key and iterate over views of ranges of keys.
  * @param <K> the key for the element which the TreeMap stores
  * @param <V> the value for the element which the TreeMap stores
  * @author Nelson Gou
  * @version 12/3/2021
  */
-public class MyTreeMap<K,V>
+public class MyTreeMap<K,V> implements Iterable<Map.Entry<K,V>>
 {
     /**
      * The Pair class stores a pair of key-value pairs for use in a Map.
@@ -86,20 +96,53 @@ public class MyTreeMap<K,V>
 
     private TreeNode root;
     private int size;
+    private int modCount;
+    private TreeObserver observer;
     private TreeDisplay display;
 
     /**
-     * Constructs a TreeSet by initializing the root of the BST to null,
-     * initializing the size to 0, and creating a TreeDisplay for graphics.
+     * Constructs a TreeMap by initializing the root of the BST to null and
+     * initializing the size to 0. It runs headless until attachDisplay is called.
      */
     public MyTreeMap()
     {
         root = null;
         size = 0;
+        modCount = 0;
+
+        // headless until a display is attached
+        observer = TreeObserver.NONE;
+        display = null;
+    }
+
+    /**
+     * Opens a TreeDisplay window that shows the tree and lights up each node as it is visited.
+     * Every visit then pauses for 1 millisecond, so only attach a display when watching.
+     * @return the TreeDisplay showing the TreeMap
+     */
+    public TreeDisplay attachDisplay()
+    {
         display = new TreeDisplay();
 
         //wait 1 millisecond when visiting a node
         display.setDelay(1);
+        display.displayTree(root);
+
+        observer = display;
+        return display;
+    }
+
+    /**
+     * Sets the TreeObserver told about each node visited, replacing any attached display.
+     * @param newObserver the new TreeObserver, or null to run headless
+     */
+    public void setObserver(TreeObserver newObserver)
+    {
+        display = null;
+        if (newObserver == null)
+            observer = TreeObserver.NONE;
+        else
+            observer = newObserver;
     }
 
     /**
@@ -118,38 +161,82 @@ public class MyTreeMap<K,V>
      */
     public boolean containsKey(Object key)
     {
-        return BSTUtilities.contains(root, (Comparable) (key), display);
+        return getNode(root, (Comparable) (key)) != null;
     }
 
     /**
-     * Adds the element with a key and a value to the TreeMap if not present.
+     * Adds the element with a key and a value to the TreeMap, replacing the value if the key is
+     * already present. Finds or creates the key's node in a single descent.
      * @param key the key of the element to be added
      * @param value the value of the element to be added
-     * @return true if able to add (not present before); otherwise false
+     * @return the previous value for key, or null if the key was not present
      */
     public V put(K key, V value)
     {
-        boolean contain = containsKey(key);
-        V old = null;
-        if (contain)
-            old = get(key);
+        Result found = new Result();
+        root = put(root, (Comparable) (key), value, found);
+        refresh();
+        return found.value;
+    }
 
-        root = BSTUtilities.insert(root, new Pair(key, value), display);
-        size++;
+    /**
+     * Puts a key and a value in the tree rooted at the given node.
+     * @param t root of the AVL tree
+     * @param key the key of the element to be added
+     * @param value the value of the element to be added
+     * @param found receives the previous value for the key
+     * @return the root of the AVL tree after the put
+     */
+    private TreeNode put(TreeNode t, Comparable key, V value, Result found)
+    {
+        if (t == null)
+        {
+            size++;
+            modCount++;
+            return new TreeNode(new Pair(key, value));
+        }
+
+        observer.visit(t);
+
+        int cmp = compare(key, t);
+        if (cmp < 0)
+            t.setLeft(put(t.getLeft(), key, value, found));
+
+        else if (cmp > 0)
+            t.setRight(put(t.getRight(), key, value, found));
 
-        if (contain)
-            return old;
         else
-            return null;
+        {
+            Pair p = (Pair) t.getValue();
+            found.value = (V) p.getValue();
+            p.setValue(value);
+            return t;
+        }
+
+        return AVLUtilities.balance(t);
     }
 
+    /**
+     * Returns the value for a key.
+     * @param key the key to be searched for
+     * @return the value for key, or null if the key is not present
+     */
     public V get(Object key)
     {
-        TreeNode t = getNode(root, (Comparable) key);
+        TreeNode t = getNode(root, (Comparable) (key));
+        if (t == null)
+            return null;
+
         Pair p = (Pair) t.getValue();
         return (V) p.getValue();
     }
 
+    /**
+     * Finds the node holding a key in the tree rooted at the given node.
+     * @param t root of the AVL tree
+     * @param key the key to be searched for
+     * @return the node whose Pair has the key, or null if the key is not present
+     */
     private TreeNode getNode(TreeNode t, Comparable key)
     {
         if (t == null)
@@ -157,13 +244,14 @@ public class MyTreeMap<K,V>
             return null;
         }
 
-        display.visit(t);
+        observer.visit(t);
 
-        if (key.compareTo(t.getValue()) < 0)
+        int cmp = compare(key, t);
+        if (cmp < 0)
         {
             return getNode(t.getLeft(), key);
         }
-        else if (key.compareTo(t.getValue()) > 0)
+        else if (cmp > 0)
         {
             return getNode(t.getRight(), key);
         }
@@ -172,21 +260,659 @@ public class MyTreeMap<K,V>
     }
 
     /**
-     * Removes key from the TreeMap if present.
+     * Removes key from the TreeMap if present, in a single descent.
      * @param key the object to be removed
-     * @return true if able to remove (present before); otherwise false
+     * @return the value for key before it was removed, or null if the key was not present
      */
     public V remove(Object key)
     {
-        if (!containsKey(key))
+        Result found = new Result();
+        root = remove(root, (Comparable) (key), found);
+        refresh();
+        return found.value;
+    }
+
+    /**
+     * Removes a key from the tree rooted at the given node.
+     * @param t root of the AVL tree
+     * @param key the key to be removed
+     * @param found receives the value the key had
+     * @return the root of the AVL tree after the removal
+     */
+    private TreeNode remove(TreeNode t, Comparable key, Result found)
+    {
+        if (t == null)
             return null;
 
-        V old = get(key);
+        observer.visit(t);
+
+        int cmp = compare(key, t);
+        if (cmp < 0)
+            t.setLeft(remove(t.getLeft(), key, found));
+
+        else if (cmp > 0)
+            t.setRight(remove(t.getRight(), key, found));
+
+        else
+        {
+            found.value = (V) ((Pair) t.getValue()).getValue();
+            size--;
+            modCount++;
+            return AVLUtilities.deleteNode(t);
+        }
+
+        return AVLUtilities.balance(t);
+    }
+
+    /**
+     * Returns the value for a key, first adding the value computed by mappingFunction if the
+     * key is not present (or has a null value), in a single descent. Nothing is added if
+     * mappingFunction returns null.
+     * @param key the key to look up
+     * @param mappingFunction computes a value for a missing key
+     * @return the value for key after the call, or null if there is none
+     * @throws ConcurrentModificationException if mappingFunction adds or removes keys
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction)
+    {
+        Result found = new Result();
+        root = computeIfAbsent(root, key, mappingFunction, found);
+        refresh();
+        return found.value;
+    }
+
+    /**
+     * Runs computeIfAbsent on the tree rooted at the given node.
+     * @param t root of the AVL tree
+     * @param key the key to look up
+     * @param mappingFunction computes a value for a missing key
+     * @param found receives the key's value after the call
+     * @return the root of the AVL tree after the call
+     * @throws ConcurrentModificationException if mappingFunction adds or removes keys
+     */
+    private TreeNode computeIfAbsent(TreeNode t, K key, Function<? super K, ? extends V> mappingFunction,
+                                     Result found)
+    {
+        if (t == null)
+        {
+            found.value = apply(mappingFunction, key);
+            if (found.value == null)
+                return null;
+
+            size++;
+            modCount++;
+            return new TreeNode(new Pair(key, found.value));
+        }
+
+        observer.visit(t);
+
+        int cmp = compare((Comparable) (key), t);
+        if (cmp < 0)
+            t.setLeft(computeIfAbsent(t.getLeft(), key, mappingFunction, found));
+
+        else if (cmp > 0)
+            t.setRight(computeIfAbsent(t.getRight(), key, mappingFunction, found));
+
+        else
+        {
+            Pair p = (Pair) t.getValue();
+            found.value = (V) p.getValue();
+            if (found.value == null)
+            {
+                found.value = apply(mappingFunction, key);
+                p.setValue(found.value);
+            }
+            return t;
+        }
+
+        return AVLUtilities.balance(t);
+    }
+
+    /**
+     * Adds value for a key that is not present (or has a null value); otherwise replaces the
+     * key's value with remappingFunction applied to the old value and value, removing the key
+     * if that returns null. Done in a single descent.
+     * @param key the key to merge into
+     * @param value the value to add or merge in
+     * @param remappingFunction combines the old value and value
+     * @return the value for key after the call, or null if the key was removed
+     * @throws NullPointerException if value is null
+     * @throws ConcurrentModificationException if remappingFunction adds or removes keys
+     */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction)
+    {
+        if (value == null)
+            throw new NullPointerException();
+
+        Result found = new Result();
+        root = merge(root, key, value, remappingFunction, found);
+        refresh();
+        return found.value;
+    }
+
+    /**
+     * Runs merge on the tree rooted at the given node.
+     * @param t root of the AVL tree
+     * @param key the key to merge into
+     * @param value the value to add or merge in
+     * @param remappingFunction combines the old value and value
+     * @param found receives the key's value after the call
+     * @return the root of the AVL tree after the call
+     * @throws ConcurrentModificationException if remappingFunction adds or removes keys
+     */
+    private TreeNode merge(TreeNode t, K key, V value,
+                           BiFunction<? super V, ? super V, ? extends V> remappingFunction, Result found)
+    {
+        if (t == null)
+        {
+            found.value = value;
+            size++;
+            modCount++;
+            return new TreeNode(new Pair(key, value));
+        }
+
+        observer.visit(t);
+
+        int cmp = compare((Comparable) (key), t);
+        if (cmp < 0)
+            t.setLeft(merge(t.getLeft(), key, value, remappingFunction, found));
+
+        else if (cmp > 0)
+            t.setRight(merge(t.getRight(), key, value, remappingFunction, found));
+
+        else
+        {
+            Pair p = (Pair) t.getValue();
+            V old = (V) p.getValue();
+            if (old == null)
+                found.value = value;
+            else
+            {
+                int expectedModCount = modCount;
+                found.value = remappingFunction.apply(old, value);
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException("Modified TreeMap during merge");
+            }
+
+            if (found.value == null)
+            {
+                size--;
+                modCount++;
+                return AVLUtilities.deleteNode(t);
+            }
+
+            p.setValue(found.value);
+            return t;
+        }
+
+        return AVLUtilities.balance(t);
+    }
+
+    /**
+     * Runs a mapping function in the middle of a descent. The nodes above the current one
+     * still hold the subtrees they had before the call, so if the function adds or removes
+     * keys, the descent must stop before it links those subtrees back into the tree.
+     * @param mappingFunction computes a value for a missing key
+     * @param key the key to compute a value for
+     * @return the value computed
+     * @throws ConcurrentModificationException if mappingFunction adds or removes keys
+     */
+    private V apply(Function<? super K, ? extends V> mappingFunction, K key)
+    {
+        int expectedModCount = modCount;
+        V value = mappingFunction.apply(key);
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException("Modified TreeMap during computeIfAbsent");
+
+        return value;
+    }
+
+    /**
+     * Returns the least key in the TreeMap.
+     * @return the least key
+     * @throws NoSuchElementException if the TreeMap is empty
+     */
+    public K firstKey()
+    {
+        if (root == null)
+            throw new NoSuchElementException();
+
+        return (K) ((Pair) TreeUtil.leftmost(root)).getKey();
+    }
 
-        root = BSTUtilities.delete(root, (Comparable) (key), display);
-        size--;
+    /**
+     * Returns the greatest key in the TreeMap.
+     * @return the greatest key
+     * @throws NoSuchElementException if the TreeMap is empty
+     */
+    public K lastKey()
+    {
+        if (root == null)
+            throw new NoSuchElementException();
+
+        return (K) ((Pair) TreeUtil.rightmost(root)).getKey();
+    }
+
+    /**
+     * Returns the greatest key less than or equal to the given key.
+     * @param key the key to search for
+     * @return the greatest key less than or equal to key, or null if there is none
+     */
+    public K floorKey(K key)
+    {
+        return keyOf(AVLUtilities.lower(root, new Pair(key, null), true, observer));
+    }
 
-        return old;
+    /**
+     * Returns the least key greater than or equal to the given key.
+     * @param key the key to search for
+     * @return the least key greater than or equal to key, or null if there is none
+     */
+    public K ceilingKey(K key)
+    {
+        return keyOf(AVLUtilities.higher(root, new Pair(key, null), true, observer));
+    }
+
+    /**
+     * Returns the least key strictly greater than the given key.
+     * @param key the key to search for
+     * @return the least key greater than key, or null if there is none
+     */
+    public K higherKey(K key)
+    {
+        return keyOf(AVLUtilities.higher(root, new Pair(key, null), false, observer));
+    }
+
+    /**
+     * Returns the greatest key strictly less than the given key.
+     * @param key the key to search for
+     * @return the greatest key less than key, or null if there is none
+     */
+    public K lowerKey(K key)
+    {
+        return keyOf(AVLUtilities.lower(root, new Pair(key, null), false, observer));
+    }
+
+    /**
+     * Returns a view of the part of the TreeMap with keys between fromKey and toKey. The view
+     * reads and writes through to the TreeMap.
+     * @param fromKey the least key of the view
+     * @param fromInclusive true if fromKey itself is in the view
+     * @param toKey the greatest key of the view
+     * @param toInclusive true if toKey itself is in the view
+     * @return a view of the keys between fromKey and toKey
+     * @throws IllegalArgumentException if fromKey is greater than toKey
+     */
+    public SubMap subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive)
+    {
+        if (((Comparable) (fromKey)).compareTo(toKey) > 0)
+            throw new IllegalArgumentException("fromKey > toKey");
+
+        return new SubMap(new Pair(fromKey, null), fromInclusive, new Pair(toKey, null), toInclusive);
+    }
+
+    /**
+     * Returns a view of the part of the TreeMap with keys from fromKey, inclusive, to toKey,
+     * exclusive.
+     * @param fromKey the least key of the view
+     * @param toKey the key after the greatest key of the view
+     * @return a view of the keys in [fromKey, toKey)
+     * @throws IllegalArgumentException if fromKey is greater than toKey
+     */
+    public SubMap subMap(K fromKey, K toKey)
+    {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    /**
+     * Returns a view of the part of the TreeMap with keys less than toKey.
+     * @param toKey the key after the greatest key of the view
+     * @return a view of the keys less than toKey
+     */
+    public SubMap headMap(K toKey)
+    {
+        return headMap(toKey, false);
+    }
+
+    /**
+     * Returns a view of the part of the TreeMap with keys less than (or equal to) toKey.
+     * @param toKey the greatest key of the view
+     * @param inclusive true if toKey itself is in the view
+     * @return a view of the keys less than toKey
+     */
+    public SubMap headMap(K toKey, boolean inclusive)
+    {
+        return new SubMap(null, false, new Pair(toKey, null), inclusive);
+    }
+
+    /**
+     * Returns a view of the part of the TreeMap with keys greater than or equal to fromKey.
+     * @param fromKey the least key of the view
+     * @return a view of the keys greater than or equal to fromKey
+     */
+    public SubMap tailMap(K fromKey)
+    {
+        return tailMap(fromKey, true);
+    }
+
+    /**
+     * Returns a view of the part of the TreeMap with keys greater than (or equal to) fromKey.
+     * @param fromKey the least key of the view
+     * @param inclusive true if fromKey itself is in the view
+     * @return a view of the keys greater than fromKey
+     */
+    public SubMap tailMap(K fromKey, boolean inclusive)
+    {
+        return new SubMap(new Pair(fromKey, null), inclusive, null, false);
+    }
+
+    /**
+     * Returns an iterator over the elements of the TreeMap in ascending order of key.
+     * @return an iterator over the key-value pairs of the TreeMap
+     */
+    public Iterator<Map.Entry<K,V>> iterator()
+    {
+        return new EntryIterator(null, false, null, false);
+    }
+
+    /**
+     * Returns the key of the Pair stored in a node.
+     * @param t a node of the tree, or null
+     * @return the key at t, or null if t is null
+     */
+    private K keyOf(TreeNode t)
+    {
+        if (t == null)
+            return null;
+
+        return (K) ((Pair) t.getValue()).getKey();
+    }
+
+    /**
+     * The SubMap class is a view of the keys of the TreeMap in a range. It has no nodes of its
+     * own, so changes through the view change the TreeMap and the other way around.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    public class SubMap implements Iterable<Map.Entry<K,V>>
+    {
+        private Pair low;
+        private boolean lowInclusive;
+        private Pair high;
+        private boolean highInclusive;
+
+        /**
+         * Constructs a SubMap between two bounds.
+         * @param low a Pair with the least key of the view (null for no lower bound)
+         * @param lowInclusive true if the key of low is in the view
+         * @param high a Pair with the greatest key of the view (null for no upper bound)
+         * @param highInclusive true if the key of high is in the view
+         */
+        private SubMap(Pair low, boolean lowInclusive, Pair high, boolean highInclusive)
+        {
+            this.low = low;
+            this.lowInclusive = lowInclusive;
+            this.high = high;
+            this.highInclusive = highInclusive;
+        }
+
+        /**
+         * Determines if a key is in the range of the view.
+         * @param key the key to check
+         * @return true if key is between the bounds of the view; otherwise false
+         */
+        private boolean inRange(Object key)
+        {
+            Pair p = new Pair(key, null);
+
+            if (low != null)
+            {
+                int cmp = p.compareTo(low);
+                if (cmp < 0 || (cmp == 0 && !lowInclusive))
+                    return false;
+            }
+
+            if (high != null)
+            {
+                int cmp = p.compareTo(high);
+                if (cmp > 0 || (cmp == 0 && !highInclusive))
+                    return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Determines if a key is present in the view.
+         * @param key the key to be searched for
+         * @return true if the key is in range and in the TreeMap; otherwise false
+         */
+        public boolean containsKey(Object key)
+        {
+            return inRange(key) && MyTreeMap.this.containsKey(key);
+        }
+
+        /**
+         * Returns the value for a key in the view.
+         * @param key the key to be searched for
+         * @return the value for key, or null if the key is out of range or not present
+         */
+        public V get(Object key)
+        {
+            if (!inRange(key))
+                return null;
+
+            return MyTreeMap.this.get(key);
+        }
+
+        /**
+         * Puts a key and a value in the TreeMap through the view.
+         * @param key the key of the element to be added
+         * @param value the value of the element to be added
+         * @return the previous value for key, or null if the key was not present
+         * @throws IllegalArgumentException if key is out of the range of the view
+         */
+        public V put(K key, V value)
+        {
+            if (!inRange(key))
+                throw new IllegalArgumentException("key out of range");
+
+            return MyTreeMap.this.put(key, value);
+        }
+
+        /**
+         * Removes a key in the view from the TreeMap.
+         * @param key the key to be removed
+         * @return the value for key before it was removed, or null if it was out of range or
+         *         not present
+         */
+        public V remove(Object key)
+        {
+            if (!inRange(key))
+                return null;
+
+            return MyTreeMap.this.remove(key);
+        }
+
+        /**
+         * Returns the least key in the view.
+         * @return the least key in the view
+         * @throws NoSuchElementException if the view is empty
+         */
+        public K firstKey()
+        {
+            TreeRangeIterator nodes = new TreeRangeIterator(root, low, lowInclusive, high, highInclusive);
+            if (!nodes.hasNext())
+                throw new NoSuchElementException();
+
+            return keyOf(nodes.next());
+        }
+
+        /**
+         * Returns the greatest key in the view.
+         * @return the greatest key in the view
+         * @throws NoSuchElementException if the view is empty
+         */
+        public K lastKey()
+        {
+            K last;
+            if (high == null)
+                last = root == null ? null : (K) ((Pair) TreeUtil.rightmost(root)).getKey();
+            else
+                last = keyOf(AVLUtilities.lower(root, high, highInclusive, observer));
+
+            if (last == null || !inRange(last))
+                throw new NoSuchElementException();
+
+            return last;
+        }
+
+        /**
+         * Returns the number of elements in the view in O(log n) time, from the ranks of its
+         * bounds.
+         * @return the number of elements in the view
+         */
+        public int size()
+        {
+            int below = 0;
+            if (low != null)
+                below = AVLUtilities.rank(root, low, !lowInclusive, observer);
+
+            int upTo = AVLUtilities.size(root);
+            if (high != null)
+                upTo = AVLUtilities.rank(root, high, highInclusive, observer);
+
+            return Math.max(0, upTo - below);
+        }
+
+        /**
+         * Determines if the view is empty.
+         * @return true if no key of the TreeMap is in the range of the view; otherwise false
+         */
+        public boolean isEmpty()
+        {
+            return !new TreeRangeIterator(root, low, lowInclusive, high, highInclusive).hasNext();
+        }
+
+        /**
+         * Returns an iterator over the elements of the view in ascending order of key.
+         * @return an iterator over the key-value pairs of the view
+         */
+        public Iterator<Map.Entry<K,V>> iterator()
+        {
+            return new EntryIterator(low, lowInclusive, high, highInclusive);
+        }
+    }
+
+    /**
+     * The EntryIterator class iterates over the key-value pairs of the TreeMap in a range, in
+     * ascending order of key, with a TreeRangeIterator. It is fail-fast: it throws
+     * ConcurrentModificationException if the TreeMap gains or loses a key other than through
+     * its own remove.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class EntryIterator implements Iterator<Map.Entry<K,V>>
+    {
+        private TreeRangeIterator nodes;
+        private Pair high;
+        private boolean highInclusive;
+        private Pair lastReturned;
+        private int expectedModCount;
+
+        /**
+         * Constructs an EntryIterator between two bounds.
+         * @param low a Pair with the least key to return (null for no lower bound)
+         * @param lowInclusive true if the key of low may be returned
+         * @param high a Pair with the greatest key to return (null for no upper bound)
+         * @param highInclusive true if the key of high may be returned
+         */
+        public EntryIterator(Pair low, boolean lowInclusive, Pair high, boolean highInclusive)
+        {
+            nodes = new TreeRangeIterator(root, low, lowInclusive, high, highInclusive);
+            this.high = high;
+            this.highInclusive = highInclusive;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Determines if there is another element in the range.
+         * @return true if there is another element in the range; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nodes.hasNext();
+        }
+
+        /**
+         * Returns the next key-value pair in the range.
+         * @return a Map.Entry with the next key and its value
+         * @throws NoSuchElementException if there are no more elements in the range
+         * @throws ConcurrentModificationException if the TreeMap was changed structurally
+         */
+        public Map.Entry<K,V> next()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+
+            lastReturned = (Pair) nodes.next().getValue();
+            return new AbstractMap.SimpleImmutableEntry<K,V>((K) lastReturned.getKey(),
+                (V) lastReturned.getValue());
+        }
+
+        /**
+         * Removes the last element returned by next from the TreeMap.
+         * @throws IllegalStateException if next has not been called since the last remove
+         * @throws ConcurrentModificationException if the TreeMap was changed structurally
+         */
+        public void remove()
+        {
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+
+            MyTreeMap.this.remove(lastReturned.getKey());
+
+            // rotations may have moved the nodes on the stack, so start again after the removed key
+            nodes = new TreeRangeIterator(root, lastReturned, false, high, highInclusive);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * The Result class carries the value an update finds back up out of its descent. Each
+     * call makes its own, so a mapping function that calls back into the TreeMap can't
+     * overwrite it.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class Result
+    {
+        private V value;
+    }
+
+    /**
+     * Compares a key with the key of the Pair stored in a node.
+     * @param key the key to compare
+     * @param t a node of the tree
+     * @return a negative number, zero, or a positive number as key is less than, equal to,
+     *         or greater than the key at t
+     */
+    private int compare(Comparable key, TreeNode t)
+    {
+        return key.compareTo(((Pair) t.getValue()).getKey());
+    }
+
+    /**
+     * Redraws the attached display, if any, after the tree has changed.
+     */
+    private void refresh()
+    {
+        if (display != null)
+            display.displayTree(root);
     }
 
     /**
@@ -1,32 +1,67 @@
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.Stack;
+import java.util.NoSuchElementException;
 
 /**
- * The TreeSet uses a BST to add an object, remove an object, or check if an object exists
- * in the TreeSet. It can return the size and a sorted String of its contents.
+ * The TreeSet uses a self-balancing BST (an AVL tree) to add an object, remove an object, or check if an object exists
+ * in the TreeSet. It can return the size and a sorted String of its contents, find the
+ * elements nearest an object, iterate over views of ranges of elements, and find the k-th
+ * least element or the rank of an object in O(log n) time.
  * @param <E> the object which the TreeSet stores
  * @author Nelson Gou
  * @version 1/19/2022
  */
-public class MyTreeSet<E>
+public class MyTreeSet<E> implements Iterable<E>
 {
     private TreeNode root;
     private int size;
+    private int modCount;
+    private TreeObserver observer;
     private TreeDisplay display;
 
     /**
-     * Constructs a TreeSet by initializing the root of the BST to null,
-     * initializing the size to 0, and creating a TreeDisplay for graphics.
+     * Constructs a TreeSet by initializing the root of the BST to null and
+     * initializing the size to 0. It runs headless until attachDisplay is called.
      */
     public MyTreeSet()
     {
         root = null;
         size = 0;
+        modCount = 0;
 
+        // headless until a display is attached
+        observer = TreeObserver.NONE;
+        display = null;
+    }
+
+    /**
+     * Opens a TreeDisplay window that shows the tree and lights up each node as it is visited.
+     * Every visit then pauses for 1 millisecond, so only attach a display when watching.
+     * @return the TreeDisplay showing the TreeSet
+     */
+    public TreeDisplay attachDisplay()
+    {
         display = new TreeDisplay();
 
         // wait 1 millisecond when visiting a node
         display.setDelay(1);
+        display.displayTree(root);
+
+        observer = display;
+        return display;
+    }
+
+    /**
+     * Sets the TreeObserver told about each node visited, replacing any attached display.
+     * @param newObserver the new TreeObserver, or null to run headless
+     */
+    public void setObserver(TreeObserver newObserver)
+    {
+        display = null;
+        if (newObserver == null)
+            observer = TreeObserver.NONE;
+        else
+            observer = newObserver;
     }
 
     /**
@@ -45,7 +80,7 @@ public class MyTreeSet<E>
      */
     public boolean contains(Object obj)
     {
-        return BSTUtilities.contains(root, (Comparable) (obj), display);
+        return AVLUtilities.contains(root, (Comparable) (obj), observer);
     }
 
     /**
@@ -56,8 +91,14 @@ public class MyTreeSet<E>
     public boolean add(E obj)
     {
         boolean ret = !contains(obj);
-        root = BSTUtilities.insert(root, (Comparable) (obj), display);
-        if (ret) size++;
+        root = AVLUtilities.insert(root, (Comparable) (obj), observer);
+        if (display != null)
+            display.displayTree(root);
+        if (ret)
+        {
+            size++;
+            modCount++;
+        }
         return ret;
     }
 
@@ -69,11 +110,448 @@ public class MyTreeSet<E>
     public boolean remove(Object obj)
     {
         boolean ret = contains(obj);
-        root = BSTUtilities.delete(root, (Comparable) (obj), display);
-        if (ret) size--;
+        root = AVLUtilities.delete(root, (Comparable) (obj), observer);
+        if (display != null)
+            display.displayTree(root);
+        if (ret)
+        {
+            size--;
+            modCount++;
+        }
         return ret;
     }
 
+    /**
+     * Returns the k-th least element of the TreeSet, counting from 0, in O(log n) time.
+     * @param k the number of elements less than the element to return
+     * @return the k-th least element
+     * @throws IndexOutOfBoundsException if k is not in [0, size())
+     */
+    public E select(int k)
+    {
+        if (k < 0 || k >= size)
+            throw new IndexOutOfBoundsException("index " + k + " is out of range for size " + size);
+
+        return valueOf(AVLUtilities.select(root, k, observer));
+    }
+
+    /**
+     * Returns the number of elements of the TreeSet less than obj in O(log n) time.
+     * @param obj the object to compare with (it need not be in the TreeSet)
+     * @return the number of elements less than obj
+     */
+    public int rank(E obj)
+    {
+        return AVLUtilities.rank(root, (Comparable) (obj), false, observer);
+    }
+
+    /**
+     * Returns the number of elements of the TreeSet between low and high, inclusive, in
+     * O(log n) time.
+     * @param low the least element to count
+     * @param high the greatest element to count
+     * @return the number of elements in [low, high], or 0 if low is greater than high
+     */
+    public int countInRange(E low, E high)
+    {
+        int upTo = AVLUtilities.rank(root, (Comparable) (high), true, observer);
+        return Math.max(0, upTo - rank(low));
+    }
+
+    /**
+     * Returns the least element in the TreeSet.
+     * @return the least element
+     * @throws NoSuchElementException if the TreeSet is empty
+     */
+    public E first()
+    {
+        if (root == null)
+            throw new NoSuchElementException();
+
+        return (E) TreeUtil.leftmost(root);
+    }
+
+    /**
+     * Returns the greatest element in the TreeSet.
+     * @return the greatest element
+     * @throws NoSuchElementException if the TreeSet is empty
+     */
+    public E last()
+    {
+        if (root == null)
+            throw new NoSuchElementException();
+
+        return (E) TreeUtil.rightmost(root);
+    }
+
+    /**
+     * Returns the greatest element less than or equal to the given element.
+     * @param obj the element to search for
+     * @return the greatest element less than or equal to obj, or null if there is none
+     */
+    public E floor(E obj)
+    {
+        return valueOf(AVLUtilities.lower(root, (Comparable) (obj), true, observer));
+    }
+
+    /**
+     * Returns the least element greater than or equal to the given element.
+     * @param obj the element to search for
+     * @return the least element greater than or equal to obj, or null if there is none
+     */
+    public E ceiling(E obj)
+    {
+        return valueOf(AVLUtilities.higher(root, (Comparable) (obj), true, observer));
+    }
+
+    /**
+     * Returns the least element strictly greater than the given element.
+     * @param obj the element to search for
+     * @return the least element greater than obj, or null if there is none
+     */
+    public E higher(E obj)
+    {
+        return valueOf(AVLUtilities.higher(root, (Comparable) (obj), false, observer));
+    }
+
+    /**
+     * Returns the greatest element strictly less than the given element.
+     * @param obj the element to search for
+     * @return the greatest element less than obj, or null if there is none
+     */
+    public E lower(E obj)
+    {
+        return valueOf(AVLUtilities.lower(root, (Comparable) (obj), false, observer));
+    }
+
+    /**
+     * Returns a view of the part of the TreeSet between fromElement and toElement. The view
+     * reads and writes through to the TreeSet.
+     * @param fromElement the least element of the view
+     * @param fromInclusive true if fromElement itself is in the view
+     * @param toElement the greatest element of the view
+     * @param toInclusive true if toElement itself is in the view
+     * @return a view of the elements between fromElement and toElement
+     * @throws IllegalArgumentException if fromElement is greater than toElement
+     */
+    public SubSet subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive)
+    {
+        if (((Comparable) (fromElement)).compareTo(toElement) > 0)
+            throw new IllegalArgumentException("fromElement > toElement");
+
+        return new SubSet((Comparable) (fromElement), fromInclusive, (Comparable) (toElement), toInclusive);
+    }
+
+    /**
+     * Returns a view of the part of the TreeSet from fromElement, inclusive, to toElement,
+     * exclusive.
+     * @param fromElement the least element of the view
+     * @param toElement the element after the greatest element of the view
+     * @return a view of the elements in [fromElement, toElement)
+     * @throws IllegalArgumentException if fromElement is greater than toElement
+     */
+    public SubSet subSet(E fromElement, E toElement)
+    {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    /**
+     * Returns a view of the part of the TreeSet less than toElement.
+     * @param toElement the element after the greatest element of the view
+     * @return a view of the elements less than toElement
+     */
+    public SubSet headSet(E toElement)
+    {
+        return headSet(toElement, false);
+    }
+
+    /**
+     * Returns a view of the part of the TreeSet less than (or equal to) toElement.
+     * @param toElement the greatest element of the view
+     * @param inclusive true if toElement itself is in the view
+     * @return a view of the elements less than toElement
+     */
+    public SubSet headSet(E toElement, boolean inclusive)
+    {
+        return new SubSet(null, false, (Comparable) (toElement), inclusive);
+    }
+
+    /**
+     * Returns a view of the part of the TreeSet greater than or equal to fromElement.
+     * @param fromElement the least element of the view
+     * @return a view of the elements greater than or equal to fromElement
+     */
+    public SubSet tailSet(E fromElement)
+    {
+        return tailSet(fromElement, true);
+    }
+
+    /**
+     * Returns a view of the part of the TreeSet greater than (or equal to) fromElement.
+     * @param fromElement the least element of the view
+     * @param inclusive true if fromElement itself is in the view
+     * @return a view of the elements greater than fromElement
+     */
+    public SubSet tailSet(E fromElement, boolean inclusive)
+    {
+        return new SubSet((Comparable) (fromElement), inclusive, null, false);
+    }
+
+    /**
+     * Returns an iterator over the elements of the TreeSet in ascending order.
+     * @return an iterator over the elements of the TreeSet
+     */
+    public Iterator<E> iterator()
+    {
+        return new ElementIterator(null, false, null, false);
+    }
+
+    /**
+     * Returns the element stored in a node.
+     * @param t a node of the tree, or null
+     * @return the element at t, or null if t is null
+     */
+    private E valueOf(TreeNode t)
+    {
+        if (t == null)
+            return null;
+
+        return (E) t.getValue();
+    }
+
+    /**
+     * The SubSet class is a view of the elements of the TreeSet in a range. It has no nodes of
+     * its own, so changes through the view change the TreeSet and the other way around.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    public class SubSet implements Iterable<E>
+    {
+        private Comparable low;
+        private boolean lowInclusive;
+        private Comparable high;
+        private boolean highInclusive;
+
+        /**
+         * Constructs a SubSet between two bounds.
+         * @param low the least element of the view (null for no lower bound)
+         * @param lowInclusive true if low is in the view
+         * @param high the greatest element of the view (null for no upper bound)
+         * @param highInclusive true if high is in the view
+         */
+        private SubSet(Comparable low, boolean lowInclusive, Comparable high, boolean highInclusive)
+        {
+            this.low = low;
+            this.lowInclusive = lowInclusive;
+            this.high = high;
+            this.highInclusive = highInclusive;
+        }
+
+        /**
+         * Determines if an object is in the range of the view.
+         * @param obj the object to check
+         * @return true if obj is between the bounds of the view; otherwise false
+         */
+        private boolean inRange(Object obj)
+        {
+            if (low != null)
+            {
+                int cmp = low.compareTo(obj);
+                if (cmp > 0 || (cmp == 0 && !lowInclusive))
+                    return false;
+            }
+
+            if (high != null)
+            {
+                int cmp = high.compareTo(obj);
+                if (cmp < 0 || (cmp == 0 && !highInclusive))
+                    return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Determines if an object is present in the view.
+         * @param obj the object to be searched for
+         * @return true if obj is in range and in the TreeSet; otherwise false
+         */
+        public boolean contains(Object obj)
+        {
+            return inRange(obj) && MyTreeSet.this.contains(obj);
+        }
+
+        /**
+         * Adds obj to the TreeSet through the view if not present.
+         * @param obj the object to be added
+         * @return true if able to add (not present before); otherwise false
+         * @throws IllegalArgumentException if obj is out of the range of the view
+         */
+        public boolean add(E obj)
+        {
+            if (!inRange(obj))
+                throw new IllegalArgumentException("element out of range");
+
+            return MyTreeSet.this.add(obj);
+        }
+
+        /**
+         * Removes obj from the TreeSet if it is present in the view.
+         * @param obj the object to be removed
+         * @return true if able to remove (present in the view before); otherwise false
+         */
+        public boolean remove(Object obj)
+        {
+            return inRange(obj) && MyTreeSet.this.remove(obj);
+        }
+
+        /**
+         * Returns the least element in the view.
+         * @return the least element in the view
+         * @throws NoSuchElementException if the view is empty
+         */
+        public E first()
+        {
+            TreeRangeIterator nodes = new TreeRangeIterator(root, low, lowInclusive, high, highInclusive);
+            if (!nodes.hasNext())
+                throw new NoSuchElementException();
+
+            return valueOf(nodes.next());
+        }
+
+        /**
+         * Returns the greatest element in the view.
+         * @return the greatest element in the view
+         * @throws NoSuchElementException if the view is empty
+         */
+        public E last()
+        {
+            E last;
+            if (high == null)
+                last = (E) TreeUtil.rightmost(root);
+            else
+                last = valueOf(AVLUtilities.lower(root, high, highInclusive, observer));
+
+            if (last == null || !inRange(last))
+                throw new NoSuchElementException();
+
+            return last;
+        }
+
+        /**
+         * Returns the number of elements in the view in O(log n) time, from the ranks of its
+         * bounds.
+         * @return the number of elements in the view
+         */
+        public int size()
+        {
+            int below = 0;
+            if (low != null)
+                below = AVLUtilities.rank(root, low, !lowInclusive, observer);
+
+            int upTo = AVLUtilities.size(root);
+            if (high != null)
+                upTo = AVLUtilities.rank(root, high, highInclusive, observer);
+
+            return Math.max(0, upTo - below);
+        }
+
+        /**
+         * Determines if the view is empty.
+         * @return true if no element of the TreeSet is in the range of the view; otherwise false
+         */
+        public boolean isEmpty()
+        {
+            return !new TreeRangeIterator(root, low, lowInclusive, high, highInclusive).hasNext();
+        }
+
+        /**
+         * Returns an iterator over the elements of the view in ascending order.
+         * @return an iterator over the elements of the view
+         */
+        public Iterator<E> iterator()
+        {
+            return new ElementIterator(low, lowInclusive, high, highInclusive);
+        }
+    }
+
+    /**
+     * The ElementIterator class iterates over the elements of the TreeSet in a range, in
+     * ascending order, with a TreeRangeIterator. It is fail-fast: it throws
+     * ConcurrentModificationException if the TreeSet gains or loses an element other than
+     * through its own remove.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class ElementIterator implements Iterator<E>
+    {
+        private TreeRangeIterator nodes;
+        private Comparable high;
+        private boolean highInclusive;
+        private E lastReturned;
+        private int expectedModCount;
+
+        /**
+         * Constructs an ElementIterator between two bounds.
+         * @param low the least element to return (null for no lower bound)
+         * @param lowInclusive true if low may be returned
+         * @param high the greatest element to return (null for no upper bound)
+         * @param highInclusive true if high may be returned
+         */
+        public ElementIterator(Comparable low, boolean lowInclusive, Comparable high, boolean highInclusive)
+        {
+            nodes = new TreeRangeIterator(root, low, lowInclusive, high, highInclusive);
+            this.high = high;
+            this.highInclusive = highInclusive;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Determines if there is another element in the range.
+         * @return true if there is another element in the range; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nodes.hasNext();
+        }
+
+        /**
+         * Returns the next element in the range.
+         * @return the next element in ascending order
+         * @throws NoSuchElementException if there are no more elements in the range
+         * @throws ConcurrentModificationException if the TreeSet was changed structurally
+         */
+        public E next()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+
+            lastReturned = valueOf(nodes.next());
+            return lastReturned;
+        }
+
+        /**
+         * Removes the last element returned by next from the TreeSet.
+         * @throws IllegalStateException if next has not been called since the last remove
+         * @throws ConcurrentModificationException if the TreeSet was changed structurally
+         */
+        public void remove()
+        {
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+
+            MyTreeSet.this.remove(lastReturned);
+
+            // rotations may have moved the nodes on the stack, so start again after the removed element
+            nodes = new TreeRangeIterator(root, (Comparable) (lastReturned), false, high, highInclusive);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
     /**
      * Returns a sorted traversal of the TreeSet.
      * @return a String containing the elements of the TreeSet sorted
@@ -0,0 +1,356 @@
+import java.util.*;
+
+/**
+ * Tester for the navigation methods and range views of MyTreeSet and MyTreeMap. Checks first,
+ * last, floor, ceiling, higher, lower, and the subSet/headSet/tailSet and subMap/headMap/tailMap
+ * views and their iterators against java.util.TreeSet and java.util.TreeMap, then checks that
+ * short range scans of a large tree take O(log n + k) rather than O(n) time.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class NavigableTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int MAX_VALUE = 300;
+    private static final int NUM_OPERATIONS = 20000;
+    private static final int LARGE_SIZE = 1000000;
+    private static final int NUM_SCANS = 100000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        testSet();
+        System.out.println("MyTreeSet navigation and views work!");
+        testMap();
+        System.out.println("MyTreeMap navigation and views work!");
+        testRangeScans();
+        System.out.println("Range scans take O(log n + k) time!");
+    }
+
+    /**
+     * Runs random adds, removes, navigation queries, and view operations on a MyTreeSet
+     * against a java.util.TreeSet.
+     */
+    private static void testSet()
+    {
+        TreeSet<Integer> real = new TreeSet<Integer>();
+        MyTreeSet<Integer> fake = new MyTreeSet<Integer>();
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Integer value = random(MAX_VALUE);
+            int op = random(4);
+
+            if (op == 0)
+            {
+                debug("add(" + value + ")");
+                real.add(value);
+                fake.add(value);
+            }
+            else if (op == 1)
+            {
+                debug("remove(" + value + ")");
+                real.remove(value);
+                fake.remove(value);
+            }
+            else if (op == 2)
+            {
+                debug("navigate(" + value + ")");
+                same("floor(" + value + ")", real.floor(value), fake.floor(value));
+                same("ceiling(" + value + ")", real.ceiling(value), fake.ceiling(value));
+                same("higher(" + value + ")", real.higher(value), fake.higher(value));
+                same("lower(" + value + ")", real.lower(value), fake.lower(value));
+                if (!real.isEmpty())
+                {
+                    same("first()", real.first(), fake.first());
+                    same("last()", real.last(), fake.last());
+                }
+            }
+            else
+            {
+                int low = random(MAX_VALUE);
+                int high = low + random(MAX_VALUE / 3);
+                boolean lowInclusive = random(2) == 0;
+                boolean highInclusive = random(2) == 0;
+                int kind = random(3);
+                debug("view " + kind + " [" + low + ", " + high + "]");
+
+                NavigableSet<Integer> realView;
+                MyTreeSet<Integer>.SubSet fakeView;
+                if (kind == 0)
+                {
+                    realView = real.subSet(low, lowInclusive, high, highInclusive);
+                    fakeView = fake.subSet(low, lowInclusive, high, highInclusive);
+                }
+                else if (kind == 1)
+                {
+                    realView = real.headSet(high, highInclusive);
+                    fakeView = fake.headSet(high, highInclusive);
+                }
+                else
+                {
+                    realView = real.tailSet(low, lowInclusive);
+                    fakeView = fake.tailSet(low, lowInclusive);
+                }
+
+                checkView(realView, fakeView);
+            }
+
+            if (i % 100 == 0 && !toList(fake).equals(new ArrayList<Integer>(real)))
+                throw new RuntimeException("iterator returned " + toList(fake) + " and should return " + real);
+        }
+
+        fake.add(1);
+        Iterator<Integer> it = fake.iterator();
+        fake.add(MAX_VALUE + 1);
+        try
+        {
+            it.next();
+            throw new RuntimeException("next() should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Checks a view of a MyTreeSet against the same view of a java.util.TreeSet, then removes
+     * every other element through both views' iterators.
+     * @param real the view of the java.util.TreeSet
+     * @param fake the view of the MyTreeSet
+     */
+    private static void checkView(NavigableSet<Integer> real, MyTreeSet<Integer>.SubSet fake)
+    {
+        if (!toList(fake).equals(new ArrayList<Integer>(real)))
+            throw new RuntimeException("view iterator returned " + toList(fake) + " and should return " + real);
+        if (fake.size() != real.size() || fake.isEmpty() != real.isEmpty())
+            throw new RuntimeException("view size() returned " + fake.size() + " and should return " + real.size());
+        if (!real.isEmpty())
+        {
+            same("view first()", real.first(), fake.first());
+            same("view last()", real.last(), fake.last());
+        }
+
+        Integer value = random(MAX_VALUE);
+        if (fake.contains(value) != real.contains(value))
+            throw new RuntimeException("view contains(" + value + ") returned " + fake.contains(value));
+
+        boolean realThrew = false;
+        boolean fakeThrew = false;
+        try
+        {
+            real.add(value);
+        }
+        catch (IllegalArgumentException e)
+        {
+            realThrew = true;
+        }
+        try
+        {
+            fake.add(value);
+        }
+        catch (IllegalArgumentException e)
+        {
+            fakeThrew = true;
+        }
+        if (realThrew != fakeThrew)
+            throw new RuntimeException("view add(" + value + ") should " + (realThrew ? "" : "not ") + "throw");
+
+        Iterator<Integer> realIt = real.iterator();
+        Iterator<Integer> fakeIt = fake.iterator();
+        for (boolean remove = false; realIt.hasNext(); remove = !remove)
+        {
+            same("view iterator next()", realIt.next(), fakeIt.next());
+            if (remove && random(2) == 0)
+            {
+                realIt.remove();
+                fakeIt.remove();
+            }
+        }
+        if (fakeIt.hasNext())
+            throw new RuntimeException("view iterator returned too many elements");
+    }
+
+    /**
+     * Runs random puts, removes, navigation queries, and view operations on a MyTreeMap
+     * against a java.util.TreeMap.
+     */
+    private static void testMap()
+    {
+        TreeMap<Integer, Integer> real = new TreeMap<Integer, Integer>();
+        MyTreeMap<Integer, Integer> fake = new MyTreeMap<Integer, Integer>();
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Integer key = random(MAX_VALUE);
+            Integer value = random(MAX_VALUE);
+            int op = random(4);
+
+            if (op == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                real.put(key, value);
+                fake.put(key, value);
+            }
+            else if (op == 1)
+            {
+                debug("remove(" + key + ")");
+                real.remove(key);
+                fake.remove(key);
+            }
+            else if (op == 2)
+            {
+                debug("navigate(" + key + ")");
+                same("floorKey(" + key + ")", real.floorKey(key), fake.floorKey(key));
+                same("ceilingKey(" + key + ")", real.ceilingKey(key), fake.ceilingKey(key));
+                same("higherKey(" + key + ")", real.higherKey(key), fake.higherKey(key));
+                same("lowerKey(" + key + ")", real.lowerKey(key), fake.lowerKey(key));
+                if (!real.isEmpty())
+                {
+                    same("firstKey()", real.firstKey(), fake.firstKey());
+                    same("lastKey()", real.lastKey(), fake.lastKey());
+                }
+            }
+            else
+            {
+                int low = random(MAX_VALUE);
+                int high = low + random(MAX_VALUE / 3);
+                int kind = random(3);
+                debug("view " + kind + " [" + low + ", " + high + ")");
+
+                NavigableMap<Integer, Integer> realView;
+                MyTreeMap<Integer, Integer>.SubMap fakeView;
+                if (kind == 0)
+                {
+                    realView = real.subMap(low, true, high, false);
+                    fakeView = fake.subMap(low, high);
+                }
+                else if (kind == 1)
+                {
+                    realView = real.headMap(high, false);
+                    fakeView = fake.headMap(high);
+                }
+                else
+                {
+                    realView = real.tailMap(low, true);
+                    fakeView = fake.tailMap(low);
+                }
+
+                if (!toList(fakeView).equals(new ArrayList<Map.Entry<Integer, Integer>>(realView.entrySet())))
+                    throw new RuntimeException("view iterator returned " + toList(fakeView) + " and should return " +
+                        realView);
+                if (fakeView.size() != realView.size())
+                    throw new RuntimeException("view size() returned " + fakeView.size() + " and should return " +
+                        realView.size());
+                if (!realView.isEmpty())
+                {
+                    same("view firstKey()", realView.firstKey(), fakeView.firstKey());
+                    same("view lastKey()", realView.lastKey(), fakeView.lastKey());
+                }
+                same("view get(" + key + ")", realView.get(key), fakeView.get(key));
+                if (realView.containsKey(key) != fakeView.containsKey(key))
+                    throw new RuntimeException("view containsKey(" + key + ") returned the wrong value");
+
+                // remove the smallest entries of the view through its iterator
+                Iterator<Map.Entry<Integer, Integer>> realIt = realView.entrySet().iterator();
+                Iterator<Map.Entry<Integer, Integer>> fakeIt = fakeView.iterator();
+                for (int j = random(4); j > 0 && realIt.hasNext(); j--)
+                {
+                    same("view iterator next()", realIt.next(), fakeIt.next());
+                    realIt.remove();
+                    fakeIt.remove();
+                }
+            }
+
+            if (real.size() != fake.size())
+                throw new RuntimeException("size() returned " + fake.size() + " and should return " + real.size());
+            if (i % 100 == 0 && !toList(fake).equals(new ArrayList<Map.Entry<Integer, Integer>>(real.entrySet())))
+                throw new RuntimeException("iterator returned " + toList(fake) + " and should return " + real);
+        }
+    }
+
+    /**
+     * Runs many short range scans over a large MyTreeSet and MyTreeMap, which would take far too
+     * long if each scan walked the whole tree.
+     */
+    private static void testRangeScans()
+    {
+        MyTreeSet<Integer> set = new MyTreeSet<Integer>();
+        MyTreeMap<Integer, Integer> map = new MyTreeMap<Integer, Integer>();
+        for (int i = 0; i < LARGE_SIZE; i++)
+        {
+            set.add(i);
+            map.put(i, i);
+        }
+
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < NUM_SCANS; i++)
+        {
+            int low = random(LARGE_SIZE);
+            for (Integer value: set.subSet(low, low + 10))
+                sum += value;
+            for (Map.Entry<Integer, Integer> entry: map.subMap(low, low + 10))
+                sum -= entry.getValue();
+        }
+        long millis = (System.nanoTime() - start) / 1000000;
+        debug(NUM_SCANS + " range scans took " + millis + " ms");
+
+        if (sum != 0)
+            throw new RuntimeException("the set and map range scans returned different elements");
+        if (millis > 5000)
+            throw new RuntimeException(NUM_SCANS + " range scans took " + millis +
+                " ms, so they probably walk the whole tree");
+    }
+
+    /**
+     * Checks that two results are equal.
+     * @param operation the operation that produced the results
+     * @param real the expected result
+     * @param fake the actual result
+     */
+    private static void same(String operation, Object real, Object fake)
+    {
+        if (real == null ? fake != null : !real.equals(fake))
+            throw new RuntimeException(operation + " returned " + fake + " and should return " + real);
+    }
+
+    /**
+     * Collects the elements of an Iterable into a list.
+     * @param <T> the type of the elements
+     * @param iterable the Iterable to collect
+     * @return a list of the elements in iteration order
+     */
+    private static <T> List<T> toList(Iterable<T> iterable)
+    {
+        List<T> list = new ArrayList<T>();
+        for (T element: iterable)
+            list.add(element);
+        return list;
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
@@ -0,0 +1,139 @@
+import java.util.*;
+
+/**
+ * Tester for the order statistics of MyTreeSet: select, rank, and countInRange. Checks them
+ * against a java.util.TreeSet and a sorted list of its elements while adding and removing
+ * random elements, then counts the nodes they visit in a large set to check that they take
+ * O(log n) time.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class OrderStatisticTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int MAX_VALUE = 1000;
+    private static final int NUM_OPERATIONS = 50000;
+    private static final int LARGE_SIZE = 1000000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        TreeSet<Integer> real = new TreeSet<Integer>();
+        MyTreeSet<Integer> fake = new MyTreeSet<Integer>();
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Integer value = random(MAX_VALUE);
+            if (random(5) < 3)
+            {
+                debug("add(" + value + ")");
+                real.add(value);
+                fake.add(value);
+            }
+            else
+            {
+                debug("remove(" + value + ")");
+                real.remove(value);
+                fake.remove(value);
+            }
+
+            List<Integer> sorted = new ArrayList<Integer>(real);
+            if (!sorted.isEmpty())
+            {
+                int k = random(sorted.size());
+                if (!fake.select(k).equals(sorted.get(k)))
+                    throw new RuntimeException("select(" + k + ") returned " + fake.select(k) +
+                        " and should return " + sorted.get(k));
+            }
+
+            Integer x = random(MAX_VALUE + 2) - 1;
+            if (fake.rank(x) != real.headSet(x).size())
+                throw new RuntimeException("rank(" + x + ") returned " + fake.rank(x) + " and should return " +
+                    real.headSet(x).size());
+
+            int low = random(MAX_VALUE);
+            int high = random(MAX_VALUE);
+            int count = low > high ? 0 : real.subSet(low, true, high, true).size();
+            if (fake.countInRange(low, high) != count)
+                throw new RuntimeException("countInRange(" + low + ", " + high + ") returned " +
+                    fake.countInRange(low, high) + " and should return " + count);
+            if (low <= high &&
+                    fake.subSet(low, false, high, true).size() != real.subSet(low, false, high, true).size())
+                throw new RuntimeException("subSet(" + low + ", false, " + high + ", true).size() is wrong");
+        }
+
+        try
+        {
+            fake.select(fake.size());
+            throw new RuntimeException("select(size()) should throw IndexOutOfBoundsException");
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+            // expected
+        }
+        System.out.println("select, rank, and countInRange work!");
+
+        MyTreeSet<Integer> large = new MyTreeSet<Integer>();
+        for (int i = 0; i < LARGE_SIZE; i++)
+            large.add(i);
+
+        VisitCounter counter = new VisitCounter();
+        large.setObserver(counter);
+        int maxVisits = (int) (1.4405 * Math.log(LARGE_SIZE + 2) / Math.log(2));
+        for (int i = 0; i < 1000; i++)
+        {
+            int k = random(LARGE_SIZE);
+            counter.visits = 0;
+            if (large.select(k) != k || large.rank(k) != k ||
+                    large.countInRange(k, k + 9) != Math.min(10, LARGE_SIZE - k))
+                throw new RuntimeException("select, rank, or countInRange is wrong for " + k);
+
+            // select and rank make one descent each and countInRange makes two
+            if (counter.visits > 4 * maxVisits)
+                throw new RuntimeException("select, rank, and countInRange visited " + counter.visits +
+                    " nodes, but four descents visit at most " + 4 * maxVisits);
+        }
+        System.out.println("select, rank, and countInRange take O(log n) time!");
+    }
+
+    /**
+     * The VisitCounter class is a TreeObserver that counts the nodes visited.
+     */
+    private static class VisitCounter implements TreeObserver
+    {
+        private int visits;
+
+        /**
+         * Counts a visit.
+         * @param t the node visited
+         */
+        public void visit(TreeNode t)
+        {
+            visits++;
+        }
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
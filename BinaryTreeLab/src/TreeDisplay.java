@@ -22,7 +22,7 @@ import java.util.*;
  * @version 102613
  *
  */
-public class TreeDisplay extends JComponent
+public class TreeDisplay extends JComponent implements TreeObserver
 {
     //number of pixels between text and edge
     private static final int ARC_PAD = 2;
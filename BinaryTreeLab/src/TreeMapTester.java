@@ -9,6 +9,9 @@ public class TreeMapTester
 
     public static void main(String[] args)
     {
+        // MyTreeMap shouldn't open a window unless a display is attached
+        System.setProperty("java.awt.headless", "true");
+
         Map<Integer, Integer> real = new TreeMap<Integer, Integer>();
         MyTreeMap<Integer, Integer> fake = new MyTreeMap<Integer, Integer>();
 
@@ -61,7 +64,8 @@ public class TreeMapTester
             debug("remove(" + key + ")");
             Integer realVal = real.remove(key);
             Integer fakeVal = fake.remove(key);
-            if (!realVal.equals(fakeVal))
+            if ((realVal == null ^ fakeVal == null) ||
+                    (realVal != null && !realVal.equals(fakeVal)))
                 throw new RuntimeException("remove(" + key + ") returned " + fakeVal +
                         " and should return " + realVal);
 
@@ -0,0 +1,247 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tester for the single-descent updates of MyTreeMap: put, remove, computeIfAbsent, and merge.
+ * Checks them and get against java.util.TreeMap on random keys, counts the nodes each update
+ * visits to check that it makes only one root-to-leaf descent, and puts sorted keys to check
+ * that the tree stays balanced. Also checks that a mapping function that adds or removes keys
+ * makes computeIfAbsent and merge throw ConcurrentModificationException without corrupting the
+ * tree.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class TreeMapUpdateTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int MAX_VALUE = 500;
+    private static final int NUM_OPERATIONS = 200000;
+    private static final int SORTED_SIZE = 100000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        Map<Integer, Integer> real = new TreeMap<Integer, Integer>();
+        MyTreeMap<Integer, Integer> fake = new MyTreeMap<Integer, Integer>();
+        VisitCounter counter = new VisitCounter();
+        fake.setObserver(counter);
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Integer key = random(MAX_VALUE);
+            Integer value = random(MAX_VALUE);
+            int op = random(6);
+            Integer realVal;
+            Integer fakeVal;
+            counter.visits = 0;
+
+            if (op == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                realVal = real.put(key, value);
+                fakeVal = fake.put(key, value);
+            }
+            else if (op == 1)
+            {
+                debug("remove(" + key + ")");
+                realVal = real.remove(key);
+                fakeVal = fake.remove(key);
+            }
+            else if (op == 2)
+            {
+                // a mapping function that sometimes declines to add anything
+                debug("computeIfAbsent(" + key + ")");
+                realVal = real.computeIfAbsent(key, k -> k % 3 == 0 ? null : k * 2);
+                fakeVal = fake.computeIfAbsent(key, k -> k % 3 == 0 ? null : k * 2);
+            }
+            else if (op == 3)
+            {
+                // a remapping function that sometimes removes the key
+                debug("merge(" + key + ", " + value + ")");
+                realVal = real.merge(key, value, (a, b) -> (a + b) % 7 == 0 ? null : a + b);
+                fakeVal = fake.merge(key, value, (a, b) -> (a + b) % 7 == 0 ? null : a + b);
+            }
+            else if (op == 4)
+            {
+                debug("get(" + key + ")");
+                realVal = real.get(key);
+                fakeVal = fake.get(key);
+            }
+            else
+            {
+                debug("containsKey(" + key + ")");
+                realVal = real.containsKey(key) ? 1 : 0;
+                fakeVal = fake.containsKey(key) ? 1 : 0;
+            }
+
+            if ((realVal == null ^ fakeVal == null) || (realVal != null && !realVal.equals(fakeVal)))
+                throw new RuntimeException("operation " + op + " on key " + key + " returned " + fakeVal +
+                    " and should return " + realVal);
+            if (real.size() != fake.size())
+                throw new RuntimeException("size() returned " + fake.size() + " and should return " + real.size());
+
+            // one descent visits at most one node per level of an AVL tree
+            int maxVisits = maxHeight(Math.max(real.size(), fake.size()) + 1);
+            if (counter.visits > maxVisits)
+                throw new RuntimeException("operation " + op + " visited " + counter.visits +
+                    " nodes, but one descent visits at most " + maxVisits);
+        }
+
+        while (!real.isEmpty())
+        {
+            Integer key = real.keySet().iterator().next();
+            if (!real.remove(key).equals(fake.remove(key)))
+                throw new RuntimeException("remove(" + key + ") returned the wrong value");
+        }
+        if (fake.size() != 0)
+            throw new RuntimeException("size() returned " + fake.size() + " and should return 0");
+        System.out.println("put, remove, computeIfAbsent, and merge work in one descent!");
+
+        testReentrant();
+        System.out.println("Functions that add or remove keys throw ConcurrentModificationException!");
+
+        MyTreeMap<Integer, Integer> sorted = new MyTreeMap<Integer, Integer>();
+        for (int i = 0; i < SORTED_SIZE; i++)
+            sorted.put(i, i);
+        sorted.setObserver(counter);
+        counter.visits = 0;
+        if (sorted.get(SORTED_SIZE - 1) != SORTED_SIZE - 1)
+            throw new RuntimeException("get(" + (SORTED_SIZE - 1) + ") returned the wrong value");
+        if (counter.visits > maxHeight(SORTED_SIZE))
+            throw new RuntimeException("get visited " + counter.visits + " nodes after " + SORTED_SIZE +
+                " sorted puts, so the tree isn't balanced");
+        System.out.println("Sorted puts keep MyTreeMap balanced!");
+    }
+
+    /**
+     * Calls computeIfAbsent and merge with functions that put and remove other keys, checking
+     * that they throw ConcurrentModificationException and that the TreeMap still holds exactly
+     * the keys it should. Also checks that functions that only read the TreeMap work.
+     */
+    private static void testReentrant()
+    {
+        MyTreeMap<Integer, Integer> fake = new MyTreeMap<Integer, Integer>();
+        Map<Integer, Integer> real = new TreeMap<Integer, Integer>();
+        for (int i = 0; i < 150; i += 10)
+        {
+            fake.put(i, i);
+            real.put(i, i);
+        }
+
+        try
+        {
+            fake.computeIfAbsent(55, k ->
+            {
+                for (int i = 100; i < 120; i++)
+                    fake.put(i, i);
+                return k;
+            });
+            throw new RuntimeException("computeIfAbsent should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+        for (int i = 100; i < 120; i++)
+            real.put(i, i);
+        checkSame(real, fake);
+
+        try
+        {
+            fake.merge(50, 1, (a, b) ->
+            {
+                fake.remove(0);
+                fake.remove(140);
+                return a + b;
+            });
+            throw new RuntimeException("merge should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+        real.remove(0);
+        real.remove(140);
+        checkSame(real, fake);
+
+        // functions that only read the TreeMap are fine
+        fake.computeIfAbsent(55, k -> fake.get(50) + fake.size());
+        real.computeIfAbsent(55, k -> real.get(50) + real.size());
+        fake.merge(60, 1, (a, b) -> a + b + fake.get(55));
+        real.merge(60, 1, (a, b) -> a + b + real.get(55));
+        checkSame(real, fake);
+    }
+
+    /**
+     * Checks that a MyTreeMap's size, iteration, and get match a java.util.TreeMap.
+     * @param real the expected contents
+     * @param fake the MyTreeMap to check
+     */
+    private static void checkSame(Map<Integer, Integer> real, MyTreeMap<Integer, Integer> fake)
+    {
+        if (fake.size() != real.size())
+            throw new RuntimeException("size() returned " + fake.size() + " and should return " + real.size());
+
+        Iterator<Map.Entry<Integer, Integer>> it = fake.iterator();
+        for (Map.Entry<Integer, Integer> entry: real.entrySet())
+        {
+            if (!it.hasNext() || !it.next().equals(entry) || !entry.getValue().equals(fake.get(entry.getKey())))
+                throw new RuntimeException("MyTreeMap is missing or has the wrong value for " + entry);
+        }
+        if (it.hasNext())
+            throw new RuntimeException("iterator returned " + it.next() + ", which shouldn't be there");
+    }
+
+    /**
+     * Returns the greatest height an AVL tree with n nodes can have, about 1.44 log n.
+     * @param n the number of nodes
+     * @return the greatest possible height
+     */
+    private static int maxHeight(int n)
+    {
+        return (int) (1.4405 * Math.log(n + 2) / Math.log(2));
+    }
+
+    /**
+     * The VisitCounter class is a TreeObserver that counts the nodes visited.
+     */
+    private static class VisitCounter implements TreeObserver
+    {
+        private int visits;
+
+        /**
+         * Counts a visit.
+         * @param t the node visited
+         */
+        public void visit(TreeNode t)
+        {
+            visits++;
+        }
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
@@ -10,6 +10,8 @@ public class TreeNode
     private Object value;
     private TreeNode left;
     private TreeNode right;
+    private int height;
+    private int size;
 
     /**
      * Constructs a leaf node (null left and right) with a value.
@@ -31,6 +33,10 @@ public class TreeNode
         value = initValue;
         left = initLeft;
         right = initRight;
+        height = 1 + Math.max(initLeft == null ? 0 : initLeft.getHeight(),
+            initRight == null ? 0 : initRight.getHeight());
+        size = 1 + (initLeft == null ? 0 : initLeft.getSize()) +
+            (initRight == null ? 0 : initRight.getSize());
     }
 
     /**
@@ -60,6 +66,26 @@ public class TreeNode
         return right;
     }
 
+    /**
+     * Getter for the height, the number of nodes on the longest path from this node down to a
+     * leaf (1 for a leaf). Only kept up to date by AVLUtilities.
+     * @return height of the TreeNode
+     */
+    public int getHeight()
+    {
+        return height;
+    }
+
+    /**
+     * Getter for the size, the number of nodes in the subtree rooted at this node (1 for a
+     * leaf). Only kept up to date by AVLUtilities.
+     * @return size of the subtree rooted at the TreeNode
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
     /**
      * Setter for the value.
      * @param theNewValue new value for the node
@@ -86,4 +112,22 @@ public class TreeNode
     {
         right = theNewRight;
     }
+
+    /**
+     * Setter for the height.
+     * @param theNewHeight new value for the height
+     */
+    public void setHeight(int theNewHeight)
+    {
+        height = theNewHeight;
+    }
+
+    /**
+     * Setter for the size.
+     * @param theNewSize new value for the size
+     */
+    public void setSize(int theNewSize)
+    {
+        size = theNewSize;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+/**
+ * The TreeObserver interface is told about every node a tree operation visits. TreeDisplay is
+ * a TreeObserver that lights up each visited node; NONE ignores every visit, so trees that
+ * nobody is watching run at full speed without a window.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public interface TreeObserver
+{
+    /**
+     * A TreeObserver that does nothing when a node is visited.
+     */
+    TreeObserver NONE = new TreeObserver()
+    {
+        /**
+         * Ignores the visit.
+         * @param t the node visited
+         */
+        public void visit(TreeNode t)
+        {
+        }
+    };
+
+    /**
+     * Called when a tree operation visits a node.
+     * @param t the node visited
+     */
+    void visit(TreeNode t);
+}
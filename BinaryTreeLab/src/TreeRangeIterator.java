@@ -0,0 +1,97 @@
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The TreeRangeIterator class walks the nodes of a binary search tree in ascending order, from
+ * the first value in a range to the last. Instead of recursing like an inorder traversal, it
+ * keeps a stack of the nodes whose left subtrees it is still inside. It never enters a subtree
+ * that lies wholly outside the range, so visiting k nodes of a balanced tree with n nodes takes
+ * O(log n + k) time.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class TreeRangeIterator implements Iterator<TreeNode>
+{
+    private ArrayDeque<TreeNode> stack;
+    private Comparable high;
+    private boolean highInclusive;
+
+    /**
+     * Constructs a TreeRangeIterator over the values of a tree between low and high.
+     * @param root root of the binary search tree
+     * @param low the least value in the range (null for no lower bound)
+     * @param lowInclusive true if low itself is in the range
+     * @param high the greatest value in the range (null for no upper bound)
+     * @param highInclusive true if high itself is in the range
+     * @precondition root is a binary search tree in ascending order
+     */
+    public TreeRangeIterator(TreeNode root, Comparable low, boolean lowInclusive,
+                             Comparable high, boolean highInclusive)
+    {
+        stack = new ArrayDeque<TreeNode>();
+        this.high = high;
+        this.highInclusive = highInclusive;
+
+        // push the path to the first value in the range, skipping left subtrees below low
+        TreeNode t = root;
+        while (t != null)
+        {
+            if (low != null && isBelow(t.getValue(), low, lowInclusive))
+                t = t.getRight();
+            else
+            {
+                stack.push(t);
+                t = t.getLeft();
+            }
+        }
+    }
+
+    /**
+     * Determines if there is another node in the range.
+     * @return true if there is another node in the range; otherwise false
+     */
+    public boolean hasNext()
+    {
+        if (stack.isEmpty())
+            return false;
+
+        if (high == null)
+            return true;
+
+        int cmp = high.compareTo(stack.peek().getValue());
+        return cmp > 0 || (cmp == 0 && highInclusive);
+    }
+
+    /**
+     * Returns the next node in the range.
+     * @return the node with the next value in ascending order
+     * @throws NoSuchElementException if there are no more nodes in the range
+     */
+    public TreeNode next()
+    {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        TreeNode next = stack.pop();
+
+        // the values after next start with the leftmost of its right subtree
+        for (TreeNode t = next.getRight(); t != null; t = t.getLeft())
+            stack.push(t);
+
+        return next;
+    }
+
+    /**
+     * Determines if a value lies below a bound.
+     * @param value the value to check
+     * @param bound the bound
+     * @param inclusive true if a value equal to bound is not below it
+     * @return true if value is less than bound (or equal to it, if not inclusive)
+     */
+    private static boolean isBelow(Object value, Comparable bound, boolean inclusive)
+    {
+        int cmp = bound.compareTo(value);
+        return cmp > 0 || (cmp == 0 && !inclusive);
+    }
+}
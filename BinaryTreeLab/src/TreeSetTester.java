@@ -8,6 +8,9 @@ public class TreeSetTester
 
     public static void main(String[] args)
     {
+        // MyTreeSet shouldn't open a window unless a display is attached
+        System.setProperty("java.awt.headless", "true");
+
         Set<Integer> real = new TreeSet<Integer>();
         MyTreeSet<Integer> fake = new MyTreeSet<Integer>();
         while (real.size() < NUMBER_OF_ELEMENTS)
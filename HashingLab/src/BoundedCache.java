@@ -0,0 +1,773 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * The BoundedCache<K, V> class is a thread-safe cache that holds at most a fixed number of
+ * entries, evicting old ones according to a Policy, and can optionally expire entries a fixed
+ * time after they were written. It is meant for memoizing expensive computations.
+ *
+ * The entries are stored in a ConcurrentMyHashMap, so get never takes a lock. Instead of
+ * updating the eviction order itself, get drops the entry into a small ring buffer; the
+ * buffered reads are applied in a batch by whichever thread next holds the eviction lock.
+ * If the buffer fills up before it is drained, reads are simply dropped, which only makes the
+ * eviction order slightly less exact. Writes take the eviction lock, apply the buffered reads,
+ * and then evict, so every operation runs in O(1) time.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public class BoundedCache<K, V>
+{
+    /**
+     * The Policy enum lists the ways a BoundedCache can choose which entry to evict.
+     */
+    public enum Policy
+    {
+        /**
+         * Evicts the least recently used entry.
+         */
+        LRU,
+
+        /**
+         * Evicts the least frequently used entry (the least recently used one among ties).
+         */
+        LFU,
+
+        /**
+         * Keeps entries in LRU order, but only admits a new entry if its key has been
+         * used more often recently than the key it would evict.
+         */
+        TINY_LFU
+    }
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+
+    private final ConcurrentMyHashMap<K, Entry<K, V>> map;
+    private final int maximumSize;
+    private final Policy policy;
+    private final long expireNanos;
+    private final ReentrantLock evictionLock;
+
+    private final AtomicReferenceArray<Entry<K, V>> readBuffer;
+    private final AtomicLong readCount;
+    private volatile long drainedCount;
+
+    // eviction order, guarded by evictionLock
+    private final Entry<K, V> accessOrder;
+    private final Entry<K, V> writeOrder;
+    private FrequencyBucket<K, V> lowestBucket;
+    private final FrequencySketch sketch;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Constructs a BoundedCache whose entries never expire.
+     * @param maximumSize the largest number of entries to keep
+     * @param policy the eviction policy
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public BoundedCache(int maximumSize, Policy policy)
+    {
+        this(maximumSize, policy, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Constructs a BoundedCache whose entries expire a fixed time after they were written.
+     * @param maximumSize the largest number of entries to keep
+     * @param policy the eviction policy
+     * @param expireAfterWrite how long an entry lives after it is written, or 0 to never expire
+     * @param unit the unit of expireAfterWrite
+     * @throws IllegalArgumentException if maximumSize is not positive or expireAfterWrite is negative
+     */
+    public BoundedCache(int maximumSize, Policy policy, long expireAfterWrite, TimeUnit unit)
+    {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Illegal maximum size: " + maximumSize);
+        if (expireAfterWrite < 0)
+            throw new IllegalArgumentException("Illegal expiry time: " + expireAfterWrite);
+
+        map = new ConcurrentMyHashMap<K, Entry<K, V>>((int) Math.min(maximumSize * 4L / 3 + 1, 1 << 30));
+        this.maximumSize = maximumSize;
+        this.policy = policy;
+        expireNanos = unit.toNanos(expireAfterWrite);
+        evictionLock = new ReentrantLock();
+
+        readBuffer = new AtomicReferenceArray<Entry<K, V>>(READ_BUFFER_SIZE);
+        readCount = new AtomicLong();
+
+        accessOrder = new Entry<K, V>(null, null, 0);
+        accessOrder.prev = accessOrder;
+        accessOrder.next = accessOrder;
+        writeOrder = new Entry<K, V>(null, null, 0);
+        writeOrder.writePrev = writeOrder;
+        writeOrder.writeNext = writeOrder;
+        sketch = policy == Policy.TINY_LFU ? new FrequencySketch(maximumSize) : null;
+
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+    }
+
+    /**
+     * Returns the number of entries in the BoundedCache, which may include expired entries
+     * that have not been cleaned up yet.
+     * @return the number of entries
+     */
+    public int size()
+    {
+        return map.size();
+    }
+
+    /**
+     * Returns the value cached for key, counting a hit or a miss. Never takes a lock.
+     * @param key the key whose value is being requested
+     * @return the cached value if present and not expired; otherwise null
+     */
+    public V get(Object key)
+    {
+        Entry<K, V> entry = map.get(key);
+        if (entry == null || isExpired(entry, System.nanoTime()))
+        {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        recordRead(entry);
+        return entry.value;
+    }
+
+    /**
+     * Returns the value cached for key, computing and caching it if absent.
+     * The function runs without any lock held, so two threads that miss at the same time
+     * may both compute a value; the first one cached is returned to both.
+     * @param key the key whose value is being requested
+     * @param mappingFunction the function that computes a missing value
+     * @return the cached or computed value
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction)
+    {
+        V value = get(key);
+        if (value != null)
+            return value;
+
+        value = mappingFunction.apply(key);
+        if (value == null)
+            return null;
+
+        evictionLock.lock();
+        try
+        {
+            drainReads();
+            Entry<K, V> entry = map.get(key);
+            if (entry != null && !isExpired(entry, System.nanoTime()))
+            {
+                onAccess(entry);
+                return entry.value;
+            }
+
+            write(key, value);
+            return value;
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Caches a value for key, evicting an entry if the BoundedCache becomes too large.
+     * Under TINY_LFU, a new key may be refused instead if it is used less often than the
+     * entry it would evict.
+     * @param key the key to be inserted
+     * @param value the value to be inserted
+     * @return the value previously cached for key if present and not expired; otherwise null
+     * @throws NullPointerException if key or value is null
+     */
+    public V put(K key, V value)
+    {
+        if (key == null || value == null)
+            throw new NullPointerException();
+
+        evictionLock.lock();
+        try
+        {
+            drainReads();
+            return write(key, value);
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for key.
+     * @param key the key to be removed
+     * @return the value cached for key if present and not expired; otherwise null
+     */
+    public V remove(Object key)
+    {
+        evictionLock.lock();
+        try
+        {
+            drainReads();
+            Entry<K, V> entry = map.remove(key);
+            if (entry == null)
+                return null;
+
+            unlink(entry);
+            return isExpired(entry, System.nanoTime()) ? null : entry.value;
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry. The hit, miss and eviction counts are kept.
+     */
+    public void clear()
+    {
+        evictionLock.lock();
+        try
+        {
+            drainReads();
+            while (accessOrder.next != accessOrder)
+                unlink(accessOrder.next);
+            while (lowestBucket != null)
+                unlink(lowestBucket.head);
+            map.clear();
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Applies any buffered reads and removes every expired entry.
+     */
+    public void cleanUp()
+    {
+        evictionLock.lock();
+        try
+        {
+            drainReads();
+            expire(System.nanoTime());
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Getter for the number of lookups that found a value.
+     * @return the hit count
+     */
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Getter for the number of lookups that did not find a value.
+     * @return the miss count
+     */
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Getter for the number of entries evicted (or refused admission) to keep the
+     * BoundedCache within its maximum size. Expired and removed entries are not counted.
+     * @return the eviction count
+     */
+    public long getEvictionCount()
+    {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that found a value.
+     * @return hits divided by lookups, or 1 if there were no lookups
+     */
+    public double getHitRate()
+    {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 1 : (double) h / total;
+    }
+
+    /**
+     * Returns a String version of the counters of this BoundedCache.
+     * @return a String version of this BoundedCache
+     */
+    @Override
+    public String toString()
+    {
+        return policy + " size=" + size() + "/" + maximumSize + " hits=" + getHitCount()
+                + " misses=" + getMissCount() + " evictions=" + getEvictionCount()
+                + String.format(" hitRate=%.3f", getHitRate());
+    }
+
+    /**
+     * Helper function that determines if an entry has outlived the expiry time.
+     * @param entry the entry to check
+     * @param now the current System.nanoTime()
+     * @return true if the entry has expired; otherwise false
+     */
+    private boolean isExpired(Entry<K, V> entry, long now)
+    {
+        return expireNanos > 0 && now - entry.writeTime >= expireNanos;
+    }
+
+    /**
+     * Helper function that adds a read to the ring buffer, draining it if enough reads are
+     * waiting and no other thread holds the eviction lock.
+     * @param entry the entry that was read
+     */
+    private void recordRead(Entry<K, V> entry)
+    {
+        long count = readCount.getAndIncrement();
+        readBuffer.lazySet((int) count & READ_BUFFER_MASK, entry);
+
+        if (count - drainedCount >= DRAIN_THRESHOLD && evictionLock.tryLock())
+        {
+            try
+            {
+                drainReads();
+            }
+            finally
+            {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Helper function that applies every buffered read to the eviction order.
+     * Must be called with the eviction lock held.
+     */
+    private void drainReads()
+    {
+        long end = readCount.get();
+        long start = Math.max(drainedCount, end - READ_BUFFER_SIZE);
+
+        for (long i=start; i<end; i++)
+        {
+            Entry<K, V> entry = readBuffer.getAndSet((int) i & READ_BUFFER_MASK, null);
+            // the entry may have been removed since it was read
+            if (entry != null && entry.alive)
+                onAccess(entry);
+        }
+
+        drainedCount = end;
+    }
+
+    /**
+     * Helper function that inserts or overwrites an entry and then restores the size bound.
+     * Must be called with the eviction lock held.
+     * @param key the key to be inserted
+     * @param value the value to be inserted
+     * @return the previous unexpired value for key if present; otherwise null
+     */
+    private V write(K key, V value)
+    {
+        long now = System.nanoTime();
+        expire(now);
+
+        Entry<K, V> entry = map.get(key);
+        if (entry != null)
+        {
+            V old = entry.value;
+            entry.value = value;
+            entry.writeTime = now;
+            onAccess(entry);
+            moveToBack(entry);
+            return old;
+        }
+
+        entry = new Entry<K, V>(key, value, now);
+        map.put(key, entry);
+        link(entry);
+
+        if (map.size() > maximumSize)
+            evict(entry);
+
+        return null;
+    }
+
+    /**
+     * Helper function that removes one entry to bring the size back to maximumSize.
+     * Must be called with the eviction lock held.
+     * @param candidate the entry that was just inserted
+     */
+    private void evict(Entry<K, V> candidate)
+    {
+        Entry<K, V> victim;
+
+        if (policy == Policy.LFU)
+        {
+            victim = lowestBucket.head;
+            if (victim == candidate)
+                victim = victim.next != null ? victim.next : lowestBucket.next.head;
+        }
+        else
+        {
+            victim = accessOrder.next;
+            if (victim == candidate)
+                victim = victim.next;
+
+            // TinyLFU refuses to admit a key that is used less often than the one it would evict
+            if (policy == Policy.TINY_LFU && sketch.frequency(candidate.key) <= sketch.frequency(victim.key))
+                victim = candidate;
+        }
+
+        map.remove(victim.key);
+        unlink(victim);
+        evictions.increment();
+    }
+
+    /**
+     * Helper function that removes entries from the front of the write order while they are
+     * expired. Must be called with the eviction lock held.
+     * @param now the current System.nanoTime()
+     */
+    private void expire(long now)
+    {
+        while (writeOrder.writeNext != writeOrder && isExpired(writeOrder.writeNext, now))
+        {
+            Entry<K, V> entry = writeOrder.writeNext;
+            map.remove(entry.key);
+            unlink(entry);
+        }
+    }
+
+    /**
+     * Helper function that adds a new entry to the eviction order and the write order.
+     * Must be called with the eviction lock held.
+     * @param entry the entry to add
+     */
+    private void link(Entry<K, V> entry)
+    {
+        if (policy == Policy.LFU)
+        {
+            if (lowestBucket == null || lowestBucket.frequency != 1)
+            {
+                FrequencyBucket<K, V> bucket = new FrequencyBucket<K, V>(1);
+                bucket.next = lowestBucket;
+                if (lowestBucket != null)
+                    lowestBucket.prev = bucket;
+                lowestBucket = bucket;
+            }
+            lowestBucket.append(entry);
+        }
+        else
+        {
+            entry.prev = accessOrder.prev;
+            entry.next = accessOrder;
+            accessOrder.prev.next = entry;
+            accessOrder.prev = entry;
+        }
+
+        if (sketch != null)
+            sketch.increment(entry.key);
+
+        entry.writePrev = writeOrder.writePrev;
+        entry.writeNext = writeOrder;
+        writeOrder.writePrev.writeNext = entry;
+        writeOrder.writePrev = entry;
+    }
+
+    /**
+     * Helper function that removes an entry from the eviction order and the write order.
+     * Must be called with the eviction lock held.
+     * @param entry the entry to remove
+     */
+    private void unlink(Entry<K, V> entry)
+    {
+        entry.alive = false;
+
+        if (policy == Policy.LFU)
+        {
+            FrequencyBucket<K, V> bucket = entry.bucket;
+            bucket.remove(entry);
+            if (bucket.head == null)
+                removeBucket(bucket);
+        }
+        else
+        {
+            entry.prev.next = entry.next;
+            entry.next.prev = entry.prev;
+        }
+
+        entry.writePrev.writeNext = entry.writeNext;
+        entry.writeNext.writePrev = entry.writePrev;
+    }
+
+    /**
+     * Helper function that moves an entry to the back of the write order after it is
+     * overwritten. Must be called with the eviction lock held.
+     * @param entry the entry that was written
+     */
+    private void moveToBack(Entry<K, V> entry)
+    {
+        entry.writePrev.writeNext = entry.writeNext;
+        entry.writeNext.writePrev = entry.writePrev;
+
+        entry.writePrev = writeOrder.writePrev;
+        entry.writeNext = writeOrder;
+        writeOrder.writePrev.writeNext = entry;
+        writeOrder.writePrev = entry;
+    }
+
+    /**
+     * Helper function that records a use of an entry in the eviction order.
+     * For LRU and TinyLFU it moves to the back of the access order; for LFU it moves to the
+     * bucket for the next frequency. Must be called with the eviction lock held.
+     * @param entry the entry that was used
+     */
+    private void onAccess(Entry<K, V> entry)
+    {
+        if (policy == Policy.LFU)
+        {
+            FrequencyBucket<K, V> bucket = entry.bucket;
+            FrequencyBucket<K, V> next = bucket.next;
+            if (next == null || next.frequency != bucket.frequency + 1)
+            {
+                next = new FrequencyBucket<K, V>(bucket.frequency + 1);
+                next.prev = bucket;
+                next.next = bucket.next;
+                if (bucket.next != null)
+                    bucket.next.prev = next;
+                bucket.next = next;
+            }
+
+            bucket.remove(entry);
+            next.append(entry);
+            if (bucket.head == null)
+                removeBucket(bucket);
+            return;
+        }
+
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = accessOrder.prev;
+        entry.next = accessOrder;
+        accessOrder.prev.next = entry;
+        accessOrder.prev = entry;
+
+        if (sketch != null)
+            sketch.increment(entry.key);
+    }
+
+    /**
+     * Helper function that removes an empty FrequencyBucket from the list of buckets.
+     * @param bucket the bucket to remove
+     */
+    private void removeBucket(FrequencyBucket<K, V> bucket)
+    {
+        if (bucket.prev == null)
+            lowestBucket = bucket.next;
+        else
+            bucket.prev.next = bucket.next;
+        if (bucket.next != null)
+            bucket.next.prev = bucket.prev;
+    }
+
+    /**
+     * The Entry class holds a cached value along with its links in the eviction order
+     * and the write order. The links are only used while holding the eviction lock.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <K> the type of key
+     * @param <V> the type of value
+     */
+    private static final class Entry<K, V>
+    {
+        final K key;
+        volatile V value;
+        volatile long writeTime;
+        boolean alive;
+
+        Entry<K, V> prev;
+        Entry<K, V> next;
+        FrequencyBucket<K, V> bucket;
+        Entry<K, V> writePrev;
+        Entry<K, V> writeNext;
+
+        /**
+         * Constructs an Entry.
+         * @param key the key of the entry
+         * @param value the value of the entry
+         * @param writeTime the System.nanoTime() when the value was written
+         */
+        Entry(K key, V value, long writeTime)
+        {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+            alive = true;
+        }
+    }
+
+    /**
+     * The FrequencyBucket class holds every LFU entry that has been used a certain number of
+     * times, from least to most recently used. The buckets form a list sorted by frequency,
+     * so the entry to evict is always the head of the first bucket.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <K> the type of key
+     * @param <V> the type of value
+     */
+    private static final class FrequencyBucket<K, V>
+    {
+        final int frequency;
+        FrequencyBucket<K, V> prev;
+        FrequencyBucket<K, V> next;
+        Entry<K, V> head;
+        Entry<K, V> tail;
+
+        /**
+         * Constructs an empty FrequencyBucket.
+         * @param frequency the number of uses shared by its entries
+         */
+        FrequencyBucket(int frequency)
+        {
+            this.frequency = frequency;
+        }
+
+        /**
+         * Adds an entry as the most recently used one in this bucket.
+         * @param entry the entry to add
+         */
+        void append(Entry<K, V> entry)
+        {
+            entry.bucket = this;
+            entry.prev = tail;
+            entry.next = null;
+            if (tail == null)
+                head = entry;
+            else
+                tail.next = entry;
+            tail = entry;
+        }
+
+        /**
+         * Removes an entry from this bucket.
+         * @param entry the entry to remove
+         */
+        void remove(Entry<K, V> entry)
+        {
+            if (entry.prev == null)
+                head = entry.next;
+            else
+                entry.prev.next = entry.next;
+            if (entry.next == null)
+                tail = entry.prev;
+            else
+                entry.next.prev = entry.prev;
+        }
+    }
+
+    /**
+     * The FrequencySketch class is a count-min sketch that estimates how many times each key
+     * has been used recently, for TinyLFU admission. Each key increments one counter in each
+     * of four rows, and its estimate is the smallest of the four. Counters stop at 15, and
+     * every counter is halved after a number of increments proportional to the cache size so
+     * that old popularity fades away.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static final class FrequencySketch
+    {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97CB3127, 0xB3D2A6C5, 0xE39A8E15, 0x2BC1DEF7};
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        /**
+         * Constructs a FrequencySketch sized for a cache.
+         * @param maximumSize the maximum size of the cache
+         */
+        FrequencySketch(int maximumSize)
+        {
+            int width = 16;
+            while (width < maximumSize && width < (1 << 24))
+                width <<= 1;
+
+            counters = new byte[DEPTH][width];
+            mask = width - 1;
+            sampleSize = 10 * Math.max(maximumSize, 16);
+        }
+
+        /**
+         * Helper function that returns the counter index of a key in a row.
+         * @param hash the hashCode of the key
+         * @param row the row of counters
+         * @return the index of the key's counter in that row
+         */
+        private int index(int hash, int row)
+        {
+            int h = (hash + SEEDS[row]) * SEEDS[row];
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        /**
+         * Returns the estimated number of recent uses of a key.
+         * @param key the key to look up
+         * @return the smallest of the key's counters
+         */
+        int frequency(Object key)
+        {
+            int hash = key.hashCode();
+            int min = MAX_COUNT;
+            for (int row=0; row<DEPTH; row++)
+                min = Math.min(min, counters[row][index(hash, row)]);
+
+            return min;
+        }
+
+        /**
+         * Records a use of a key, halving every counter once enough uses have been recorded.
+         * @param key the key that was used
+         */
+        void increment(Object key)
+        {
+            int hash = key.hashCode();
+            for (int row=0; row<DEPTH; row++)
+            {
+                int i = index(hash, row);
+                if (counters[row][i] < MAX_COUNT)
+                    counters[row][i]++;
+            }
+
+            if (++additions >= sampleSize)
+            {
+                for (byte[] row: counters)
+                {
+                    for (int i=0; i<row.length; i++)
+                        row[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+    }
+}
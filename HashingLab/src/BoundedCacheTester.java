@@ -0,0 +1,342 @@
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tester for BoundedCache. Checks the LRU policy against an access-ordered LinkedHashMap,
+ * the LFU policy against a brute-force model, TinyLFU and expiry against their guarantees,
+ * and finally hammers a cache from several threads.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class BoundedCacheTester
+{
+    private static final boolean DEBUG = false;
+    private static final int MAXIMUM_SIZE = 50;
+    private static final int NUM_OPERATIONS = 200000;
+    private static final int NUM_THREADS = 8;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        testLRU();
+        System.out.println("LRU works!");
+        testLFU();
+        System.out.println("LFU works!");
+        testTinyLFU();
+        System.out.println("TinyLFU works!");
+        testExpiry();
+        System.out.println("Expiry works!");
+        testConcurrent();
+        System.out.println("BoundedCache works!");
+    }
+
+    /**
+     * Runs random operations on an LRU BoundedCache and an access-ordered LinkedHashMap
+     * that removes its eldest entry, and checks that they always agree.
+     */
+    private static void testLRU()
+    {
+        Map<Integer, Integer> real = new LinkedHashMap<Integer, Integer>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest)
+            {
+                return size() > MAXIMUM_SIZE;
+            }
+        };
+        BoundedCache<Integer, Integer> fake = new BoundedCache<Integer, Integer>(MAXIMUM_SIZE,
+                BoundedCache.Policy.LRU);
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Integer key = random(3 * MAXIMUM_SIZE);
+            Integer value = random(1000);
+
+            int type = random(4);
+            Integer realInt;
+            Integer fakeInt;
+            if (type == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                realInt = real.put(key, value);
+                fakeInt = fake.put(key, value);
+            }
+            else if (type == 1)
+            {
+                debug("remove(" + key + ")");
+                realInt = real.remove(key);
+                fakeInt = fake.remove(key);
+            }
+            else
+            {
+                debug("get(" + key + ")");
+                realInt = real.get(key);
+                fakeInt = fake.get(key);
+            }
+
+            if (!Objects.equals(fakeInt, realInt))
+                throw new RuntimeException("operation " + type + " on " + key + " returned " + fakeInt
+                        + " and should return " + realInt);
+            if (fake.size() != real.size())
+                throw new RuntimeException("size() returned " + fake.size() + " and should return "
+                        + real.size());
+        }
+
+        debug(fake.toString());
+    }
+
+    /**
+     * Runs random operations on an LFU BoundedCache and a model that stores each key's use
+     * count and the time of its last use, evicting the least used key (the one used longest
+     * ago among ties) by searching every key.
+     */
+    private static void testLFU()
+    {
+        Map<Integer, Integer> values = new HashMap<Integer, Integer>();
+        Map<Integer, Integer> uses = new HashMap<Integer, Integer>();
+        Map<Integer, Integer> lastUse = new HashMap<Integer, Integer>();
+        BoundedCache<Integer, Integer> fake = new BoundedCache<Integer, Integer>(MAXIMUM_SIZE,
+                BoundedCache.Policy.LFU);
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Integer key = random(3 * MAXIMUM_SIZE);
+            Integer value = random(1000);
+
+            int type = random(4);
+            Integer realInt = values.get(key);
+            Integer fakeInt;
+            if (type == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                fakeInt = fake.put(key, value);
+                values.put(key, value);
+                uses.put(key, realInt == null ? 1 : uses.get(key) + 1);
+                lastUse.put(key, i);
+
+                if (values.size() > MAXIMUM_SIZE)
+                {
+                    Integer victim = null;
+                    for (Integer k: values.keySet())
+                    {
+                        if (k.equals(key))
+                            continue;
+                        if (victim == null || uses.get(k) < uses.get(victim)
+                                || (uses.get(k).equals(uses.get(victim)) && lastUse.get(k) < lastUse.get(victim)))
+                            victim = k;
+                    }
+                    values.remove(victim);
+                }
+            }
+            else if (type == 1)
+            {
+                debug("remove(" + key + ")");
+                fakeInt = fake.remove(key);
+                values.remove(key);
+            }
+            else
+            {
+                debug("get(" + key + ")");
+                fakeInt = fake.get(key);
+                if (realInt != null)
+                {
+                    uses.put(key, uses.get(key) + 1);
+                    lastUse.put(key, i);
+                }
+            }
+
+            if (!Objects.equals(fakeInt, realInt))
+                throw new RuntimeException("operation " + type + " on " + key + " returned " + fakeInt
+                        + " and should return " + realInt);
+            if (fake.size() != values.size())
+                throw new RuntimeException("size() returned " + fake.size() + " and should return "
+                        + values.size());
+        }
+
+        debug(fake.toString());
+    }
+
+    /**
+     * Checks that a TinyLFU BoundedCache stays within its size and never returns a stale value,
+     * then compares its hit rate with LRU on a workload where a few keys are popular and the
+     * rest are scanned through once.
+     */
+    private static void testTinyLFU()
+    {
+        Map<Integer, Integer> latest = new HashMap<Integer, Integer>();
+        BoundedCache<Integer, Integer> fake = new BoundedCache<Integer, Integer>(MAXIMUM_SIZE,
+                BoundedCache.Policy.TINY_LFU);
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Integer key = random(3 * MAXIMUM_SIZE);
+            if (random(2) == 0)
+            {
+                Integer value = random(1000);
+                fake.put(key, value);
+                latest.put(key, value);
+            }
+            else
+            {
+                Integer value = fake.get(key);
+                if (value != null && !value.equals(latest.get(key)))
+                    throw new RuntimeException("get(" + key + ") returned " + value + " and the last value "
+                            + "put was " + latest.get(key));
+            }
+
+            if (fake.size() > MAXIMUM_SIZE)
+                throw new RuntimeException("size() returned " + fake.size() + " which is more than "
+                        + MAXIMUM_SIZE);
+        }
+
+        BoundedCache<Integer, Integer> lru = new BoundedCache<Integer, Integer>(MAXIMUM_SIZE,
+                BoundedCache.Policy.LRU);
+        BoundedCache<Integer, Integer> tiny = new BoundedCache<Integer, Integer>(MAXIMUM_SIZE,
+                BoundedCache.Policy.TINY_LFU);
+        int scan = 0;
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Integer key = random(2) == 0 ? random(MAXIMUM_SIZE / 2) : MAXIMUM_SIZE + scan++;
+            lru.computeIfAbsent(key, k -> k);
+            tiny.computeIfAbsent(key, k -> k);
+        }
+
+        System.out.println(lru);
+        System.out.println(tiny);
+        if (tiny.getHitRate() <= lru.getHitRate())
+            throw new RuntimeException("TinyLFU should keep the popular keys through a scan better than LRU");
+    }
+
+    /**
+     * Checks that entries disappear once they are older than the expiry time.
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    private static void testExpiry() throws InterruptedException
+    {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<Integer, Integer>(MAXIMUM_SIZE,
+                BoundedCache.Policy.LRU, 100, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < MAXIMUM_SIZE; i++)
+            cache.put(i, i);
+        if (cache.get(0) == null)
+            throw new RuntimeException("get(0) should find an entry that has not expired");
+
+        Thread.sleep(200);
+        if (cache.get(0) != null)
+            throw new RuntimeException("get(0) should not find an expired entry");
+
+        cache.cleanUp();
+        if (cache.size() != 0)
+            throw new RuntimeException("cleanUp() should remove every expired entry, but size() is "
+                    + cache.size());
+    }
+
+    /**
+     * Runs gets, puts and computeIfAbsent calls from several threads at once, then checks that
+     * the size bound held and every cached value is the one computed for its key.
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    private static void testConcurrent() throws InterruptedException
+    {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<Integer, Integer>(MAXIMUM_SIZE,
+                BoundedCache.Policy.LRU);
+
+        runThreads(new Runnable()
+        {
+            public void run()
+            {
+                for (int i = 0; i < NUM_OPERATIONS; i++)
+                {
+                    Integer key = random(4 * MAXIMUM_SIZE);
+                    Integer value;
+                    if (i % 3 == 0)
+                    {
+                        cache.put(key, 2 * key);
+                        value = 2 * key;
+                    }
+                    else
+                    {
+                        value = i % 3 == 1 ? cache.get(key) : cache.computeIfAbsent(key, k -> 2 * k);
+                    }
+
+                    if (value != null && value.intValue() != 2 * key)
+                        throw new RuntimeException("key " + key + " was cached with value " + value);
+                }
+            }
+        });
+
+        cache.cleanUp();
+        if (cache.size() > MAXIMUM_SIZE)
+            throw new RuntimeException("size() returned " + cache.size() + " which is more than "
+                    + MAXIMUM_SIZE);
+        System.out.println(cache);
+    }
+
+    /**
+     * Runs task on NUM_THREADS threads at once and rethrows the first failure.
+     * @param task the task for every thread to run
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    private static void runThreads(final Runnable task) throws InterruptedException
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread[] threads = new Thread[NUM_THREADS];
+
+        for (int i = 0; i < NUM_THREADS; i++)
+        {
+            threads[i] = new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                        task.run();
+                    }
+                    catch (Throwable t)
+                    {
+                        failure.compareAndSet(null, t);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        start.countDown();
+        for (Thread thread: threads)
+            thread.join();
+
+        if (failure.get() != null)
+            throw new RuntimeException("a worker thread failed", failure.get());
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
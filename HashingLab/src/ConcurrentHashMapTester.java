@@ -0,0 +1,277 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tester for ConcurrentMyHashMap. First runs the same random operations as HashMapTester
+ * on a single thread, then stresses the map from several threads at once and checks that
+ * no update was lost and that each atomic operation happened exactly once.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class ConcurrentHashMapTester
+{
+    private static final boolean DEBUG = false;
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_KEYS = 10000;
+    private static final int OPERATIONS_PER_THREAD = 200000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        testSingleThreaded();
+        System.out.println("ConcurrentMyHashMap works on one thread!");
+
+        testMerge();
+        testPutIfAbsent();
+        testComputeIfAbsent();
+        testReadersDuringWrites();
+        System.out.println("ConcurrentMyHashMap works on " + NUM_THREADS + " threads!");
+    }
+
+    /**
+     * Runs random operations against java.util.HashMap, as in HashMapTester.
+     */
+    private static void testSingleThreaded()
+    {
+        Map<Integer, Rectangle> real = new HashMap<Integer, Rectangle>();
+        Map<Integer, Rectangle> fake = new ConcurrentMyHashMap<Integer, Rectangle>();
+        for (int i = 0; i < 100000; i++)
+        {
+            debug("real:  " + real);
+            debug("fake:  " + fake);
+
+            Rectangle value = new Rectangle(random(4) + 1, random(3) + 1);
+            Integer key = random(100) + 1;
+
+            if (fake.containsValue(value) != real.containsValue(value))
+                throw new RuntimeException("containsValue(" + value + ") returned "
+                        + fake.containsValue(value) + " and should return " + real.containsValue(value));
+            if (fake.containsKey(key) != real.containsKey(key))
+                throw new RuntimeException("containsKey(" + key + ") returned "
+                        + fake.containsKey(key) + " and should return " + real.containsKey(key));
+
+            int type = random(3);
+            Rectangle realRect;
+            Rectangle fakeRect;
+            if (type == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                realRect = real.put(key, value);
+                fakeRect = fake.put(key, value);
+            }
+            else if (type == 1)
+            {
+                debug("remove(" + key + ")");
+                realRect = real.remove(key);
+                fakeRect = fake.remove(key);
+            }
+            else
+            {
+                debug("get(" + key + ")");
+                realRect = real.get(key);
+                fakeRect = fake.get(key);
+            }
+
+            if (fakeRect != realRect)
+                throw new RuntimeException("operation on " + key + " returned " + fakeRect
+                        + " and should return " + realRect);
+            if (fake.size() != real.size())
+                throw new RuntimeException("size() returned " + fake.size()
+                        + " and should return " + real.size());
+        }
+
+        if (!fake.equals(real) || !real.equals(fake))
+            throw new RuntimeException("equals() should return true");
+    }
+
+    /**
+     * Has every thread merge +1 into random keys, then checks that the counts add up.
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    private static void testMerge() throws InterruptedException
+    {
+        final ConcurrentMap<Integer, Integer> map = new ConcurrentMyHashMap<Integer, Integer>();
+
+        runThreads(new Runnable()
+        {
+            public void run()
+            {
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++)
+                    map.merge(random(NUM_KEYS), 1, Integer::sum);
+            }
+        });
+
+        long total = 0;
+        for (Integer count: map.values())
+            total += count;
+
+        if (total != (long) NUM_THREADS * OPERATIONS_PER_THREAD)
+            throw new RuntimeException("merge lost updates: total is " + total + " and should be "
+                    + (long) NUM_THREADS * OPERATIONS_PER_THREAD);
+    }
+
+    /**
+     * Has every thread race to putIfAbsent every key, then checks that each key was won once.
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    private static void testPutIfAbsent() throws InterruptedException
+    {
+        final ConcurrentMap<Integer, Thread> map = new ConcurrentMyHashMap<Integer, Thread>();
+        final AtomicInteger wins = new AtomicInteger();
+
+        runThreads(new Runnable()
+        {
+            public void run()
+            {
+                for (int i = 0; i < NUM_KEYS * 10; i++)
+                {
+                    if (map.putIfAbsent(i, Thread.currentThread()) == null)
+                        wins.incrementAndGet();
+                }
+            }
+        });
+
+        if (wins.get() != NUM_KEYS * 10 || map.size() != NUM_KEYS * 10)
+            throw new RuntimeException("putIfAbsent succeeded " + wins.get() + " times for "
+                    + map.size() + " keys and should succeed " + NUM_KEYS * 10 + " times");
+    }
+
+    /**
+     * Has every thread computeIfAbsent the same keys, then checks that each mapping
+     * function ran exactly once per key.
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    private static void testComputeIfAbsent() throws InterruptedException
+    {
+        final ConcurrentMap<Integer, Integer> map = new ConcurrentMyHashMap<Integer, Integer>();
+        final AtomicInteger calls = new AtomicInteger();
+
+        runThreads(new Runnable()
+        {
+            public void run()
+            {
+                for (int i = 0; i < NUM_KEYS; i++)
+                {
+                    int key = i;
+                    Integer value = map.computeIfAbsent(key, k -> {
+                        calls.incrementAndGet();
+                        return k * 2;
+                    });
+                    if (value != key * 2)
+                        throw new RuntimeException("computeIfAbsent(" + key + ") returned " + value);
+                }
+            }
+        });
+
+        if (calls.get() != NUM_KEYS)
+            throw new RuntimeException("mapping function ran " + calls.get()
+                    + " times and should run " + NUM_KEYS + " times");
+    }
+
+    /**
+     * Has half the threads put and remove keys while the other half read them, checking that
+     * a reader only ever sees null or the one value that is ever mapped to each key.
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    private static void testReadersDuringWrites() throws InterruptedException
+    {
+        final ConcurrentMap<Integer, Integer> map = new ConcurrentMyHashMap<Integer, Integer>();
+        final AtomicInteger next = new AtomicInteger();
+
+        runThreads(new Runnable()
+        {
+            public void run()
+            {
+                boolean writer = next.getAndIncrement() % 2 == 0;
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++)
+                {
+                    int key = random(NUM_KEYS * 4);
+                    if (writer && random(2) == 0)
+                    {
+                        map.put(key, -key);
+                    }
+                    else if (writer)
+                    {
+                        map.remove(key);
+                    }
+                    else
+                    {
+                        Integer value = map.get(key);
+                        if (value != null && value != -key)
+                            throw new RuntimeException("get(" + key + ") returned " + value);
+                    }
+                }
+            }
+        });
+
+        int count = 0;
+        for (Map.Entry<Integer, Integer> entry: map.entrySet())
+        {
+            if (entry.getValue() != -entry.getKey())
+                throw new RuntimeException("found entry " + entry);
+            count++;
+        }
+
+        if (count != map.size())
+            throw new RuntimeException("iterated over " + count + " entries and size() returned "
+                    + map.size());
+    }
+
+    /**
+     * Runs task on NUM_THREADS threads at once and rethrows the first failure.
+     * @param task the task for every thread to run
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    private static void runThreads(final Runnable task) throws InterruptedException
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread[] threads = new Thread[NUM_THREADS];
+
+        for (int i = 0; i < NUM_THREADS; i++)
+        {
+            threads[i] = new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                        task.run();
+                    }
+                    catch (Throwable t)
+                    {
+                        failure.compareAndSet(null, t);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        start.countDown();
+        for (Thread thread: threads)
+            thread.join();
+
+        if (failure.get() != null)
+            throw new RuntimeException("a worker thread failed", failure.get());
+    }
+
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
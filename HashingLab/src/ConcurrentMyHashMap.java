@@ -0,0 +1,1060 @@
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The ConcurrentMyHashMap<K, V> class is a thread-safe version of MyHashMap.
+ * Writers lock only the stripe that owns the key's bucket, so writers to different stripes
+ * never wait for each other, and get never locks at all: it reads the volatile bucket array
+ * and walks a chain whose links are only ever changed with volatile writes.
+ * Resizing locks every stripe and copies the entries into a new bucket array, leaving the
+ * old array untouched for any readers that are still walking it.
+ * Like ConcurrentHashMap, null keys and null values are not allowed.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public class ConcurrentMyHashMap<K, V> implements ConcurrentMap<K, V>
+{
+    private static final int NUM_STRIPES = 16;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private volatile AtomicReferenceArray<Node<K, V>> buckets;
+    private volatile int threshold;
+    private final ReentrantLock[] locks;
+    private final LongAdder size;
+
+    /**
+     * Constructs a ConcurrentMyHashMap with the default capacity (16).
+     */
+    public ConcurrentMyHashMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a ConcurrentMyHashMap with the given initial capacity.
+     * @param initialCapacity the initial number of buckets, rounded up to a power of two
+     *                        (and to at least the number of lock stripes)
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ConcurrentMyHashMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("initial capacity is negative: " + initialCapacity);
+
+        // at least NUM_STRIPES buckets, so that every bucket is guarded by exactly one stripe
+        int capacity = NUM_STRIPES;
+        while (capacity < initialCapacity && capacity < MAXIMUM_CAPACITY)
+            capacity <<= 1;
+
+        locks = new ReentrantLock[NUM_STRIPES];
+        for (int i=0; i<NUM_STRIPES; i++)
+            locks[i] = new ReentrantLock();
+
+        size = new LongAdder();
+        threshold = (int) (capacity * LOAD_FACTOR);
+        buckets = new AtomicReferenceArray<Node<K, V>>(capacity);
+    }
+
+    /**
+     * Helper function that computes the hash of a key, folding the high bits into the low bits.
+     * @param key the key to hash
+     * @return the spread hash of key
+     * @throws NullPointerException if key is null
+     */
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Helper function that returns the lock guarding every bucket the given hash can map to.
+     * @param hash the hash of a key
+     * @return the stripe lock for hash
+     */
+    private ReentrantLock lockFor(int hash)
+    {
+        return locks[hash & (NUM_STRIPES - 1)];
+    }
+
+    /**
+     * Helper function that finds the Node with the given key in a chain.
+     * @param node the first Node of the chain
+     * @param hash the hash of key
+     * @param key the key to search for
+     * @return the Node containing key if present; otherwise null
+     */
+    private static <K, V> Node<K, V> find(Node<K, V> node, int hash, Object key)
+    {
+        while (node != null)
+        {
+            if (node.hash == hash && (node.key == key || key.equals(node.key)))
+                return node;
+
+            node = node.next;
+        }
+
+        return null;
+    }
+
+    /**
+     * Helper function that unlinks a Node from its bucket. The caller must hold the stripe lock.
+     * The removed Node keeps its next link, so readers standing on it can still finish the chain.
+     * @param tab the current bucket array
+     * @param index the index of the bucket
+     * @param target the Node to unlink
+     */
+    private void unlink(AtomicReferenceArray<Node<K, V>> tab, int index, Node<K, V> target)
+    {
+        Node<K, V> node = tab.get(index);
+
+        if (node == target)
+        {
+            tab.set(index, target.next);
+        }
+        else
+        {
+            while (node.next != target)
+                node = node.next;
+
+            node.next = target.next;
+        }
+
+        size.decrement();
+    }
+
+    /**
+     * Helper function that links a new Node at the front of its bucket. The caller must hold
+     * the stripe lock, and must call resizeIfNeeded() after releasing it.
+     * @param tab the current bucket array
+     * @param index the index of the bucket
+     * @param hash the hash of key
+     * @param key the key to insert
+     * @param value the value to insert
+     */
+    private void link(AtomicReferenceArray<Node<K, V>> tab, int index, int hash, K key, V value)
+    {
+        tab.set(index, new Node<K, V>(hash, key, value, tab.get(index)));
+        size.increment();
+    }
+
+    /**
+     * Doubles the number of buckets if the size has passed the threshold.
+     * Must not be called while holding a stripe lock.
+     */
+    private void resizeIfNeeded()
+    {
+        if (size.sum() <= threshold)
+            return;
+
+        AtomicReferenceArray<Node<K, V>> old = buckets;
+
+        for (ReentrantLock lock: locks)
+            lock.lock();
+
+        try
+        {
+            // another thread may have resized while we were waiting for the locks
+            if (old != buckets || size.sum() <= threshold)
+                return;
+
+            int oldCapacity = old.length();
+            if (oldCapacity >= MAXIMUM_CAPACITY)
+            {
+                threshold = Integer.MAX_VALUE;
+                return;
+            }
+
+            int newCapacity = oldCapacity << 1;
+            AtomicReferenceArray<Node<K, V>> table = new AtomicReferenceArray<Node<K, V>>(newCapacity);
+
+            // copy rather than relink, so readers of the old array still see intact chains
+            for (int i=0; i<oldCapacity; i++)
+            {
+                for (Node<K, V> node = old.get(i); node != null; node = node.next)
+                {
+                    int index = node.hash & (newCapacity - 1);
+                    table.set(index, new Node<K, V>(node.hash, node.key, node.value, table.get(index)));
+                }
+            }
+
+            threshold = (int) (newCapacity * LOAD_FACTOR);
+            buckets = table;
+        }
+        finally
+        {
+            for (int i=locks.length-1; i>=0; i--)
+                locks[i].unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in the ConcurrentMyHashMap. The result is only a
+     * snapshot if other threads are modifying the map at the same time.
+     * @return the size of the ConcurrentMyHashMap
+     */
+    @Override
+    public int size()
+    {
+        long n = size.sum();
+        return n < 0 ? 0 : (n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n);
+    }
+
+    /**
+     * Determines if the ConcurrentMyHashMap is empty.
+     * @return true if the size is 0; otherwise false
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size.sum() <= 0;
+    }
+
+    /**
+     * Determines if the given key is present. Never locks.
+     * @param key the key to search for
+     * @return true if key is present; otherwise false
+     * @throws NullPointerException if key is null
+     */
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    /**
+     * Determines if the given value is mapped to any key. Runs in O(N) time and never locks.
+     * @param value the value to search for
+     * @return true if value is present; otherwise false
+     * @throws NullPointerException if value is null
+     */
+    @Override
+    public boolean containsValue(Object value)
+    {
+        if (value == null)
+            throw new NullPointerException();
+
+        AtomicReferenceArray<Node<K, V>> tab = buckets;
+        for (int i=0; i<tab.length(); i++)
+        {
+            for (Node<K, V> node = tab.get(i); node != null; node = node.next)
+            {
+                V v = node.value;
+                if (v == value || value.equals(v))
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the value that is mapped to the key. Never locks.
+     * @param key the key whose value is being requested
+     * @return the value mapped to key if present; otherwise null
+     * @throws NullPointerException if key is null
+     */
+    @Override
+    public V get(Object key)
+    {
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = buckets;
+        Node<K, V> node = find(tab.get(hash & (tab.length() - 1)), hash, key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Maps key to value, replacing any existing value.
+     * @param key the key to be inserted
+     * @param value the value to be inserted
+     * @return the value originally mapped to key if present; otherwise null
+     * @throws NullPointerException if key or value is null
+     */
+    @Override
+    public V put(K key, V value)
+    {
+        return putVal(key, value, false);
+    }
+
+    /**
+     * Maps key to value only if key is not already present, as one atomic step.
+     * @param key the key to be inserted
+     * @param value the value to be inserted
+     * @return the value already mapped to key if present; otherwise null
+     * @throws NullPointerException if key or value is null
+     */
+    @Override
+    public V putIfAbsent(K key, V value)
+    {
+        return putVal(key, value, true);
+    }
+
+    /**
+     * Helper function for put and putIfAbsent.
+     * @param key the key to be inserted
+     * @param value the value to be inserted
+     * @param onlyIfAbsent true if an existing value should be kept
+     * @return the value originally mapped to key if present; otherwise null
+     */
+    private V putVal(K key, V value, boolean onlyIfAbsent)
+    {
+        if (value == null)
+            throw new NullPointerException();
+
+        int hash = hash(key);
+        ReentrantLock lock = lockFor(hash);
+        V old = null;
+
+        lock.lock();
+        try
+        {
+            AtomicReferenceArray<Node<K, V>> tab = buckets;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> node = find(tab.get(index), hash, key);
+
+            if (node != null)
+            {
+                old = node.value;
+                if (!onlyIfAbsent)
+                    node.value = value;
+            }
+            else
+            {
+                link(tab, index, hash, key, value);
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        if (old == null)
+            resizeIfNeeded();
+
+        return old;
+    }
+
+    /**
+     * Removes the entry with the given key.
+     * @param key the key to be removed
+     * @return the value mapped to key if present; otherwise null
+     * @throws NullPointerException if key is null
+     */
+    @Override
+    public V remove(Object key)
+    {
+        return replaceNode(key, null, null);
+    }
+
+    /**
+     * Removes the entry with the given key only if it is currently mapped to value.
+     * @param key the key to be removed
+     * @param value the value expected to be mapped to key
+     * @return true if the entry was removed; otherwise false
+     * @throws NullPointerException if key is null
+     */
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        return value != null && replaceNode(key, null, value) != null;
+    }
+
+    /**
+     * Replaces the value for key only if key is currently present.
+     * @param key the key whose value is being replaced
+     * @param value the new value
+     * @return the previous value mapped to key if present; otherwise null
+     * @throws NullPointerException if key or value is null
+     */
+    @Override
+    public V replace(K key, V value)
+    {
+        if (value == null)
+            throw new NullPointerException();
+
+        return replaceNode(key, value, null);
+    }
+
+    /**
+     * Replaces the value for key only if it is currently mapped to oldValue.
+     * @param key the key whose value is being replaced
+     * @param oldValue the value expected to be mapped to key
+     * @param newValue the new value
+     * @return true if the value was replaced; otherwise false
+     * @throws NullPointerException if any argument is null
+     */
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        if (oldValue == null || newValue == null)
+            throw new NullPointerException();
+
+        return replaceNode(key, newValue, oldValue) != null;
+    }
+
+    /**
+     * Helper function for remove and replace. Replaces the value of key with value
+     * (or removes the entry if value is null), as long as the current value equals expect
+     * (or expect is null).
+     * @param key the key to be updated
+     * @param value the new value, or null to remove
+     * @param expect the value that must be present, or null to accept any value
+     * @return the previous value if the entry was updated; otherwise null
+     */
+    private V replaceNode(Object key, V value, Object expect)
+    {
+        int hash = hash(key);
+        ReentrantLock lock = lockFor(hash);
+
+        lock.lock();
+        try
+        {
+            AtomicReferenceArray<Node<K, V>> tab = buckets;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> node = find(tab.get(index), hash, key);
+
+            if (node == null)
+                return null;
+
+            V old = node.value;
+            if (expect != null && expect != old && !expect.equals(old))
+                return null;
+
+            if (value == null)
+                unlink(tab, index, node);
+            else
+                node.value = value;
+
+            return old;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * If key is not present, computes its value with mappingFunction and inserts it, as one
+     * atomic step. The function is called at most once and must not update this map.
+     * @param key the key whose value is being requested
+     * @param mappingFunction the function that computes a value for an absent key
+     * @return the current (existing or computed) value, or null if the computed value is null
+     * @throws NullPointerException if key or mappingFunction is null
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction)
+    {
+        if (mappingFunction == null)
+            throw new NullPointerException();
+
+        V existing = get(key);
+        if (existing != null)
+            return existing;
+
+        int hash = hash(key);
+        ReentrantLock lock = lockFor(hash);
+        V value;
+
+        lock.lock();
+        try
+        {
+            AtomicReferenceArray<Node<K, V>> tab = buckets;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> node = find(tab.get(index), hash, key);
+
+            if (node != null)
+                return node.value;
+
+            value = mappingFunction.apply(key);
+            if (value == null)
+                return null;
+
+            link(tab, index, hash, key, value);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        resizeIfNeeded();
+        return value;
+    }
+
+    /**
+     * If key is present, computes a new value from its current value, as one atomic step.
+     * A null result removes the entry. The function must not update this map.
+     * @param key the key whose value is being updated
+     * @param remappingFunction the function that computes the new value
+     * @return the new value, or null if there is none
+     * @throws NullPointerException if key or remappingFunction is null
+     */
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+    {
+        if (remappingFunction == null)
+            throw new NullPointerException();
+
+        int hash = hash(key);
+        ReentrantLock lock = lockFor(hash);
+
+        lock.lock();
+        try
+        {
+            AtomicReferenceArray<Node<K, V>> tab = buckets;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> node = find(tab.get(index), hash, key);
+
+            if (node == null)
+                return null;
+
+            V value = remappingFunction.apply(key, node.value);
+            if (value == null)
+                unlink(tab, index, node);
+            else
+                node.value = value;
+
+            return value;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Computes a new value for key from its current value (null if absent), as one atomic
+     * step. A null result removes the entry. The function must not update this map.
+     * @param key the key whose value is being computed
+     * @param remappingFunction the function that computes the new value
+     * @return the new value, or null if there is none
+     * @throws NullPointerException if key or remappingFunction is null
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+    {
+        if (remappingFunction == null)
+            throw new NullPointerException();
+
+        int hash = hash(key);
+        ReentrantLock lock = lockFor(hash);
+        V value;
+        boolean inserted = false;
+
+        lock.lock();
+        try
+        {
+            AtomicReferenceArray<Node<K, V>> tab = buckets;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> node = find(tab.get(index), hash, key);
+
+            value = remappingFunction.apply(key, node == null ? null : node.value);
+
+            if (node != null)
+            {
+                if (value == null)
+                    unlink(tab, index, node);
+                else
+                    node.value = value;
+            }
+            else if (value != null)
+            {
+                link(tab, index, hash, key, value);
+                inserted = true;
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        if (inserted)
+            resizeIfNeeded();
+
+        return value;
+    }
+
+    /**
+     * Inserts value if key is absent; otherwise combines the current value with value using
+     * remappingFunction, as one atomic step. A null result removes the entry.
+     * The function must not update this map.
+     * @param key the key whose value is being merged
+     * @param value the value to insert or combine
+     * @param remappingFunction the function that combines the current value with value
+     * @return the new value, or null if there is none
+     * @throws NullPointerException if any argument is null
+     */
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction)
+    {
+        if (value == null || remappingFunction == null)
+            throw new NullPointerException();
+
+        int hash = hash(key);
+        ReentrantLock lock = lockFor(hash);
+        V result;
+
+        lock.lock();
+        try
+        {
+            AtomicReferenceArray<Node<K, V>> tab = buckets;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> node = find(tab.get(index), hash, key);
+
+            if (node != null)
+            {
+                result = remappingFunction.apply(node.value, value);
+                if (result == null)
+                    unlink(tab, index, node);
+                else
+                    node.value = result;
+
+                return result;
+            }
+
+            link(tab, index, hash, key, value);
+            result = value;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        resizeIfNeeded();
+        return result;
+    }
+
+    /**
+     * Inserts all entries from the given map into this ConcurrentMyHashMap.
+     * @param m the map to be copied over
+     */
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m)
+    {
+        for (Map.Entry<? extends K, ? extends V> entry: m.entrySet())
+            put(entry.getKey(), entry.getValue());
+    }
+
+    /**
+     * Removes every entry. Each bucket is cleared under its own stripe lock, so entries
+     * added concurrently may survive.
+     */
+    @Override
+    public void clear()
+    {
+        AtomicReferenceArray<Node<K, V>> tab = buckets;
+
+        for (int i=0; i<tab.length(); i++)
+        {
+            if (tab.get(i) == null)
+                continue;
+
+            ReentrantLock lock = locks[i & (NUM_STRIPES - 1)];
+            lock.lock();
+            try
+            {
+                AtomicReferenceArray<Node<K, V>> current = buckets;
+                if (current != tab)
+                {
+                    // a resize happened; start again on the new bucket array
+                    tab = current;
+                    i = -1;
+                    continue;
+                }
+
+                for (Node<K, V> node = tab.get(i); node != null; node = node.next)
+                    size.decrement();
+
+                tab.set(i, null);
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns a Set view of the keys. Its iterator is weakly consistent: it never throws
+     * ConcurrentModificationException and may or may not reflect concurrent updates.
+     * @return a Set view of the keys
+     */
+    @Override
+    public Set<K> keySet()
+    {
+        return new AbstractSet<K>()
+        {
+            public Iterator<K> iterator()
+            {
+                return new KeyIterator();
+            }
+
+            public int size()
+            {
+                return ConcurrentMyHashMap.this.size();
+            }
+
+            public boolean contains(Object o)
+            {
+                return containsKey(o);
+            }
+
+            public boolean remove(Object o)
+            {
+                return ConcurrentMyHashMap.this.remove(o) != null;
+            }
+        };
+    }
+
+    /**
+     * Returns a Collection view of the values, with a weakly consistent iterator.
+     * @return a Collection view of the values
+     */
+    @Override
+    public Collection<V> values()
+    {
+        return new AbstractCollection<V>()
+        {
+            public Iterator<V> iterator()
+            {
+                return new ValueIterator();
+            }
+
+            public int size()
+            {
+                return ConcurrentMyHashMap.this.size();
+            }
+
+            public boolean contains(Object o)
+            {
+                return containsValue(o);
+            }
+        };
+    }
+
+    /**
+     * Returns a Set view of the entries, with a weakly consistent iterator. Calling
+     * setValue on an entry writes through to this map.
+     * @return a Set view of the entries
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        return new AbstractSet<Map.Entry<K, V>>()
+        {
+            public Iterator<Map.Entry<K, V>> iterator()
+            {
+                return new EntryIterator();
+            }
+
+            public int size()
+            {
+                return ConcurrentMyHashMap.this.size();
+            }
+
+            public boolean contains(Object o)
+            {
+                if (!(o instanceof Map.Entry))
+                    return false;
+
+                Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                Object v = e.getKey() == null ? null : get(e.getKey());
+                return v != null && v.equals(e.getValue());
+            }
+
+            public boolean remove(Object o)
+            {
+                if (!(o instanceof Map.Entry))
+                    return false;
+
+                Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                return e.getKey() != null && ConcurrentMyHashMap.this.remove(e.getKey(), e.getValue());
+            }
+        };
+    }
+
+    /**
+     * Determines if o is a Map with the same entries as this map.
+     * @param o the Object to compare with
+     * @return true if o is an equal Map; otherwise false
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        if (o == this)
+            return true;
+        if (!(o instanceof Map))
+            return false;
+
+        Map<?, ?> m = (Map<?, ?>) o;
+        if (m.size() != size())
+            return false;
+
+        for (Map.Entry<K, V> entry: entrySet())
+        {
+            if (!entry.getValue().equals(m.get(entry.getKey())))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this map: the sum of the hash codes of its entries.
+     * @return a hash code for this map
+     */
+    @Override
+    public int hashCode()
+    {
+        int h = 0;
+        for (Map.Entry<K, V> entry: entrySet())
+            h += entry.hashCode();
+
+        return h;
+    }
+
+    /**
+     * Returns a String version of the ConcurrentMyHashMap.
+     * @return a String version of the ConcurrentMyHashMap
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("{");
+
+        for (Map.Entry<K, V> entry: entrySet())
+        {
+            if (s.length() > 1)
+                s.append(", ");
+            s.append(entry);
+        }
+
+        return s.append('}').toString();
+    }
+
+    /**
+     * The Node class is an entry of a ConcurrentMyHashMap. The value and the link to the next
+     * Node are volatile so that lock-free readers always see fully written Nodes.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <K> the type of key to hold
+     * @param <V> the type of value to hold
+     */
+    private static final class Node<K, V>
+    {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        /**
+         * Constructs a Node by initializing the hash, key, value, and next Node.
+         * @param hash the hash of key
+         * @param key the key for the entry
+         * @param value the initial value for the entry
+         * @param next the next Node in the same bucket
+         */
+        Node(int hash, K key, V value, Node<K, V> next)
+        {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * The WriteThroughEntry class is a MapEntry handed out by the entrySet iterator.
+     * Calling setValue also updates the ConcurrentMyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class WriteThroughEntry extends MapEntry<K, V>
+    {
+        /**
+         * Constructs a WriteThroughEntry with a key and its value at the time it was read.
+         * @param key the key for the entry
+         * @param value the value for the entry
+         */
+        WriteThroughEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        /**
+         * Sets the value of this entry and maps the key to it in the ConcurrentMyHashMap.
+         * @param val the new value
+         * @return the previous value of this entry
+         * @throws NullPointerException if val is null
+         */
+        @Override
+        public V setValue(V val)
+        {
+            if (val == null)
+                throw new NullPointerException();
+
+            V past = super.setValue(val);
+            put(getKey(), val);
+            return past;
+        }
+
+        /**
+         * Determines if o is a Map.Entry with an equal key and value.
+         * @param o the Object to check if this is equal to
+         * @return true if o is equal to this entry; otherwise false
+         */
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Map.Entry))
+                return false;
+
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return getKey().equals(other.getKey()) && getValue().equals(other.getValue());
+        }
+
+        /**
+         * Returns a hash code for this entry, as specified by Map.Entry.
+         * @return the hash code of the key XOR the hash code of the value
+         */
+        @Override
+        public int hashCode()
+        {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+    }
+
+    /**
+     * The BaseIterator class walks a snapshot of the bucket array. It never locks and never
+     * throws ConcurrentModificationException.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private abstract class BaseIterator
+    {
+        private final AtomicReferenceArray<Node<K, V>> tab;
+        private int bucketIndex;
+        private Node<K, V> nextNode;
+        private Node<K, V> lastReturned;
+
+        /**
+         * Constructs a BaseIterator positioned at the first entry.
+         */
+        BaseIterator()
+        {
+            tab = buckets;
+            bucketIndex = 0;
+            advance();
+        }
+
+        /**
+         * Moves nextNode to the following entry, going to later buckets as needed.
+         */
+        private void advance()
+        {
+            Node<K, V> node = nextNode == null ? null : nextNode.next;
+
+            while (node == null && bucketIndex < tab.length())
+                node = tab.get(bucketIndex++);
+
+            nextNode = node;
+        }
+
+        /**
+         * Determines if the iteration has more elements.
+         * @return true if the iteration has more elements; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nextNode != null;
+        }
+
+        /**
+         * Returns the next Node and moves forward.
+         * @return the next Node
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        Node<K, V> nextNode()
+        {
+            if (nextNode == null)
+                throw new NoSuchElementException("the iteration has no more elements");
+
+            lastReturned = nextNode;
+            advance();
+            return lastReturned;
+        }
+
+        /**
+         * Removes the key last returned by next() from the ConcurrentMyHashMap.
+         * @throws IllegalStateException if next has not been called since the last remove
+         */
+        public void remove()
+        {
+            if (lastReturned == null)
+                throw new IllegalStateException("next method has not yet been called");
+
+            ConcurrentMyHashMap.this.remove(lastReturned.key);
+            lastReturned = null;
+        }
+    }
+
+    /**
+     * The KeyIterator class iterates over the keys of a ConcurrentMyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class KeyIterator extends BaseIterator implements Iterator<K>
+    {
+        /**
+         * Returns the next key.
+         * @return the next key
+         */
+        public K next()
+        {
+            return nextNode().key;
+        }
+    }
+
+    /**
+     * The ValueIterator class iterates over the values of a ConcurrentMyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class ValueIterator extends BaseIterator implements Iterator<V>
+    {
+        /**
+         * Returns the next value.
+         * @return the next value
+         */
+        public V next()
+        {
+            return nextNode().value;
+        }
+    }
+
+    /**
+     * The EntryIterator class iterates over the entries of a ConcurrentMyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class EntryIterator extends BaseIterator implements Iterator<Map.Entry<K, V>>
+    {
+        /**
+         * Returns the next entry.
+         * @return the next entry
+         */
+        public Map.Entry<K, V> next()
+        {
+            Node<K, V> node = nextNode();
+            return new WriteThroughEntry(node.key, node.value);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tester for MyHashSet's Set methods and bulk operations. Applies random addAll, retainAll,
+ * removeAll and containsAll calls to a MyHashSet and a java.util.HashSet, passing either
+ * another MyHashSet (the table-to-table path) or an ArrayList (the generic path), and
+ * checks that both sets always agree.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class HashSetBulkTester
+{
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 20000;
+    private static final int RANGE = 200;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        Set<Rectangle> real = new HashSet<Rectangle>();
+        MyHashSet<Rectangle> fake = new MyHashSet<Rectangle>();
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            List<Rectangle> list = randomRectangles();
+            Collection<Rectangle> arg = random(2) == 0 ? list : new MyHashSet<Rectangle>(list);
+
+            int type = random(5);
+            boolean realBool;
+            boolean fakeBool;
+            if (type == 0)
+            {
+                debug("addAll(" + list + ")");
+                realBool = real.addAll(list);
+                fakeBool = fake.addAll(arg);
+            }
+            else if (type == 1)
+            {
+                debug("retainAll(" + list + ")");
+                // keep most of the current elements so the set does not empty out right away
+                list.addAll(real);
+                for (int j = 0; j < 3 && !list.isEmpty(); j++)
+                    list.remove(random(list.size()));
+                arg = random(2) == 0 ? list : new MyHashSet<Rectangle>(list);
+                realBool = real.retainAll(list);
+                fakeBool = fake.retainAll(arg);
+            }
+            else if (type == 2)
+            {
+                debug("removeAll(" + list + ")");
+                realBool = real.removeAll(list);
+                fakeBool = fake.removeAll(arg);
+            }
+            else if (type == 3)
+            {
+                debug("containsAll(" + list + ")");
+                realBool = real.containsAll(list);
+                fakeBool = fake.containsAll(arg);
+            }
+            else
+            {
+                Rectangle value = list.isEmpty() ? new Rectangle(1, 1) : list.get(0);
+                debug("add(" + value + ")");
+                realBool = real.add(value);
+                fakeBool = fake.add(value);
+            }
+
+            if (fakeBool != realBool)
+                throw new RuntimeException("operation " + type + " returned " + fakeBool
+                        + " and should return " + realBool);
+            if (!fake.equals(real) || !real.equals(fake) || fake.hashCode() != real.hashCode())
+                throw new RuntimeException("MyHashSet with " + fake.size() + " elements should equal "
+                        + "the HashSet with " + real.size());
+        }
+
+        fake.removeAll(fake);
+        if (!fake.isEmpty())
+            throw new RuntimeException("removeAll(itself) should leave the MyHashSet empty");
+
+        System.out.println("MyHashSet bulk operations work!");
+    }
+
+    /**
+     * Returns a list of up to RANGE / 4 random Rectangles, possibly with duplicates.
+     * @return a list of random Rectangles
+     */
+    private static List<Rectangle> randomRectangles()
+    {
+        List<Rectangle> list = new ArrayList<Rectangle>();
+        int n = random(RANGE / 4);
+        for (int i = 0; i < n; i++)
+            list.add(new Rectangle(random(RANGE / 10) + 1, random(10) + 1));
+
+        return list;
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
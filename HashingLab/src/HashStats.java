@@ -0,0 +1,149 @@
+import java.util.Arrays;
+
+/**
+ * The HashStats class is an immutable snapshot of how the keys of a MyHashMap (or the
+ * elements of a MyHashSet) are spread across its buckets. A long maximum chain or a high
+ * average probe count points to a poor hashCode implementation.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class HashStats
+{
+    private final int size;
+    private final int capacity;
+    private final int[] histogram;
+    private final int treeBuckets;
+    private final long lookups;
+    private final long probes;
+    private final int rehashCount;
+    private final long rehashNanos;
+
+    /**
+     * Constructs a HashStats snapshot.
+     * @param size the number of entries
+     * @param capacity the number of buckets
+     * @param histogram histogram[k] is the number of buckets holding exactly k entries
+     * @param treeBuckets the number of buckets that have been converted into trees
+     * @param lookups the number of lookups made since the counters were last reset
+     * @param probes the number of entries compared during those lookups
+     * @param rehashCount the number of times the buckets were doubled
+     * @param rehashNanos the total time spent doubling the buckets, in nanoseconds
+     */
+    public HashStats(int size, int capacity, int[] histogram, int treeBuckets,
+                     long lookups, long probes, int rehashCount, long rehashNanos)
+    {
+        this.size = size;
+        this.capacity = capacity;
+        this.histogram = histogram.clone();
+        this.treeBuckets = treeBuckets;
+        this.lookups = lookups;
+        this.probes = probes;
+        this.rehashCount = rehashCount;
+        this.rehashNanos = rehashNanos;
+    }
+
+    /**
+     * Getter for the number of entries.
+     * @return the number of entries
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Getter for the number of buckets.
+     * @return the number of buckets
+     */
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Returns the bucket-length histogram.
+     * @return a copy of the histogram, where element k is the number of buckets
+     *         holding exactly k entries
+     */
+    public int[] getHistogram()
+    {
+        return histogram.clone();
+    }
+
+    /**
+     * Returns the number of entries in the longest bucket.
+     * @return the maximum chain length
+     */
+    public int getMaxChainLength()
+    {
+        return histogram.length - 1;
+    }
+
+    /**
+     * Getter for the number of buckets that have been converted into trees.
+     * @return the number of tree buckets
+     */
+    public int getTreeBuckets()
+    {
+        return treeBuckets;
+    }
+
+    /**
+     * Getter for the number of lookups since the counters were last reset.
+     * @return the number of lookups
+     */
+    public long getLookups()
+    {
+        return lookups;
+    }
+
+    /**
+     * Returns the average number of entries compared per lookup.
+     * @return probes divided by lookups, or 0 if there were no lookups
+     */
+    public double getAverageProbes()
+    {
+        return lookups == 0 ? 0 : (double) probes / lookups;
+    }
+
+    /**
+     * Getter for the number of times the buckets were doubled.
+     * @return the rehash count
+     */
+    public int getRehashCount()
+    {
+        return rehashCount;
+    }
+
+    /**
+     * Getter for the total time spent doubling the buckets.
+     * @return the rehash time in nanoseconds
+     */
+    public long getRehashNanos()
+    {
+        return rehashNanos;
+    }
+
+    /**
+     * Returns the ratio of entries to buckets.
+     * @return size divided by capacity
+     */
+    public double getLoad()
+    {
+        return (double) size / capacity;
+    }
+
+    /**
+     * Returns a String version of this HashStats.
+     * @return a String version of this HashStats
+     */
+    @Override
+    public String toString()
+    {
+        return "size=" + size + " capacity=" + capacity
+                + String.format(" load=%.3f avgProbes=%.3f", getLoad(), getAverageProbes())
+                + " maxChain=" + getMaxChainLength() + " treeBuckets=" + treeBuckets
+                + " rehashes=" + rehashCount + " rehashMillis=" + rehashNanos / 1000000
+                + " histogram=" + Arrays.toString(histogram);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Tester for the MyHashMap and MyHashSet stats() snapshots. Checks that the histogram
+ * accounts for every bucket and entry, then prints the stats for Integer keys next to
+ * Rectangle keys to show how much Rectangle's hashCode clusters.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class HashStatsTester
+{
+    private static final int NUM_RECTANGLES = 100;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        MyHashMap<Integer, Integer> integers = new MyHashMap<Integer, Integer>();
+        MyHashSet<Rectangle> rectangles = new MyHashSet<Rectangle>();
+
+        for (int len = 1; len <= NUM_RECTANGLES; len++)
+        {
+            for (int w = 1; w <= NUM_RECTANGLES; w++)
+            {
+                integers.put(len * NUM_RECTANGLES + w, len);
+                rectangles.add(new Rectangle(len, w));
+            }
+        }
+
+        for (int len = 1; len <= NUM_RECTANGLES; len++)
+        {
+            for (int w = 1; w <= NUM_RECTANGLES; w++)
+            {
+                integers.get(len * NUM_RECTANGLES + w);
+                rectangles.contains(new Rectangle(len, w));
+            }
+        }
+
+        check(integers.stats(), integers.size());
+        check(rectangles.stats(), rectangles.size());
+
+        System.out.println("Integer keys:   " + integers.stats());
+        System.out.println("Rectangle keys: " + rectangles.stats());
+
+        integers.resetStats();
+        if (integers.stats().getLookups() != 0 || integers.stats().getRehashCount() != 0)
+            throw new RuntimeException("resetStats() should reset the counters to 0");
+
+        System.out.println("HashStats works!");
+    }
+
+    /**
+     * Checks that a snapshot's histogram adds up to its capacity and size.
+     * @param stats the snapshot to check
+     * @param size the size of the structure the snapshot was taken from
+     */
+    private static void check(HashStats stats, int size)
+    {
+        int[] histogram = stats.getHistogram();
+        int buckets = 0;
+        int entries = 0;
+
+        for (int k = 0; k < histogram.length; k++)
+        {
+            buckets += histogram[k];
+            entries += k * histogram[k];
+        }
+
+        if (buckets != stats.getCapacity())
+            throw new RuntimeException("histogram has " + buckets + " buckets and should have "
+                    + stats.getCapacity());
+        if (entries != size || stats.getSize() != size)
+            throw new RuntimeException("histogram has " + entries + " entries and should have " + size);
+        if (stats.getLookups() != size)
+            throw new RuntimeException("stats counted " + stats.getLookups() + " lookups and should count "
+                    + size);
+        if (stats.getAverageProbes() < 1)
+            throw new RuntimeException("every successful lookup compares at least one entry");
+    }
+}
@@ -0,0 +1,399 @@
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Throughput benchmark for the HashingLab structures. Times put, get, remove and iteration
+ * on MyHashMap and MyHashSet next to java.util.HashMap and java.util.HashSet, for sizes from
+ * 10 up to 10,000,000 entries, lookup hit ratios of 100%, 50% and 0%, and Integer, String and
+ * Rectangle keys.
+ *
+ * Each measurement runs a few warmup rounds so the JIT compiler settles, then reports the
+ * median of the timed rounds. The results are printed as CSV (one line per measurement) so
+ * the output of two runs can be diffed or loaded into a spreadsheet to spot regressions.
+ *
+ * Usage: java -Xmx4g HashingBenchmark [maxSize]
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class HashingBenchmark
+{
+    private static final int[] SIZES = {10, 1000, 100000, 1000000, 10000000};
+    private static final double[] HIT_RATIOS = {1.0, 0.5, 0.0};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int MIN_OPERATIONS = 1000000;
+
+    private static long sink;
+
+    /**
+     * Main method. Prints the CSV header and then one line per measurement.
+     * @param args optionally the largest size to run (default 10000000)
+     */
+    public static void main(String[] args)
+    {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : SIZES[SIZES.length - 1];
+
+        System.out.println("structure,keyType,size,operation,hitRatio,nsPerOp,opsPerSec");
+
+        for (int size: SIZES)
+        {
+            if (size > maxSize)
+                break;
+
+            run("Integer", size, i -> i);
+            run("String", size, i -> "key" + i);
+            run("Rectangle", size, i -> new Rectangle(i / 4096 + 1, i % 4096 + 1));
+        }
+
+        // keeps the JIT compiler from removing the loops whose results are never used
+        if (sink == 42)
+            System.err.println();
+    }
+
+    /**
+     * Runs every measurement for one key type and size.
+     * @param keyType the name of the key type, for the CSV
+     * @param size the number of entries
+     * @param keyFactory creates the i-th distinct key
+     * @param <K> the type of key
+     */
+    private static <K> void run(String keyType, int size, IntFunction<K> keyFactory)
+    {
+        // keys[0..size) are inserted; keys[size..2*size) are never inserted, for misses
+        List<K> keys = new ArrayList<K>(2 * size);
+        for (int i = 0; i < 2 * size; i++)
+            keys.add(keyFactory.apply(i));
+        Collections.shuffle(keys.subList(0, size), new Random(size));
+
+        List<Supplier<Target<K>>> targets = new ArrayList<Supplier<Target<K>>>();
+        targets.add(() -> new MapTarget<K>("MyHashMap", new MyHashMap<K, Integer>()));
+        targets.add(() -> new MapTarget<K>("java.util.HashMap", new HashMap<K, Integer>()));
+        targets.add(() -> new SetTarget<K>("MyHashSet", new MyHashSet<K>()));
+        targets.add(() -> new SetTarget<K>("java.util.HashSet", new HashSet<K>()));
+
+        for (Supplier<Target<K>> supplier: targets)
+        {
+            String name = supplier.get().name;
+
+            // small sizes repeat each run so that every timed round does enough work
+            int repeat = Math.max(1, MIN_OPERATIONS / size);
+
+            report(name, keyType, size, "put", Double.NaN, measure(repeat * size, () ->
+            {
+                long start = System.nanoTime();
+                for (int r = 0; r < repeat; r++)
+                {
+                    Target<K> target = supplier.get();
+                    for (int i = 0; i < size; i++)
+                        target.put(keys.get(i));
+                }
+                return System.nanoTime() - start;
+            }));
+
+            Target<K> full = supplier.get();
+            for (int i = 0; i < size; i++)
+                full.put(keys.get(i));
+
+            for (double hitRatio: HIT_RATIOS)
+            {
+                List<K> lookups = lookupKeys(keys, size, hitRatio);
+
+                report(name, keyType, size, "get", hitRatio, measure(repeat * size, () ->
+                {
+                    long start = System.nanoTime();
+                    long found = 0;
+                    for (int r = 0; r < repeat; r++)
+                    {
+                        for (int i = 0; i < size; i++)
+                        {
+                            if (full.get(lookups.get(i)))
+                                found++;
+                        }
+                    }
+                    long time = System.nanoTime() - start;
+                    sink += found;
+                    return time;
+                }));
+            }
+
+            report(name, keyType, size, "iterate", Double.NaN, measure(repeat * size, () ->
+            {
+                long start = System.nanoTime();
+                for (int r = 0; r < repeat; r++)
+                    sink += full.iterate();
+                return System.nanoTime() - start;
+            }));
+
+            report(name, keyType, size, "remove", Double.NaN, measure(repeat * size, () ->
+            {
+                List<Target<K>> filled = new ArrayList<Target<K>>(repeat);
+                for (int r = 0; r < repeat; r++)
+                {
+                    Target<K> target = supplier.get();
+                    for (int i = 0; i < size; i++)
+                        target.put(keys.get(i));
+                    filled.add(target);
+                }
+
+                // only the removals are timed, not the filling
+                long start = System.nanoTime();
+                for (Target<K> target: filled)
+                {
+                    for (int i = 0; i < size; i++)
+                        target.remove(keys.get(i));
+                }
+                return System.nanoTime() - start;
+            }));
+        }
+    }
+
+    /**
+     * Helper function that builds the keys for a lookup run.
+     * @param keys the inserted keys followed by the missing keys
+     * @param size the number of inserted keys
+     * @param hitRatio the fraction of lookups that should find their key
+     * @return size keys, of which about hitRatio * size are present
+     */
+    private static <K> List<K> lookupKeys(List<K> keys, int size, double hitRatio)
+    {
+        List<K> lookups = new ArrayList<K>(size);
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++)
+            lookups.add(random.nextDouble() < hitRatio ? keys.get(i) : keys.get(size + i));
+
+        return lookups;
+    }
+
+    /**
+     * Helper function that runs a timed task for the warmup and measured rounds.
+     * @param operations the number of operations one run of the task performs
+     * @param task runs the operations once and returns the elapsed nanoseconds
+     * @return the median nanoseconds per operation over the measured rounds
+     */
+    private static double measure(int operations, Round task)
+    {
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+            task.run();
+
+        double[] times = new double[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++)
+            times[i] = (double) task.run() / operations;
+
+        Arrays.sort(times);
+        return times[MEASURED_ROUNDS / 2];
+    }
+
+    /**
+     * Helper function that prints one CSV line.
+     * @param structure the name of the structure measured
+     * @param keyType the name of the key type
+     * @param size the number of entries
+     * @param operation the name of the operation
+     * @param hitRatio the lookup hit ratio, or NaN if it does not apply
+     * @param nsPerOp the median nanoseconds per operation
+     */
+    private static void report(String structure, String keyType, int size, String operation,
+                               double hitRatio, double nsPerOp)
+    {
+        System.out.println(structure + "," + keyType + "," + size + "," + operation + ","
+                + (Double.isNaN(hitRatio) ? "" : String.valueOf(hitRatio)) + ","
+                + String.format("%.2f,%.0f", nsPerOp, 1e9 / nsPerOp));
+    }
+
+    /**
+     * The Round interface is one timed run of a benchmark.
+     */
+    private interface Round
+    {
+        /**
+         * Runs the benchmark once.
+         * @return the elapsed time in nanoseconds
+         */
+        long run();
+    }
+
+    /**
+     * The Target class gives maps and sets the same four operations, so every structure
+     * is measured through the same calls.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <K> the type of key
+     */
+    private abstract static class Target<K>
+    {
+        final String name;
+
+        /**
+         * Constructs a Target.
+         * @param name the name printed in the CSV
+         */
+        Target(String name)
+        {
+            this.name = name;
+        }
+
+        /**
+         * Inserts a key.
+         * @param key the key to insert
+         */
+        abstract void put(K key);
+
+        /**
+         * Looks up a key.
+         * @param key the key to look up
+         * @return true if the key was found; otherwise false
+         */
+        abstract boolean get(K key);
+
+        /**
+         * Removes a key.
+         * @param key the key to remove
+         */
+        abstract void remove(K key);
+
+        /**
+         * Visits every key.
+         * @return a value computed from the keys, so the loop cannot be skipped
+         */
+        abstract long iterate();
+    }
+
+    /**
+     * The MapTarget class measures a Map, mapping each key to the Integer 1.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <K> the type of key
+     */
+    private static final class MapTarget<K> extends Target<K>
+    {
+        private static final Integer ONE = 1;
+        private final Map<K, Integer> map;
+
+        /**
+         * Constructs a MapTarget.
+         * @param name the name printed in the CSV
+         * @param map the empty Map to measure
+         */
+        MapTarget(String name, Map<K, Integer> map)
+        {
+            super(name);
+            this.map = map;
+        }
+
+        /**
+         * Inserts a key.
+         * @param key the key to insert
+         */
+        @Override
+        void put(K key)
+        {
+            map.put(key, ONE);
+        }
+
+        /**
+         * Looks up a key.
+         * @param key the key to look up
+         * @return true if the key was found; otherwise false
+         */
+        @Override
+        boolean get(K key)
+        {
+            return map.get(key) != null;
+        }
+
+        /**
+         * Removes a key.
+         * @param key the key to remove
+         */
+        @Override
+        void remove(K key)
+        {
+            map.remove(key);
+        }
+
+        /**
+         * Visits every key.
+         * @return a value computed from the keys
+         */
+        @Override
+        long iterate()
+        {
+            long sum = 0;
+            for (Map.Entry<K, Integer> entry: map.entrySet())
+                sum += entry.getValue();
+
+            return sum;
+        }
+    }
+
+    /**
+     * The SetTarget class measures a Set.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <K> the type of element
+     */
+    private static final class SetTarget<K> extends Target<K>
+    {
+        private final Set<K> set;
+
+        /**
+         * Constructs a SetTarget.
+         * @param name the name printed in the CSV
+         * @param set the empty Set to measure
+         */
+        SetTarget(String name, Set<K> set)
+        {
+            super(name);
+            this.set = set;
+        }
+
+        /**
+         * Inserts a key.
+         * @param key the key to insert
+         */
+        @Override
+        void put(K key)
+        {
+            set.add(key);
+        }
+
+        /**
+         * Looks up a key.
+         * @param key the key to look up
+         * @return true if the key was found; otherwise false
+         */
+        @Override
+        boolean get(K key)
+        {
+            return set.contains(key);
+        }
+
+        /**
+         * Removes a key.
+         * @param key the key to remove
+         */
+        @Override
+        void remove(K key)
+        {
+            set.remove(key);
+        }
+
+        /**
+         * Visits every key.
+         * @return a value computed from the keys
+         */
+        @Override
+        long iterate()
+        {
+            long count = 0;
+            for (K key: set)
+            {
+                if (key != null)
+                    count++;
+            }
+
+            return count;
+        }
+    }
+}
@@ -0,0 +1,456 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The IntHashMap<V> class is a version of MyHashMap specialized for int keys.
+ * Keys and values are stored in parallel arrays using open addressing with linear probing,
+ * so no key is ever boxed and no entry objects are allocated by put.
+ * The key 0 marks an empty slot, so an entry with key 0 is stored in an extra slot at
+ * the end of the values array.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <V> the type of value
+ */
+public class IntHashMap<V>
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private Object[] values;
+    private boolean containsZeroKey;
+    private int mask;
+    private int size;
+    private int threshold;
+    private final float loadFactor;
+
+    /**
+     * Constructs an IntHashMap with the default capacity (16) and load factor (0.75).
+     */
+    public IntHashMap()
+    {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an IntHashMap with the given initial capacity and the default load factor.
+     * @param initialCapacity the initial number of slots, rounded up to a power of two
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntHashMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an IntHashMap with the given initial capacity and load factor.
+     * @param initialCapacity the initial number of slots, rounded up to a power of two
+     * @param loadFactor the maximum ratio of size to slots before the slots are doubled
+     * @throws IllegalArgumentException if initialCapacity is negative or loadFactor
+     *                                  is not between 0 and 1 (exclusive)
+     */
+    public IntHashMap(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("initial capacity is negative: " + initialCapacity);
+        if (!(loadFactor > 0 && loadFactor < 1))
+            throw new IllegalArgumentException("load factor must be in (0, 1): " + loadFactor);
+
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(initialCapacity));
+        size = 0;
+    }
+
+    /**
+     * Helper function that rounds a requested capacity up to the nearest power of two.
+     * @param capacity the requested capacity
+     * @return the smallest power of two that is at least capacity (and at least 2)
+     */
+    private static int tableSizeFor(int capacity)
+    {
+        if (capacity >= MAXIMUM_CAPACITY)
+            return MAXIMUM_CAPACITY;
+
+        int n = 2;
+        while (n < capacity)
+            n <<= 1;
+
+        return n;
+    }
+
+    /**
+     * Helper function that replaces the arrays with empty ones of the given capacity.
+     * @param capacity the number of slots (a power of two)
+     */
+    private void allocate(int capacity)
+    {
+        keys = new int[capacity];
+        values = new Object[capacity + 1];
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * Helper function that scrambles a key so that sequential keys spread across slots.
+     * @param key the key to hash
+     * @return the mixed hash of key
+     */
+    private static int mix(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Helper function that finds the slot holding the given nonzero key.
+     * @param key the key to search for (not 0)
+     * @return the slot of key if present; otherwise -1
+     */
+    private int find(int key)
+    {
+        int pos = mix(key) & mask;
+        int curr;
+
+        while ((curr = keys[pos]) != 0)
+        {
+            if (curr == key)
+                return pos;
+
+            pos = (pos + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of entries in the IntHashMap.
+     * @return the size of the IntHashMap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Determines if the IntHashMap is empty (if the size is 0).
+     * @return true if the size is 0; otherwise false
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Determines if the given key is present in the IntHashMap.
+     * @param key the key to search for
+     * @return true if it is present; otherwise false
+     */
+    public boolean containsKey(int key)
+    {
+        if (key == 0)
+            return containsZeroKey;
+
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the value that is mapped to the key. If key is not present, returns null.
+     * @param key the key whose value is being requested
+     * @return the value mapped to key if present; otherwise null
+     */
+    public V get(int key)
+    {
+        if (key == 0)
+            return containsZeroKey ? (V) values[mask + 1] : null;
+
+        int pos = find(key);
+        return pos < 0 ? null : (V) values[pos];
+    }
+
+    /**
+     * Returns the value that is mapped to the key, or defaultValue if the key is not present.
+     * @param key the key whose value is being requested
+     * @param defaultValue the value to return if key is not present
+     * @return the value mapped to key if present; otherwise defaultValue
+     */
+    public V getOrDefault(int key, V defaultValue)
+    {
+        if (key == 0)
+            return containsZeroKey ? (V) values[mask + 1] : defaultValue;
+
+        int pos = find(key);
+        return pos < 0 ? defaultValue : (V) values[pos];
+    }
+
+    /**
+     * Maps key to value. If the key is already present, overrides the existing value and
+     * returns it. If not present, claims an empty slot and returns null.
+     * @param key the key to be inserted
+     * @param value the value to be inserted
+     * @return the value originally mapped to key if present; otherwise null
+     */
+    public V put(int key, V value)
+    {
+        if (key == 0)
+        {
+            V old = (V) values[mask + 1];
+            values[mask + 1] = value;
+
+            if (!containsZeroKey)
+            {
+                containsZeroKey = true;
+                size++;
+            }
+
+            return old;
+        }
+
+        int pos = mix(key) & mask;
+        int curr;
+
+        while ((curr = keys[pos]) != 0)
+        {
+            if (curr == key)
+            {
+                V old = (V) values[pos];
+                values[pos] = value;
+                return old;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        keys[pos] = key;
+        values[pos] = value;
+
+        if (++size > threshold)
+            rehash(keys.length << 1);
+
+        return null;
+    }
+
+    /**
+     * Removes the entry with the given key. If the key is not present, returns null.
+     * @param key the key to be removed
+     * @return the value mapped to key if present; otherwise null
+     */
+    public V remove(int key)
+    {
+        if (key == 0)
+        {
+            if (!containsZeroKey)
+                return null;
+
+            V old = (V) values[mask + 1];
+            values[mask + 1] = null;
+            containsZeroKey = false;
+            size--;
+            return old;
+        }
+
+        int pos = find(key);
+        if (pos < 0)
+            return null;
+
+        V old = (V) values[pos];
+        shiftKeys(pos);
+        size--;
+        return old;
+    }
+
+    /**
+     * Empties the slot at pos, then moves later entries of the same probe run back
+     * so that every remaining key can still be found without tombstones.
+     * @param pos the slot to empty
+     */
+    private void shiftKeys(int pos)
+    {
+        while (true)
+        {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int curr;
+
+            while (true)
+            {
+                if ((curr = keys[pos]) == 0)
+                {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+
+                // the entry at pos may move into last only if its home slot is not in (last, pos]
+                int home = mix(curr) & mask;
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos))
+                    break;
+
+                pos = (pos + 1) & mask;
+            }
+
+            keys[last] = curr;
+            values[last] = values[pos];
+        }
+    }
+
+    /**
+     * Moves every entry into new arrays with the given number of slots.
+     * @param capacity the new number of slots (a power of two)
+     */
+    private void rehash(int capacity)
+    {
+        if (keys.length >= MAXIMUM_CAPACITY)
+            throw new IllegalStateException("IntHashMap is full");
+
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldCapacity = oldKeys.length;
+        Object zeroValue = oldValues[oldCapacity];
+
+        allocate(capacity);
+
+        for (int i=0; i<oldCapacity; i++)
+        {
+            int key = oldKeys[i];
+            if (key != 0)
+            {
+                int pos = mix(key) & mask;
+                while (keys[pos] != 0)
+                    pos = (pos + 1) & mask;
+
+                keys[pos] = key;
+                values[pos] = oldValues[i];
+            }
+        }
+
+        values[mask + 1] = zeroValue;
+    }
+
+    /**
+     * Removes every entry from the IntHashMap but keeps the current number of slots.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        containsZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Returns a new Cursor positioned before the first entry of the IntHashMap.
+     * @return a Cursor over the entries of the IntHashMap
+     */
+    public Cursor cursor()
+    {
+        return new Cursor();
+    }
+
+    /**
+     * Returns a String version of the IntHashMap.
+     * @return a String version of the IntHashMap
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("{");
+        Cursor c = cursor();
+
+        while (c.advance())
+        {
+            if (s.length() > 1)
+                s.append(", ");
+            s.append(c.key()).append('=').append(c.value());
+        }
+
+        return s.append('}').toString();
+    }
+
+    /**
+     * The Cursor class walks the entries of an IntHashMap without boxing the keys.
+     * Call advance() before reading the first entry. The IntHashMap must not be
+     * structurally modified while a Cursor is in use.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    public class Cursor
+    {
+        private int pos;
+
+        /**
+         * Constructs a Cursor positioned before the first entry.
+         */
+        private Cursor()
+        {
+            pos = -1;
+        }
+
+        /**
+         * Moves to the next entry, if there is one.
+         * @return true if the Cursor is now on an entry; false if there are no more entries
+         */
+        public boolean advance()
+        {
+            int capacity = mask + 1;
+
+            while (++pos < capacity)
+            {
+                if (keys[pos] != 0)
+                    return true;
+            }
+
+            if (pos == capacity && containsZeroKey)
+                return true;
+
+            pos = capacity + 1;
+            return false;
+        }
+
+        /**
+         * Returns the key of the current entry.
+         * @return the key of the current entry
+         * @throws NoSuchElementException if the Cursor is not on an entry
+         */
+        public int key()
+        {
+            checkPosition();
+            return pos == mask + 1 ? 0 : keys[pos];
+        }
+
+        /**
+         * Returns the value of the current entry.
+         * @return the value of the current entry
+         * @throws NoSuchElementException if the Cursor is not on an entry
+         */
+        public V value()
+        {
+            checkPosition();
+            return (V) values[pos];
+        }
+
+        /**
+         * Replaces the value of the current entry.
+         * @param value the new value for the current entry
+         * @return the previous value of the current entry
+         * @throws NoSuchElementException if the Cursor is not on an entry
+         */
+        public V setValue(V value)
+        {
+            checkPosition();
+            V old = (V) values[pos];
+            values[pos] = value;
+            return old;
+        }
+
+        /**
+         * Determines if the Cursor is on an entry.
+         * @throws NoSuchElementException if advance() has not returned true for this position
+         */
+        private void checkPosition()
+        {
+            if (pos < 0 || pos > mask + 1)
+                throw new NoSuchElementException("cursor is not on an entry");
+        }
+    }
+}
@@ -0,0 +1,928 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * The MappedHashMap<K, V> class is a hash map whose entries live in a memory-mapped file
+ * instead of on the Java heap, so it can hold tables far larger than the heap without any
+ * garbage collection cost, and reopening the file later gives back the same map instantly.
+ * Keys and values are converted to bytes by a Codec, and every entry takes a fixed-size slot
+ * (big enough for the largest allowed key and value). Slots are found by open addressing
+ * with linear probing; removed entries leave a tombstone that is cleaned up by the next rehash.
+ * The hash of a key is computed from its bytes, so it stays the same after a restart.
+ * Like MyHashMap, it is not thread-safe, and null keys are not allowed.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public class MappedHashMap<K, V> extends AbstractMap<K, V> implements Closeable
+{
+    /**
+     * The Codec interface converts objects to and from the bytes stored in a MappedHashMap.
+     * @param <T> the type of object to convert
+     */
+    public interface Codec<T>
+    {
+        /**
+         * Writes the bytes for obj at the buffer's position.
+         * @param obj the object to write
+         * @param buffer the buffer to write to; its remaining space is the maximum size
+         * @throws BufferOverflowException if obj needs more bytes than remain in buffer
+         */
+        void write(T obj, ByteBuffer buffer);
+
+        /**
+         * Reads an object back from exactly the bytes that write produced.
+         * @param buffer the buffer to read from, positioned at the first byte
+         *               with its limit after the last byte
+         * @return the object that was written
+         */
+        T read(ByteBuffer buffer);
+    }
+
+    /**
+     * A Codec for Integer objects (4 bytes each).
+     */
+    public static final Codec<Integer> INTEGER = new Codec<Integer>()
+    {
+        public void write(Integer obj, ByteBuffer buffer)
+        {
+            buffer.putInt(obj);
+        }
+
+        public Integer read(ByteBuffer buffer)
+        {
+            return buffer.getInt();
+        }
+    };
+
+    /**
+     * A Codec for Long objects (8 bytes each).
+     */
+    public static final Codec<Long> LONG = new Codec<Long>()
+    {
+        public void write(Long obj, ByteBuffer buffer)
+        {
+            buffer.putLong(obj);
+        }
+
+        public Long read(ByteBuffer buffer)
+        {
+            return buffer.getLong();
+        }
+    };
+
+    /**
+     * A Codec for String objects, stored as UTF-8.
+     */
+    public static final Codec<String> STRING = new Codec<String>()
+    {
+        public void write(String obj, ByteBuffer buffer)
+        {
+            buffer.put(obj.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public String read(ByteBuffer buffer)
+        {
+            return new String(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    buffer.remaining(), StandardCharsets.UTF_8);
+        }
+    };
+
+    private static final int MAGIC = 0x4D484D31;
+    private static final int VERSION = 1;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+    // header layout
+    private static final int HEADER_BYTES = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int KEY_BYTES_OFFSET = 12;
+    private static final int VALUE_BYTES_OFFSET = 16;
+    private static final int SIZE_OFFSET = 20;
+    private static final int USED_OFFSET = 24;
+
+    // slot layout: state, hash, key length, key bytes, value length, value bytes
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+    private static final byte DELETED = 2;
+    private static final int HASH_OFFSET = 1;
+    private static final int KEY_LENGTH_OFFSET = 5;
+    private static final int KEY_OFFSET = 9;
+    private static final int NULL_LENGTH = -1;
+
+    private final Path file;
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final int maxKeyBytes;
+    private final int maxValueBytes;
+    private final int slotBytes;
+    private final int valueLengthOffset;
+
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] segments;
+    private int slotsPerSegment;
+    private int capacity;
+    private int size;
+    private int used;
+    private int modCount;
+
+    private final ByteBuffer keyBuffer;
+    private final ByteBuffer valueBuffer;
+    private final ByteBuffer readBuffer;
+
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Opens the MappedHashMap stored in file, or creates an empty one there if the file
+     * does not exist yet.
+     * @param file the file that holds the entries
+     * @param keyCodec the Codec for keys
+     * @param maxKeyBytes the largest number of bytes keyCodec may write for one key
+     * @param valueCodec the Codec for values
+     * @param maxValueBytes the largest number of bytes valueCodec may write for one value
+     * @throws IOException if the file cannot be opened, or was created with a different
+     *                     maxKeyBytes or maxValueBytes
+     */
+    public MappedHashMap(Path file, Codec<K> keyCodec, int maxKeyBytes,
+                         Codec<V> valueCodec, int maxValueBytes) throws IOException
+    {
+        this(file, keyCodec, maxKeyBytes, valueCodec, maxValueBytes, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the MappedHashMap stored in file, or creates an empty one there with the given
+     * initial number of slots if the file does not exist yet.
+     * @param file the file that holds the entries
+     * @param keyCodec the Codec for keys
+     * @param maxKeyBytes the largest number of bytes keyCodec may write for one key
+     * @param valueCodec the Codec for values
+     * @param maxValueBytes the largest number of bytes valueCodec may write for one value
+     * @param initialCapacity the number of slots for a new file, rounded up to a power of two
+     * @throws IOException if the file cannot be opened, or was created with a different
+     *                     maxKeyBytes or maxValueBytes
+     * @throws IllegalArgumentException if a size is not positive
+     */
+    public MappedHashMap(Path file, Codec<K> keyCodec, int maxKeyBytes,
+                         Codec<V> valueCodec, int maxValueBytes, int initialCapacity) throws IOException
+    {
+        if (maxKeyBytes <= 0 || maxValueBytes <= 0 || initialCapacity <= 0)
+            throw new IllegalArgumentException("sizes must be positive");
+
+        this.file = file;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.maxKeyBytes = maxKeyBytes;
+        this.maxValueBytes = maxValueBytes;
+        valueLengthOffset = KEY_OFFSET + maxKeyBytes;
+        slotBytes = valueLengthOffset + 4 + maxValueBytes;
+
+        keyBuffer = ByteBuffer.allocate(maxKeyBytes);
+        valueBuffer = ByteBuffer.allocate(maxValueBytes);
+        readBuffer = ByteBuffer.allocate(Math.max(maxKeyBytes, maxValueBytes));
+
+        if (Files.exists(file))
+        {
+            map();
+            if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION)
+            {
+                close();
+                throw new IOException(file + " is not a MappedHashMap file");
+            }
+            if (header.getInt(KEY_BYTES_OFFSET) != maxKeyBytes
+                    || header.getInt(VALUE_BYTES_OFFSET) != maxValueBytes)
+            {
+                close();
+                throw new IOException(file + " was created with maxKeyBytes="
+                        + header.getInt(KEY_BYTES_OFFSET) + " and maxValueBytes="
+                        + header.getInt(VALUE_BYTES_OFFSET));
+            }
+        }
+        else
+        {
+            int n = 1;
+            while (n < initialCapacity && n < MAXIMUM_CAPACITY)
+                n <<= 1;
+
+            create(file, n);
+            map();
+        }
+    }
+
+    /**
+     * Helper function that writes a new, empty file with the given number of slots.
+     * @param target the file to create
+     * @param slots the number of slots (a power of two)
+     * @throws IOException if the file cannot be written
+     */
+    private void create(Path target, int slots) throws IOException
+    {
+        try (FileChannel ch = FileChannel.open(target, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            ByteBuffer h = ByteBuffer.allocate(HEADER_BYTES);
+            h.putInt(MAGIC_OFFSET, MAGIC);
+            h.putInt(VERSION_OFFSET, VERSION);
+            h.putInt(CAPACITY_OFFSET, slots);
+            h.putInt(KEY_BYTES_OFFSET, maxKeyBytes);
+            h.putInt(VALUE_BYTES_OFFSET, maxValueBytes);
+            h.putInt(SIZE_OFFSET, 0);
+            h.putInt(USED_OFFSET, 0);
+            ch.write(h, 0);
+
+            // extending the file leaves every slot zeroed, which is the EMPTY state
+            ch.write(ByteBuffer.allocate(1), HEADER_BYTES + (long) slots * slotBytes - 1);
+        }
+    }
+
+    /**
+     * Helper function that opens the file and maps the header and every segment of slots.
+     * @throws IOException if the file cannot be mapped
+     */
+    private void map() throws IOException
+    {
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+
+        capacity = header.getInt(CAPACITY_OFFSET);
+        size = header.getInt(SIZE_OFFSET);
+        used = header.getInt(USED_OFFSET);
+
+        slotsPerSegment = Math.max(1, MAX_SEGMENT_BYTES / slotBytes);
+        int numSegments = (int) (((long) capacity + slotsPerSegment - 1) / slotsPerSegment);
+        segments = new MappedByteBuffer[numSegments];
+
+        for (int i=0; i<numSegments; i++)
+        {
+            long first = (long) i * slotsPerSegment;
+            long slots = Math.min(slotsPerSegment, capacity - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_BYTES + first * slotBytes, slots * slotBytes);
+        }
+    }
+
+    /**
+     * Helper function that returns the segment holding a slot.
+     * @param slot the index of the slot
+     * @return the MappedByteBuffer containing slot
+     */
+    private MappedByteBuffer segment(int slot)
+    {
+        return segments[slot / slotsPerSegment];
+    }
+
+    /**
+     * Helper function that returns where a slot starts inside its segment.
+     * @param slot the index of the slot
+     * @return the byte offset of slot within its segment
+     */
+    private int offset(int slot)
+    {
+        return (slot % slotsPerSegment) * slotBytes;
+    }
+
+    /**
+     * Helper function that checks that the MappedHashMap has not been closed.
+     * @throws IllegalStateException if close() has been called
+     */
+    private void checkOpen()
+    {
+        if (channel == null)
+            throw new IllegalStateException("MappedHashMap is closed");
+    }
+
+    /**
+     * Helper function that encodes a key into keyBuffer.
+     * @param key the key to encode
+     * @return the hash of the key's bytes
+     * @throws IllegalArgumentException if the key needs more than maxKeyBytes bytes
+     */
+    private int encodeKey(K key)
+    {
+        if (key == null)
+            throw new NullPointerException("MappedHashMap does not allow null keys");
+
+        keyBuffer.clear();
+        try
+        {
+            keyCodec.write(key, keyBuffer);
+        }
+        catch (BufferOverflowException e)
+        {
+            throw new IllegalArgumentException("key " + key + " needs more than " + maxKeyBytes + " bytes");
+        }
+        keyBuffer.flip();
+
+        byte[] bytes = keyBuffer.array();
+        int h = 1;
+        for (int i=0; i<keyBuffer.limit(); i++)
+            h = 31 * h + bytes[i];
+
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Helper function that finds the slot holding the key currently in keyBuffer.
+     * @param hash the hash of the key
+     * @return the slot of the key if present; otherwise -1
+     */
+    private int find(int hash)
+    {
+        int mask = capacity - 1;
+        int slot = hash & mask;
+
+        while (true)
+        {
+            MappedByteBuffer seg = segment(slot);
+            int pos = offset(slot);
+            byte state = seg.get(pos);
+
+            if (state == EMPTY)
+                return -1;
+
+            if (state == FULL && keyMatches(seg, pos, hash))
+                return slot;
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Helper function that determines if a full slot holds the key currently in keyBuffer.
+     * @param seg the segment holding the slot
+     * @param pos the offset of the slot in seg
+     * @param hash the hash of the key
+     * @return true if the slot's hash and key bytes match; otherwise false
+     */
+    private boolean keyMatches(MappedByteBuffer seg, int pos, int hash)
+    {
+        int length = keyBuffer.limit();
+        if (seg.getInt(pos + HASH_OFFSET) != hash || seg.getInt(pos + KEY_LENGTH_OFFSET) != length)
+            return false;
+
+        byte[] bytes = keyBuffer.array();
+        int keyPos = pos + KEY_OFFSET;
+        for (int i=0; i<length; i++)
+        {
+            if (seg.get(keyPos + i) != bytes[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Helper function that decodes the bytes stored at pos (preceded by their length).
+     * @param seg the segment to read from
+     * @param pos the offset of the length in seg
+     * @param codec the Codec to decode with
+     * @return the decoded object, or null if a null value was stored
+     */
+    private <T> T decode(MappedByteBuffer seg, int pos, Codec<T> codec)
+    {
+        int length = seg.getInt(pos);
+        if (length == NULL_LENGTH)
+            return null;
+
+        seg.position(pos + 4);
+        seg.get(readBuffer.array(), 0, length);
+        readBuffer.clear();
+        readBuffer.limit(length);
+        return codec.read(readBuffer);
+    }
+
+    /**
+     * Helper function that encodes a value into valueBuffer.
+     * @param value the value to encode (may be null)
+     * @return the number of bytes written, or NULL_LENGTH for null
+     * @throws IllegalArgumentException if the value needs more than maxValueBytes bytes
+     */
+    private int encodeValue(V value)
+    {
+        if (value == null)
+            return NULL_LENGTH;
+
+        valueBuffer.clear();
+        try
+        {
+            valueCodec.write(value, valueBuffer);
+        }
+        catch (BufferOverflowException e)
+        {
+            throw new IllegalArgumentException("value " + value + " needs more than "
+                    + maxValueBytes + " bytes");
+        }
+
+        return valueBuffer.position();
+    }
+
+    /**
+     * Helper function that writes the value in valueBuffer into a slot.
+     * @param seg the segment holding the slot
+     * @param pos the offset of the slot in seg
+     * @param length the length returned by encodeValue
+     */
+    private void writeValue(MappedByteBuffer seg, int pos, int length)
+    {
+        seg.putInt(pos + valueLengthOffset, length);
+        if (length > 0)
+        {
+            seg.position(pos + valueLengthOffset + 4);
+            seg.put(valueBuffer.array(), 0, length);
+        }
+    }
+
+    /**
+     * Helper function that saves the size and the number of used slots in the header.
+     */
+    private void writeCounts()
+    {
+        header.putInt(SIZE_OFFSET, size);
+        header.putInt(USED_OFFSET, used);
+        modCount++;
+    }
+
+    /**
+     * Returns the number of entries in the MappedHashMap.
+     * @return the size of the MappedHashMap
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Determines if the given key is present.
+     * @param key the key to search for
+     * @return true if key is present; otherwise false
+     */
+    @Override
+    public boolean containsKey(Object key)
+    {
+        checkOpen();
+        return find(encodeKey((K) key)) >= 0;
+    }
+
+    /**
+     * Returns the value that is mapped to the key. If key is not present, returns null.
+     * @param key the key whose value is being requested
+     * @return the value mapped to key if present; otherwise null
+     */
+    @Override
+    public V get(Object key)
+    {
+        checkOpen();
+        int slot = find(encodeKey((K) key));
+        if (slot < 0)
+            return null;
+
+        MappedByteBuffer seg = segment(slot);
+        return decode(seg, offset(slot) + valueLengthOffset, valueCodec);
+    }
+
+    /**
+     * Maps key to value in the file. If the key is already present, overrides the existing
+     * value and returns it. If not present, claims a slot and returns null.
+     * @param key the key to be inserted
+     * @param value the value to be inserted
+     * @return the value originally mapped to key if present; otherwise null
+     * @throws IllegalArgumentException if the key or value is too large for a slot
+     * @throws IllegalStateException if the key is new and the map already fills
+     *                               MAXIMUM_CAPACITY slots up to the load factor, at least
+     *                               half of them with entries
+     */
+    @Override
+    public V put(K key, V value)
+    {
+        checkOpen();
+        int hash = encodeKey(key);
+        int valueLength = encodeValue(value);
+        int mask = capacity - 1;
+        int slot = hash & mask;
+        int tombstone = -1;
+
+        while (true)
+        {
+            MappedByteBuffer seg = segment(slot);
+            int pos = offset(slot);
+            byte state = seg.get(pos);
+
+            if (state == EMPTY)
+                break;
+
+            if (state == DELETED)
+            {
+                if (tombstone < 0)
+                    tombstone = slot;
+            }
+            else if (keyMatches(seg, pos, hash))
+            {
+                V old = decode(seg, pos + valueLengthOffset, valueCodec);
+                writeValue(seg, pos, valueLength);
+                return old;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        if (tombstone >= 0)
+            slot = tombstone;
+        else if (capacity == MAXIMUM_CAPACITY && used >= capacity * LOAD_FACTOR)
+        {
+            // the table cannot grow any more, so only clearing out tombstones can make room
+            if (size >= used / 2)
+                throw new IllegalStateException("map is full");
+
+            rehash(capacity);
+            return put(key, value);
+        }
+        else
+            used++;
+
+        MappedByteBuffer seg = segment(slot);
+        int pos = offset(slot);
+        seg.putInt(pos + HASH_OFFSET, hash);
+        seg.putInt(pos + KEY_LENGTH_OFFSET, keyBuffer.limit());
+        seg.position(pos + KEY_OFFSET);
+        seg.put(keyBuffer.array(), 0, keyBuffer.limit());
+        writeValue(seg, pos, valueLength);
+        seg.put(pos, FULL); // mark the slot full only once its contents are written
+
+        size++;
+        writeCounts();
+
+        if (used > capacity * LOAD_FACTOR)
+        {
+            // mostly tombstones: clearing them out frees at least half the used slots
+            if (size < used / 2)
+                rehash(capacity);
+            else if (capacity < MAXIMUM_CAPACITY)
+                rehash(capacity << 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the entry with the given key, leaving a tombstone in its slot.
+     * @param key the key to be removed
+     * @return the value mapped to key if present; otherwise null
+     */
+    @Override
+    public V remove(Object key)
+    {
+        checkOpen();
+        int slot = find(encodeKey((K) key));
+        if (slot < 0)
+            return null;
+
+        MappedByteBuffer seg = segment(slot);
+        int pos = offset(slot);
+        V old = decode(seg, pos + valueLengthOffset, valueCodec);
+        removeSlot(slot);
+        return old;
+    }
+
+    /**
+     * Helper function that turns a full slot into a tombstone.
+     * @param slot the slot to empty
+     */
+    private void removeSlot(int slot)
+    {
+        segment(slot).put(offset(slot), DELETED);
+        size--;
+        writeCounts();
+    }
+
+    /**
+     * Removes every entry, keeping the current number of slots.
+     */
+    @Override
+    public void clear()
+    {
+        checkOpen();
+        for (MappedByteBuffer seg: segments)
+        {
+            for (int pos=0; pos<seg.capacity(); pos+=slotBytes)
+                seg.put(pos, EMPTY);
+        }
+
+        size = 0;
+        used = 0;
+        writeCounts();
+    }
+
+    /**
+     * Copies every entry into a new file with the given number of slots (dropping the
+     * tombstones), then atomically replaces this map's file with it. Java cannot unmap a
+     * MappedByteBuffer; the old file stays mapped until its buffers are garbage collected,
+     * and some systems (such as Windows) will not replace a file while it is mapped. So every
+     * reference to the old buffers is dropped before the move, and if the move fails it is
+     * tried once more after asking for a garbage collection.
+     * @param newCapacity the number of slots in the new file (a power of two)
+     * @throws UncheckedIOException if the new file cannot be written
+     */
+    private void rehash(int newCapacity)
+    {
+        Path temp = file.resolveSibling(file.getFileName() + ".rehash");
+        byte[] slotCopy = new byte[slotBytes];
+
+        try
+        {
+            Files.deleteIfExists(temp);
+            MappedHashMap<K, V> bigger = new MappedHashMap<K, V>(temp, keyCodec, maxKeyBytes,
+                    valueCodec, maxValueBytes, newCapacity);
+
+            for (int slot=0; slot<capacity; slot++)
+            {
+                MappedByteBuffer seg = segment(slot);
+                int pos = offset(slot);
+                if (seg.get(pos) != FULL)
+                    continue;
+
+                // the keys are already unique, so the raw slot is copied without decoding it
+                seg.position(pos);
+                seg.get(slotCopy);
+                bigger.insertCopy(seg.getInt(pos + HASH_OFFSET), slotCopy);
+            }
+
+            bigger.close();
+            channel.close();
+            channel = null;
+            header = null;
+            segments = null;
+
+            try
+            {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (IOException e)
+            {
+                // the old buffers may still be mapped; collecting them unmaps the old file
+                System.gc();
+                System.runFinalization();
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally
+            {
+                // maps the new file, or the old one again if it could not be replaced
+                map();
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("could not rehash " + file, e);
+        }
+    }
+
+    /**
+     * Helper function that places a slot copied from another file into the first empty slot
+     * of its probe sequence.
+     * @param hash the hash of the copied key
+     * @param slotCopy the bytes of the copied slot
+     */
+    private void insertCopy(int hash, byte[] slotCopy)
+    {
+        int mask = capacity - 1;
+        int slot = hash & mask;
+        while (segment(slot).get(offset(slot)) != EMPTY)
+            slot = (slot + 1) & mask;
+
+        MappedByteBuffer seg = segment(slot);
+        seg.position(offset(slot));
+        seg.put(slotCopy);
+
+        size++;
+        used++;
+        header.putInt(SIZE_OFFSET, size);
+        header.putInt(USED_OFFSET, used);
+    }
+
+    /**
+     * Writes every change made so far to the storage device.
+     */
+    public void force()
+    {
+        checkOpen();
+        header.force();
+        for (MappedByteBuffer seg: segments)
+            seg.force();
+    }
+
+    /**
+     * Writes every change to the storage device and closes the file. The MappedHashMap
+     * cannot be used afterwards, but a new one can be opened on the same file.
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (channel == null)
+            return;
+
+        force();
+        channel.close();
+        channel = null;
+        header = null;
+        segments = null;
+    }
+
+    /**
+     * Returns a Set view of the entries, backed by the file. The iterator is fail-fast and
+     * supports remove(). Calling setValue on an entry writes the new value to the file.
+     * @return a Set view of the entries
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        if (entrySet == null)
+        {
+            entrySet = new AbstractSet<Map.Entry<K, V>>()
+            {
+                public Iterator<Map.Entry<K, V>> iterator()
+                {
+                    return new EntryIterator();
+                }
+
+                public int size()
+                {
+                    return size;
+                }
+
+                public void clear()
+                {
+                    MappedHashMap.this.clear();
+                }
+            };
+        }
+
+        return entrySet;
+    }
+
+    /**
+     * The FileEntry class is a MapEntry read from a MappedHashMap.
+     * Calling setValue also writes the new value to the file.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class FileEntry extends MapEntry<K, V>
+    {
+        /**
+         * Constructs a FileEntry with a key and its value at the time it was read.
+         * @param key the key for the entry
+         * @param value the value for the entry
+         */
+        FileEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        /**
+         * Sets the value of this entry and writes it to the MappedHashMap.
+         * @param val the new value
+         * @return the previous value of this entry
+         */
+        @Override
+        public V setValue(V val)
+        {
+            V past = super.setValue(val);
+            put(getKey(), val);
+            return past;
+        }
+
+        /**
+         * Determines if o is a Map.Entry with an equal key and value.
+         * @param o the Object to check if this is equal to
+         * @return true if o is equal to this entry; otherwise false
+         */
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Map.Entry))
+                return false;
+
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        /**
+         * Returns a hash code for this entry, as specified by Map.Entry.
+         * @return the hash code of the key XOR the hash code of the value
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+    }
+
+    /**
+     * The EntryIterator class walks the slots of a MappedHashMap in order, decoding each
+     * full slot. It is fail-fast.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>>
+    {
+        private int nextSlot;
+        private int lastSlot;
+        private int expectedModCount;
+
+        /**
+         * Constructs an EntryIterator positioned at the first full slot.
+         */
+        EntryIterator()
+        {
+            checkOpen();
+            expectedModCount = modCount;
+            lastSlot = -1;
+            nextSlot = -1;
+            advance();
+        }
+
+        /**
+         * Moves nextSlot to the following full slot (or to capacity if there is none).
+         */
+        private void advance()
+        {
+            do
+            {
+                nextSlot++;
+            }
+            while (nextSlot < capacity && segment(nextSlot).get(offset(nextSlot)) != FULL);
+        }
+
+        /**
+         * Determines if the iteration has more elements.
+         * @return true if the iteration has more elements; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nextSlot < capacity;
+        }
+
+        /**
+         * Returns the next entry in the iteration.
+         * @return the next entry
+         * @throws NoSuchElementException if the iteration has no more elements
+         * @throws ConcurrentModificationException if the map was modified
+         */
+        public Map.Entry<K, V> next()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException("Modified MappedHashMap without "
+                        + "using Iterator methods");
+            if (!hasNext())
+                throw new NoSuchElementException("the iteration has no more elements");
+
+            lastSlot = nextSlot;
+            advance();
+
+            MappedByteBuffer seg = segment(lastSlot);
+            int pos = offset(lastSlot);
+            int keyLength = seg.getInt(pos + KEY_LENGTH_OFFSET);
+            seg.position(pos + KEY_OFFSET);
+            seg.get(readBuffer.array(), 0, keyLength);
+            readBuffer.clear();
+            readBuffer.limit(keyLength);
+            K key = keyCodec.read(readBuffer);
+
+            return new FileEntry(key, decode(seg, pos + valueLengthOffset, valueCodec));
+        }
+
+        /**
+         * Removes the entry last returned by next().
+         * @throws IllegalStateException if next has not been called since the last remove
+         */
+        public void remove()
+        {
+            if (lastSlot < 0)
+                throw new IllegalStateException("next method has not yet been called");
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException("Modified MappedHashMap without "
+                        + "using Iterator methods");
+
+            removeSlot(lastSlot);
+            lastSlot = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
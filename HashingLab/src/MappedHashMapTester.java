@@ -0,0 +1,242 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tester for MappedHashMap. Runs random operations against java.util.HashMap with String
+ * keys and Rectangle values, forcing several rehashes, then closes the file and reopens it
+ * to check that every entry was kept. Also grows a map from 16 slots through a long chain of
+ * rehashes, checking after each one that the file was replaced and can be reopened.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class MappedHashMapTester
+{
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 100000;
+    private static final int NUM_KEYS = 5000;
+    private static final int NUM_REHASH_KEYS = 20000;
+
+    /**
+     * A Codec that stores a Rectangle as its length and width.
+     */
+    private static final MappedHashMap.Codec<Rectangle> RECTANGLE = new MappedHashMap.Codec<Rectangle>()
+    {
+        public void write(Rectangle obj, ByteBuffer buffer)
+        {
+            buffer.putInt(obj.getLength());
+            buffer.putInt(obj.getWidth());
+        }
+
+        public Rectangle read(ByteBuffer buffer)
+        {
+            return new Rectangle(buffer.getInt(), buffer.getInt());
+        }
+    };
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     * @throws IOException if the temporary file cannot be used
+     */
+    public static void main(String[] args) throws IOException
+    {
+        Path dir = Files.createTempDirectory("mapped");
+        Path file = dir.resolve("rectangles.map");
+
+        Map<String, Rectangle> real = new HashMap<String, Rectangle>();
+        MappedHashMap<String, Rectangle> fake = open(file);
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            String key = "key" + random(NUM_KEYS);
+            Rectangle value = random(20) == 0 ? null : new Rectangle(random(4) + 1, random(3) + 1);
+
+            if (fake.containsKey(key) != real.containsKey(key))
+                throw new RuntimeException("containsKey(" + key + ") returned "
+                        + fake.containsKey(key) + " and should return " + real.containsKey(key));
+
+            int type = random(3);
+            Rectangle realRect;
+            Rectangle fakeRect;
+            if (type == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                realRect = real.put(key, value);
+                fakeRect = fake.put(key, value);
+            }
+            else if (type == 1)
+            {
+                debug("remove(" + key + ")");
+                realRect = real.remove(key);
+                fakeRect = fake.remove(key);
+            }
+            else
+            {
+                debug("get(" + key + ")");
+                realRect = real.get(key);
+                fakeRect = fake.get(key);
+            }
+
+            if (!Objects.equals(fakeRect, realRect))
+                throw new RuntimeException("operation on " + key + " returned " + fakeRect
+                        + " and should return " + realRect);
+            if (fake.size() != real.size())
+                throw new RuntimeException("size() returned " + fake.size() + " and should return "
+                        + real.size());
+        }
+
+        compare(real, fake);
+
+        fake.close();
+        fake = open(file);
+        compare(real, fake);
+        System.out.println("reopened " + fake.size() + " entries");
+
+        Iterator<Map.Entry<String, Rectangle>> it = fake.entrySet().iterator();
+        while (it.hasNext())
+        {
+            Map.Entry<String, Rectangle> entry = it.next();
+            if (random(2) == 0)
+            {
+                it.remove();
+                real.remove(entry.getKey());
+            }
+            else
+            {
+                Rectangle value = new Rectangle(7, 7);
+                entry.setValue(value);
+                real.put(entry.getKey(), value);
+            }
+        }
+        compare(real, fake);
+
+        fake.clear();
+        if (!fake.isEmpty() || fake.get("key0") != null)
+            throw new RuntimeException("clear() should remove every entry");
+
+        fake.close();
+        Files.deleteIfExists(file);
+
+        testRehashAndReopen(file);
+        System.out.println("MappedHashMap rehashes and reopens!");
+
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dir);
+
+        System.out.println("MappedHashMap works!");
+    }
+
+    /**
+     * Puts keys in order into a new map, so that it doubles from 16 slots many times. Every
+     * time the file grows, checks that no temporary file is left behind and that the replaced
+     * file reopens with every entry. Then removes most of the keys and keeps adding and
+     * removing new ones, so that the map rehashes without growing to clear out the
+     * tombstones, and reopens it again.
+     * @param file the file to hold the map (which must not exist yet)
+     * @throws IOException if the file cannot be used
+     */
+    private static void testRehashAndReopen(Path file) throws IOException
+    {
+        Path temp = file.resolveSibling(file.getFileName() + ".rehash");
+        Map<String, Rectangle> real = new HashMap<String, Rectangle>();
+        MappedHashMap<String, Rectangle> fake = open(file);
+        long fileSize = Files.size(file);
+        int rehashes = 0;
+
+        for (int i = 0; i < NUM_REHASH_KEYS; i++)
+        {
+            Rectangle value = new Rectangle(i % 5 + 1, i % 3 + 1);
+            real.put("key" + i, value);
+            fake.put("key" + i, value);
+
+            if (Files.size(file) != fileSize)
+            {
+                rehashes++;
+                fileSize = Files.size(file);
+                if (Files.exists(temp))
+                    throw new RuntimeException("rehash left " + temp + " behind");
+
+                fake.close();
+                fake = open(file);
+                compare(real, fake);
+            }
+        }
+        if (rehashes < 10)
+            throw new RuntimeException("the file grew " + rehashes + " times and should grow at least 10");
+
+        // keep few entries while leaving a trail of tombstones, which fills the free slots
+        // until the map rehashes at the same size to clear them out
+        for (int i = 0; i < NUM_REHASH_KEYS; i++)
+        {
+            if (i % 8 != 0)
+            {
+                real.remove("key" + i);
+                fake.remove("key" + i);
+            }
+        }
+        for (int i = NUM_REHASH_KEYS; i < 6 * NUM_REHASH_KEYS; i++)
+        {
+            Rectangle value = new Rectangle(1, i % 4 + 1);
+            real.put("key" + i, value);
+            fake.put("key" + i, value);
+            real.remove("key" + (i - 100));
+            fake.remove("key" + (i - 100));
+        }
+        if (Files.size(file) != fileSize)
+            throw new RuntimeException("clearing out tombstones should not grow the file");
+
+        fake.close();
+        fake = open(file);
+        compare(real, fake);
+        fake.close();
+    }
+
+    /**
+     * Opens the test map stored in file.
+     * @param file the file holding the map
+     * @return the opened MappedHashMap
+     * @throws IOException if the file cannot be opened
+     */
+    private static MappedHashMap<String, Rectangle> open(Path file) throws IOException
+    {
+        return new MappedHashMap<String, Rectangle>(file, MappedHashMap.STRING, 16, RECTANGLE, 8, 16);
+    }
+
+    /**
+     * Checks that a MappedHashMap holds exactly the same entries as a HashMap.
+     * @param real the expected entries
+     * @param fake the MappedHashMap to check
+     */
+    private static void compare(Map<String, Rectangle> real, MappedHashMap<String, Rectangle> fake)
+    {
+        if (!fake.equals(real) || !real.equals(fake))
+            throw new RuntimeException("MappedHashMap has " + fake.size() + " entries and should equal "
+                    + "the HashMap with " + real.size());
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
@@ -3,6 +3,12 @@ import java.util.*;
 /**
  * The MyHashMap<E> class imitates Java's built-in HashMap class. It uses hashing
  * to create a map that de-dupes and runs all frequently used operations in O(1) time.
+ * The number of buckets is always a power of two, and the buckets are doubled (and every
+ * entry rehashed) whenever the size exceeds the load factor times the number of buckets,
+ * so the chains stay short no matter how many entries are inserted.
+ * If many keys still land in the same bucket (because their hashCodes collide), that bucket
+ * is converted into a balanced tree ordered by hash and then by compareTo, so even a poor
+ * or adversarial hashCode makes lookups O(log n) instead of O(n).
  * @author Nelson Gou
  * @version 1/19/2022
  * @param <K> the type of key
@@ -10,35 +16,624 @@ import java.util.*;
  */
 public class MyHashMap<K, V> implements Map<K, V>
 {
-    private static final int NUM_BUCKETS = 5;
-    private LinkedList<MapEntry<K, V>>[] buckets;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+    private static final int MIN_TREEIFY_CAPACITY = 64;
+
+    private Node<K, V>[] buckets;
+    private TreeNode<K, V>[] trees;
+    private final boolean treeifyBuckets;
     private int size;
+    private int threshold;
+    private final float loadFactor;
+    private int modCount;
+
+    private long lookups;
+    private long probes;
+    private int rehashCount;
+    private long rehashNanos;
+
+    private Set<K> keySet;
+    private Collection<V> values;
+    private Set<Map.Entry<K, V>> entrySet;
 
     /**
-     * Constructs a MyHashMap.
+     * Constructs a MyHashMap with the default capacity (16) and load factor (0.75).
      * Initializes all buckets to null. Sets size to 0.
      */
     public MyHashMap()
     {
-        buckets = new LinkedList[NUM_BUCKETS];
-        for (int i=0; i<NUM_BUCKETS; i++)
-            buckets[i] = new LinkedList<MapEntry<K, V>>();
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a MyHashMap with the given initial capacity and the default load factor (0.75).
+     * @param initialCapacity the initial number of buckets, rounded up to a power of two
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyHashMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a MyHashMap with the given initial capacity and load factor.
+     * Initializes all buckets to null. Sets size to 0.
+     * @param initialCapacity the initial number of buckets, rounded up to a power of two
+     * @param loadFactor the maximum ratio of size to buckets before the buckets are doubled
+     * @throws IllegalArgumentException if initialCapacity is negative or loadFactor
+     *                                  is not positive
+     */
+    public MyHashMap(int initialCapacity, float loadFactor)
+    {
+        this(initialCapacity, loadFactor, true);
+    }
 
+    /**
+     * Constructs a MyHashMap with the given initial capacity and load factor.
+     * Initializes all buckets to null. Sets size to 0.
+     * @param initialCapacity the initial number of buckets, rounded up to a power of two
+     * @param loadFactor the maximum ratio of size to buckets before the buckets are doubled
+     * @param treeifyBuckets true if a bucket with more than 8 entries should be converted into
+     *                       a balanced tree; false to always keep buckets as chains
+     * @throws IllegalArgumentException if initialCapacity is negative or loadFactor
+     *                                  is not positive
+     */
+    public MyHashMap(int initialCapacity, float loadFactor, boolean treeifyBuckets)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("initial capacity is negative: " + initialCapacity);
+        if (!(loadFactor > 0))
+            throw new IllegalArgumentException("load factor is not positive: " + loadFactor);
+
+        this.loadFactor = loadFactor;
+        this.treeifyBuckets = treeifyBuckets;
+        int capacity = tableSizeFor(initialCapacity);
+        buckets = (Node<K, V>[]) new Node[capacity];
+        threshold = (int) Math.min(capacity * loadFactor, Integer.MAX_VALUE);
         size = 0;
     }
 
     /**
-     * Helper function that determines the index of the bucket where obj should be found.
-     * @param obj an Object to find the bucket for
-     * @return index of the bucket where obj should be found
+     * Helper function that rounds a requested capacity up to the nearest power of two.
+     * @param capacity the requested capacity
+     * @return the smallest power of two that is at least capacity (and at least 1)
+     */
+    private static int tableSizeFor(int capacity)
+    {
+        if (capacity >= MAXIMUM_CAPACITY)
+            return MAXIMUM_CAPACITY;
+
+        int n = 1;
+        while (n < capacity)
+            n <<= 1;
+
+        return n;
+    }
+
+    /**
+     * Helper function that computes the hash of a key. The high bits of the hashCode are
+     * folded into the low bits, since only the low bits are used to choose a bucket.
+     * @param key the key to hash (may be null)
+     * @return the spread hash of key
+     */
+    static int hash(Object key)
+    {
+        if (key == null)
+            return 0;
+
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Helper function that finds the Node with the given key.
+     * @param hash the hash of key, as returned by hash(key)
+     * @param key the key to search for
+     * @return the Node containing key if present; otherwise null
+     */
+    Node<K, V> getNode(int hash, Object key)
+    {
+        int index = hash & (buckets.length - 1);
+        lookups++;
+
+        if (trees != null && trees[index] != null)
+        {
+            return findTreeNode(trees[index], hash, key, true);
+        }
+
+        Node<K, V> node = buckets[index];
+
+        while (node != null)
+        {
+            probes++;
+            if (node.hash == hash && (node.key == key || (key != null && key.equals(node.key))))
+                return node;
+
+            node = node.next;
+        }
+
+        return null;
+    }
+
+    /**
+     * Doubles the number of buckets and moves every Node into its new bucket.
+     * Since the number of buckets is a power of two, each chain splits into a chain that
+     * stays at index i and a chain that moves to index i + (old number of buckets).
+     */
+    private void resize()
+    {
+        Node<K, V>[] old = buckets;
+        int oldCapacity = old.length;
+
+        if (oldCapacity >= MAXIMUM_CAPACITY)
+        {
+            threshold = Integer.MAX_VALUE;
+            return;
+        }
+
+        long start = System.nanoTime();
+        int newCapacity = oldCapacity << 1;
+        Node<K, V>[] table = (Node<K, V>[]) new Node[newCapacity];
+        TreeNode<K, V>[] oldTrees = trees;
+        if (oldTrees != null)
+            trees = (TreeNode<K, V>[]) new TreeNode[newCapacity];
+
+        for (int i=0; i<oldCapacity; i++)
+        {
+            Node<K, V> loHead = null, loTail = null;
+            Node<K, V> hiHead = null, hiTail = null;
+
+            for (Node<K, V> node = old[i]; node != null; node = node.next)
+            {
+                if ((node.hash & oldCapacity) == 0)
+                {
+                    if (loTail == null)
+                        loHead = node;
+                    else
+                        loTail.next = node;
+                    loTail = node;
+                }
+                else
+                {
+                    if (hiTail == null)
+                        hiHead = node;
+                    else
+                        hiTail.next = node;
+                    hiTail = node;
+                }
+            }
+
+            if (loTail != null)
+                loTail.next = null;
+            if (hiTail != null)
+                hiTail.next = null;
+
+            table[i] = loHead;
+            table[i + oldCapacity] = hiHead;
+
+            // a tree bucket splits into two buckets that are rebuilt as trees if still large
+            if (oldTrees != null && oldTrees[i] != null)
+            {
+                if (chainLength(loHead) > UNTREEIFY_THRESHOLD)
+                    trees[i] = buildTree(loHead);
+                if (chainLength(hiHead) > UNTREEIFY_THRESHOLD)
+                    trees[i + oldCapacity] = buildTree(hiHead);
+            }
+        }
+
+        buckets = table;
+        threshold = (int) Math.min(newCapacity * loadFactor, Integer.MAX_VALUE);
+
+        rehashCount++;
+        rehashNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Grows the buckets ahead of time so that expectedSize entries can be held
+     * without any further rehashing.
+     * @param expectedSize the number of entries this MyHashMap is expected to hold
+     */
+    void ensureCapacity(int expectedSize)
+    {
+        while (expectedSize > threshold && buckets.length < MAXIMUM_CAPACITY)
+            resize();
+    }
+
+    /**
+     * Helper function that counts the Nodes in a chain.
+     * @param node the first Node of the chain
+     * @return the number of Nodes in the chain
+     */
+    private static int chainLength(Node<?, ?> node)
+    {
+        int length = 0;
+        for (; node != null; node = node.next)
+            length++;
+
+        return length;
+    }
+
+    /**
+     * Converts the chain in the given bucket into a balanced tree. If there are still only a
+     * few buckets, doubling them is tried first, since that also shortens the chain unless
+     * the hashes truly collide.
+     * @param index the index of the bucket
+     */
+    private void treeifyBucket(int index)
+    {
+        if (buckets.length < MIN_TREEIFY_CAPACITY)
+        {
+            resize();
+            return;
+        }
+
+        // replace the chain with an equal chain of TreeNodes, linked in both directions
+        TreeNode<K, V> head = null;
+        TreeNode<K, V> tail = null;
+
+        for (Node<K, V> node = buckets[index]; node != null; node = node.next)
+        {
+            TreeNode<K, V> t = node instanceof TreeNode ? (TreeNode<K, V>) node
+                    : new TreeNode<K, V>(node.hash, node.key, node.value, null);
+            t.prev = tail;
+            if (tail == null)
+                head = t;
+            else
+                tail.next = t;
+            tail = t;
+        }
+        tail.next = null;
+
+        if (trees == null)
+            trees = (TreeNode<K, V>[]) new TreeNode[buckets.length];
+
+        buckets[index] = head;
+        trees[index] = buildTree(head);
+    }
+
+    /**
+     * Helper function that builds a balanced tree out of a chain of TreeNodes, also
+     * repairing the chain's prev links.
+     * @param head the first TreeNode of the chain
+     * @return the root of the tree
+     */
+    private static <K, V> TreeNode<K, V> buildTree(Node<K, V> head)
+    {
+        TreeNode<K, V> root = null;
+        TreeNode<K, V> prev = null;
+
+        for (Node<K, V> node = head; node != null; node = node.next)
+        {
+            TreeNode<K, V> t = (TreeNode<K, V>) node;
+            t.prev = prev;
+            root = treeInsert(root, t);
+            prev = t;
+        }
+
+        return root;
+    }
+
+    /**
+     * Helper function that compares two keys by compareTo, if that is possible.
+     * @param a the first key
+     * @param b the second key
+     * @return the result of a.compareTo(b) if a and b are Comparable objects of the same
+     *         class; otherwise 0
+     */
+    private static int compareComparables(Object a, Object b)
+    {
+        if (a == null || b == null || a.getClass() != b.getClass() || !(a instanceof Comparable))
+            return 0;
+
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * Helper function that gives the order of two TreeNodes in a tree: by hash, then by
+     * compareTo, then by class name and identity hash code, so that any two keys are ordered.
+     * @param a the first TreeNode
+     * @param b the second TreeNode
+     * @return a negative number if a belongs left of b; otherwise a positive number
+     */
+    private static int treeOrder(TreeNode<?, ?> a, TreeNode<?, ?> b)
+    {
+        if (a.hash != b.hash)
+            return a.hash < b.hash ? -1 : 1;
+
+        int dir = compareComparables(a.key, b.key);
+        if (dir != 0)
+            return dir;
+
+        String aClass = a.key == null ? "" : a.key.getClass().getName();
+        String bClass = b.key == null ? "" : b.key.getClass().getName();
+        dir = aClass.compareTo(bClass);
+        if (dir != 0)
+            return dir;
+
+        return System.identityHashCode(a.key) <= System.identityHashCode(b.key) ? -1 : 1;
+    }
+
+    /**
+     * Helper function that finds the TreeNode with the given key in a tree.
+     * Both subtrees are searched only when the hashes are equal and the keys
+     * cannot be told apart by compareTo.
+     * @param node the root of the tree
+     * @param hash the hash of key
+     * @param key the key to search for
+     * @param countProbes true to add one to probes for each TreeNode compared, as lookups do
+     * @return the TreeNode containing key if present; otherwise null
      */
-    private int toBucketIndex(Object obj)
+    private TreeNode<K, V> findTreeNode(TreeNode<K, V> node, int hash, Object key, boolean countProbes)
     {
-        return Math.abs(obj.hashCode()) % NUM_BUCKETS;
+        while (node != null)
+        {
+            if (countProbes)
+                probes++;
+
+            if (hash < node.hash)
+            {
+                node = node.left;
+            }
+            else if (hash > node.hash)
+            {
+                node = node.right;
+            }
+            else if (node.key == key || (key != null && key.equals(node.key)))
+            {
+                return node;
+            }
+            else if (node.left == null)
+            {
+                node = node.right;
+            }
+            else if (node.right == null)
+            {
+                node = node.left;
+            }
+            else
+            {
+                int dir = compareComparables(key, node.key);
+                if (dir != 0)
+                {
+                    node = dir < 0 ? node.left : node.right;
+                }
+                else
+                {
+                    TreeNode<K, V> found = findTreeNode(node.right, hash, key, countProbes);
+                    if (found != null)
+                        return found;
+
+                    node = node.left;
+                }
+            }
+        }
+
+        return null;
     }
 
     /**
-     * Returns the size of the MyHashMap (how many MapEntry objects are inside the all the buckets).
+     * Helper function that returns the height of a subtree.
+     * @param node the root of the subtree
+     * @return the height of the subtree (0 if empty)
+     */
+    private static int height(TreeNode<?, ?> node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Helper function that recomputes the height of a TreeNode from its children.
+     * @param node the TreeNode to update
+     */
+    private static void updateHeight(TreeNode<?, ?> node)
+    {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+    }
+
+    /**
+     * Helper function that rotates a subtree to the right.
+     * @param node the root of the subtree, which must have a left child
+     * @return the new root of the subtree (its parent link is left for the caller to set)
+     */
+    private static <K, V> TreeNode<K, V> rotateRight(TreeNode<K, V> node)
+    {
+        TreeNode<K, V> left = node.left;
+        node.left = left.right;
+        if (left.right != null)
+            left.right.parent = node;
+
+        left.right = node;
+        node.parent = left;
+        updateHeight(node);
+        updateHeight(left);
+        return left;
+    }
+
+    /**
+     * Helper function that rotates a subtree to the left.
+     * @param node the root of the subtree, which must have a right child
+     * @return the new root of the subtree (its parent link is left for the caller to set)
+     */
+    private static <K, V> TreeNode<K, V> rotateLeft(TreeNode<K, V> node)
+    {
+        TreeNode<K, V> right = node.right;
+        node.right = right.left;
+        if (right.left != null)
+            right.left.parent = node;
+
+        right.left = node;
+        node.parent = right;
+        updateHeight(node);
+        updateHeight(right);
+        return right;
+    }
+
+    /**
+     * Helper function that restores the AVL balance of a subtree whose children are balanced.
+     * @param node the root of the subtree
+     * @return the new root of the subtree (its parent link is left for the caller to set)
+     */
+    private static <K, V> TreeNode<K, V> balance(TreeNode<K, V> node)
+    {
+        updateHeight(node);
+        int factor = height(node.left) - height(node.right);
+
+        if (factor > 1)
+        {
+            if (height(node.left.left) < height(node.left.right))
+            {
+                node.left = rotateLeft(node.left);
+                node.left.parent = node;
+            }
+            return rotateRight(node);
+        }
+
+        if (factor < -1)
+        {
+            if (height(node.right.right) < height(node.right.left))
+            {
+                node.right = rotateRight(node.right);
+                node.right.parent = node;
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Helper function that rebalances every TreeNode from the given one up to the root.
+     * @param root the root of the tree
+     * @param node the lowest TreeNode that may be out of balance (may be null)
+     * @return the root of the tree
+     */
+    private static <K, V> TreeNode<K, V> rebalanceUp(TreeNode<K, V> root, TreeNode<K, V> node)
+    {
+        while (node != null)
+        {
+            TreeNode<K, V> parent = node.parent;
+            TreeNode<K, V> subtree = balance(node);
+            subtree.parent = parent;
+
+            if (parent == null)
+                root = subtree;
+            else if (parent.left == node)
+                parent.left = subtree;
+            else
+                parent.right = subtree;
+
+            node = parent;
+        }
+
+        return root;
+    }
+
+    /**
+     * Helper function that inserts a TreeNode into a tree.
+     * @param root the root of the tree (may be null)
+     * @param insert the TreeNode to insert
+     * @return the root of the tree
+     */
+    private static <K, V> TreeNode<K, V> treeInsert(TreeNode<K, V> root, TreeNode<K, V> insert)
+    {
+        insert.left = null;
+        insert.right = null;
+        insert.height = 1;
+
+        if (root == null)
+        {
+            insert.parent = null;
+            return insert;
+        }
+
+        TreeNode<K, V> node = root;
+        while (true)
+        {
+            boolean left = treeOrder(insert, node) < 0;
+            TreeNode<K, V> child = left ? node.left : node.right;
+
+            if (child == null)
+            {
+                insert.parent = node;
+                if (left)
+                    node.left = insert;
+                else
+                    node.right = insert;
+
+                return rebalanceUp(root, node);
+            }
+
+            node = child;
+        }
+    }
+
+    /**
+     * Helper function that removes a TreeNode from a tree. If the TreeNode has two
+     * children, its in-order successor is moved into its place.
+     * @param root the root of the tree
+     * @param delete the TreeNode to remove
+     * @return the root of the tree (null if it is now empty)
+     */
+    private static <K, V> TreeNode<K, V> treeDelete(TreeNode<K, V> root, TreeNode<K, V> delete)
+    {
+        TreeNode<K, V> parent = delete.parent;
+        TreeNode<K, V> replacement;
+        TreeNode<K, V> fixFrom;
+
+        if (delete.left == null || delete.right == null)
+        {
+            replacement = delete.left != null ? delete.left : delete.right;
+            if (replacement != null)
+                replacement.parent = parent;
+            fixFrom = parent;
+        }
+        else
+        {
+            replacement = delete.right;
+            while (replacement.left != null)
+                replacement = replacement.left;
+
+            if (replacement.parent != delete)
+            {
+                fixFrom = replacement.parent;
+                fixFrom.left = replacement.right;
+                if (replacement.right != null)
+                    replacement.right.parent = fixFrom;
+
+                replacement.right = delete.right;
+                delete.right.parent = replacement;
+            }
+            else
+            {
+                fixFrom = replacement;
+            }
+
+            replacement.left = delete.left;
+            delete.left.parent = replacement;
+            replacement.parent = parent;
+            replacement.height = delete.height;
+        }
+
+        if (parent == null)
+            root = replacement;
+        else if (parent.left == delete)
+            parent.left = replacement;
+        else
+            parent.right = replacement;
+
+        delete.left = null;
+        delete.right = null;
+        delete.parent = null;
+
+        return rebalanceUp(root, fixFrom);
+    }
+
+    /**
+     * Returns the size of the MyHashMap (how many entries are inside the all the buckets).
      * @return the size of the MyHashMap
      */
     @Override
@@ -65,13 +660,7 @@ public class MyHashMap<K, V> implements Map<K, V>
     @Override
     public boolean containsKey(Object key)
     {
-        for (MapEntry<K, V> elem: buckets[toBucketIndex(key)])
-        {
-            if (elem.getKey().equals(key))
-                return true;
-        }
-
-        return false;
+        return getNode(hash(key), key) != null;
     }
 
     /**
@@ -83,11 +672,11 @@ public class MyHashMap<K, V> implements Map<K, V>
     @Override
     public boolean containsValue(Object value)
     {
-        for (int i=0; i<NUM_BUCKETS; i++)
+        for (Node<K, V> bucket: buckets)
         {
-            for (MapEntry<K, V> entry: buckets[i])
+            for (Node<K, V> node = bucket; node != null; node = node.next)
             {
-                if (entry.getValue().equals(value))
+                if (Objects.equals(node.value, value))
                     return true;
             }
         }
@@ -96,26 +685,21 @@ public class MyHashMap<K, V> implements Map<K, V>
     }
 
     /**
-     * Returns the value that is mapped to the key, if the key exists inside the MyHashSet.
+     * Returns the value that is mapped to the key, if the key exists inside the MyHashMap.
      * If key is not present, returns null;
-     * @param key the key of the MapEntry whose value is being requested
+     * @param key the key of the entry whose value is being requested
      * @return the value that is mapped to key if it exists; if not present, returns null
      */
     @Override
     public V get(Object key)
     {
-        for (MapEntry<K, V> entry: buckets[toBucketIndex(key)])
-        {
-            if (entry.getKey().equals(key))
-                return entry.getValue();
-        }
-
-        return null;
+        Node<K, V> node = getNode(hash(key), key);
+        return node == null ? null : node.value;
     }
 
     /**
      * Inserts a key-value pair into the MyHashMap. If the key is already present, overrides
-     * the existing value and returns it. If not present, creates a new MapEntry and returns null.
+     * the existing value and returns it. If not present, creates a new entry and returns null.
      * @param key the key to be inserted
      * @param value the value to be inserted
      * @return if the key is already present, returns the value originally mapped
@@ -124,18 +708,64 @@ public class MyHashMap<K, V> implements Map<K, V>
     @Override
     public V put(K key, V value)
     {
-        for (MapEntry<K, V> entry: buckets[toBucketIndex(key)])
+        return putVal(hash(key), key, value);
+    }
+
+    /**
+     * Helper function that inserts a key-value pair whose hash is already known, probing
+     * the bucket only once.
+     * @param hash the hash of key, as returned by hash(key)
+     * @param key the key to be inserted
+     * @param value the value to be inserted
+     * @return if the key is already present, returns the value originally mapped
+     *         to it; otherwise null
+     */
+    V putVal(int hash, K key, V value)
+    {
+        int index = hash & (buckets.length - 1);
+
+        if (trees != null && trees[index] != null)
         {
-            if (entry.getKey().equals(key))
+            TreeNode<K, V> node = findTreeNode(trees[index], hash, key, false);
+            if (node != null)
             {
-                V old = entry.getValue();
-                entry.setValue(value);
+                V old = node.value;
+                node.value = value;
                 return old;
             }
+
+            TreeNode<K, V> insert = new TreeNode<K, V>(hash, key, value, buckets[index]);
+            ((TreeNode<K, V>) buckets[index]).prev = insert;
+            buckets[index] = insert;
+            trees[index] = treeInsert(trees[index], insert);
         }
+        else
+        {
+            int chainLength = 0;
+
+            for (Node<K, V> node = buckets[index]; node != null; node = node.next)
+            {
+                if (node.hash == hash && (node.key == key || (key != null && key.equals(node.key))))
+                {
+                    V old = node.value;
+                    node.value = value;
+                    return old;
+                }
+
+                chainLength++;
+            }
+
+            buckets[index] = new Node<K, V>(hash, key, value, buckets[index]);
+
+            if (treeifyBuckets && chainLength >= TREEIFY_THRESHOLD)
+                treeifyBucket(index);
+        }
+
+        modCount++;
+
+        if (++size > threshold)
+            resize();
 
-        buckets[toBucketIndex(key)].add(new MapEntry<K, V>(key, value));
-        size++;
         return null;
     }
 
@@ -147,99 +777,214 @@ public class MyHashMap<K, V> implements Map<K, V>
     @Override
     public V remove(Object key)
     {
-        ListIterator<MapEntry<K, V>> it = buckets[toBucketIndex(key)].listIterator();
+        Node<K, V> node = removeNode(hash(key), key);
+        return node == null ? null : node.value;
+    }
 
-        while (it.hasNext())
+    /**
+     * Helper function that unlinks the Node with the given key from its bucket.
+     * @param hash the hash of key, as returned by hash(key)
+     * @param key the key to be removed
+     * @return the removed Node if key was present; otherwise null
+     */
+    Node<K, V> removeNode(int hash, Object key)
+    {
+        int index = hash & (buckets.length - 1);
+
+        if (trees != null && trees[index] != null)
         {
-            MapEntry<K, V> entry = it.next();
+            TreeNode<K, V> node = findTreeNode(trees[index], hash, key, false);
+            if (node == null)
+                return null;
+
+            if (node.prev == null)
+                buckets[index] = node.next;
+            else
+                node.prev.next = node.next;
+            if (node.next != null)
+                ((TreeNode<K, V>) node.next).prev = node.prev;
 
-            if (entry.getKey().equals(key))
+            trees[index] = treeDelete(trees[index], node);
+
+            // a small tree goes back to being a chain (the TreeNodes still work as chain Nodes)
+            if (trees[index] == null || (trees[index].height <= 3
+                    && chainLength(buckets[index]) <= UNTREEIFY_THRESHOLD))
+                trees[index] = null;
+
+            size--;
+            modCount++;
+            return node;
+        }
+
+        Node<K, V> prev = null;
+
+        for (Node<K, V> node = buckets[index]; node != null; node = node.next)
+        {
+            if (node.hash == hash && (node.key == key || (key != null && key.equals(node.key))))
             {
-                it.remove();
+                if (prev == null)
+                    buckets[index] = node.next;
+                else
+                    prev.next = node.next;
+
                 size--;
-                return entry.getValue();
+                modCount++;
+                return node;
             }
+
+            prev = node;
         }
 
         return null;
     }
 
+    /**
+     * Returns the buckets, for classes that walk every Node (such as MyHashSet's bulk
+     * operations). Tree buckets are still linked as chains, so following next from each
+     * bucket reaches every Node.
+     * @return the array of buckets
+     */
+    Node<K, V>[] table()
+    {
+        return buckets;
+    }
+
+    /**
+     * Helper function that removes every Node whose key's presence in other differs from
+     * keep, reusing each Node's cached hash for the lookups in other.
+     * @param other the map whose keys are looked up
+     * @param keep true to keep the keys found in other; false to keep the keys not found
+     * @return true if any Node was removed; otherwise false
+     */
+    boolean retainNodes(MyHashMap<?, ?> other, boolean keep)
+    {
+        int oldSize = size;
+
+        for (int i=0; i<buckets.length; i++)
+        {
+            Node<K, V> node = buckets[i];
+            while (node != null)
+            {
+                // removing a Node leaves its next link intact, so save it either way
+                Node<K, V> next = node.next;
+                if ((other.getNode(node.hash, node.key) != null) != keep)
+                    removeNode(node.hash, node.key);
+                node = next;
+            }
+        }
+
+        return size != oldSize;
+    }
+
     /**
      * Inserts all values from the given map into this MyHashMap.
+     * The buckets are grown once up front instead of repeatedly while inserting.
      * @param m the map to be copied over
      */
     @Override
     public void putAll(Map<? extends K, ? extends V> m)
     {
-        for (K key: m.keySet())
-            put(key, m.get(key));
+        ensureCapacity(size + m.size());
+
+        for (Map.Entry<? extends K, ? extends V> entry: m.entrySet())
+            put(entry.getKey(), entry.getValue());
     }
 
     /**
-     * Clears all values in this MyHashMap. Deletes all MapEntry objects.
+     * Clears all values in this MyHashMap. Deletes all entries but keeps the current
+     * number of buckets.
      */
     @Override
     public void clear()
     {
-        for (int i=0; i<NUM_BUCKETS; i++)
-            buckets[i].clear();
-
+        Arrays.fill(buckets, null);
+        trees = null;
         size = 0;
+        modCount++;
     }
 
     /**
-     * Returns a Set containing the keys inside this MyHashMap.
-     * @return a Set containing the keys inside this MyHashMap
+     * Returns a Set view of the keys inside this MyHashMap. The view is backed by the
+     * buckets, so it reflects later changes and nothing is copied.
+     * @return a Set view of the keys inside this MyHashMap
      */
     @Override
     public Set<K> keySet()
     {
-        Set<K> s = new HashSet<K>();
+        if (keySet == null)
+            keySet = new KeySet();
 
-        for (int i=0; i<NUM_BUCKETS; i++)
-        {
-            for (MapEntry<K, V> entry: buckets[i])
-                s.add(entry.getKey());
-        }
-
-        return s;
+        return keySet;
     }
 
     /**
-     * Returns a Collection containing the values inside this MyHashMap.
-     * @return a Collection containing the values inside this MyHashMap
+     * Returns a Collection view of the values inside this MyHashMap, backed by the buckets.
+     * @return a Collection view of the values inside this MyHashMap
      */
     @Override
     public Collection<V> values()
     {
-        Collection<V> vals = new ArrayList<V>();
-
-        for (int i=0; i<NUM_BUCKETS; i++)
-        {
-            for (MapEntry<K, V> entry: buckets[i])
-                vals.add(entry.getValue());
-        }
+        if (values == null)
+            values = new Values();
 
-        return vals;
+        return values;
     }
 
     /**
-     * Returns a Set containing the Map.Entry objects (link a key to a value)
-     * inside this MyHashMap.
-     * @return a Set containing the Map.Entry objects inside this MyHashMap
+     * Returns a Set view of the Map.Entry objects (link a key to a value)
+     * inside this MyHashMap, backed by the buckets. Calling setValue on an entry
+     * changes the value in this MyHashMap.
+     * @return a Set view of the Map.Entry objects inside this MyHashMap
      */
     @Override
     public Set<Map.Entry<K, V>> entrySet()
     {
-        Set<Map.Entry<K, V>> entries = new HashSet<Map.Entry<K, V>>();
+        if (entrySet == null)
+            entrySet = new EntrySet();
+
+        return entrySet;
+    }
+
+    /**
+     * Returns a snapshot of how well the keys are spread across the buckets: the bucket-length
+     * histogram, the longest chain, the average number of entries compared per lookup,
+     * and how many times (and for how long) the buckets have been rehashed.
+     * The counters behind it are always kept, and cost one addition per entry compared;
+     * the histogram itself is only computed here, in O(number of buckets) time.
+     * @return a HashStats snapshot of this MyHashMap
+     */
+    public HashStats stats()
+    {
+        int[] histogram = new int[1];
+        int maxChainLength = 0;
+        int treeBuckets = 0;
 
-        for (int i=0; i<NUM_BUCKETS; i++)
+        for (int i=0; i<buckets.length; i++)
         {
-            for (Map.Entry<K, V> entry: buckets[i])
-                entries.add(entry);
+            int length = chainLength(buckets[i]);
+            if (length >= histogram.length)
+                histogram = Arrays.copyOf(histogram, Math.max(length + 1, histogram.length * 2));
+
+            histogram[length]++;
+            maxChainLength = Math.max(maxChainLength, length);
+
+            if (trees != null && trees[i] != null)
+                treeBuckets++;
         }
 
-        return entries;
+        return new HashStats(size, buckets.length, Arrays.copyOf(histogram, maxChainLength + 1),
+                treeBuckets, lookups, probes, rehashCount, rehashNanos);
+    }
+
+    /**
+     * Resets the lookup, probe, and rehash counters reported by stats() to 0.
+     */
+    public void resetStats()
+    {
+        lookups = 0;
+        probes = 0;
+        rehashCount = 0;
+        rehashNanos = 0;
     }
 
     /**
@@ -249,10 +994,494 @@ public class MyHashMap<K, V> implements Map<K, V>
     @Override
     public String toString()
     {
-        String s = "";
+        return bucketString(true);
+    }
+
+    /**
+     * Helper function that lists the non-empty buckets and their contents.
+     * @param withValues true to show each entry as key=value; false to show only the keys
+     * @return a String version of the buckets
+     */
+    String bucketString(boolean withValues)
+    {
+        StringBuilder s = new StringBuilder();
+
         for (int i = 0; i < buckets.length; i++)
-            if (buckets[i].size() > 0)
-                s += i + ":" + buckets[i] + " ";
-        return s;
+        {
+            if (buckets[i] != null)
+            {
+                s.append(i).append(":[");
+                for (Node<K, V> node = buckets[i]; node != null; node = node.next)
+                {
+                    if (withValues)
+                        s.append(node);
+                    else
+                        s.append(node.key);
+                    if (node.next != null)
+                        s.append(", ");
+                }
+                s.append("] ");
+            }
+        }
+
+        return s.toString();
+    }
+
+    /**
+     * The Node class is an entry of a MyHashMap. Along with the key and value, it stores
+     * the key's hash (so it never has to be recomputed) and the next Node in its bucket.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <K> the type of key to hold
+     * @param <V> the type of value to hold
+     */
+    static class Node<K, V> implements Map.Entry<K, V>
+    {
+        final int hash;
+        final K key;
+        V value;
+        Node<K, V> next;
+
+        /**
+         * Constructs a Node by initializing the hash, key, value, and next Node.
+         * @param hash the hash of key
+         * @param key the key for the entry
+         * @param value the initial value for the entry
+         * @param next the next Node in the same bucket
+         */
+        Node(int hash, K key, V value, Node<K, V> next)
+        {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        /**
+         * Getter for the key.
+         * @return the key in the entry
+         */
+        @Override
+        public K getKey()
+        {
+            return key;
+        }
+
+        /**
+         * Getter for the value.
+         * @return the value of the entry
+         */
+        @Override
+        public V getValue()
+        {
+            return value;
+        }
+
+        /**
+         * Setter for the value.
+         * @param val the value to set this entry's value to
+         * @return the previous value in the entry
+         */
+        @Override
+        public V setValue(V val)
+        {
+            V past = value;
+            value = val;
+            return past;
+        }
+
+        /**
+         * Determines if o is a Map.Entry with an equal key and value.
+         * @param o the Object to check if this is equal to
+         * @return true if o is equal to this Node; otherwise false
+         */
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Map.Entry))
+                return false;
+
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, other.getKey()) && Objects.equals(value, other.getValue());
+        }
+
+        /**
+         * Returns a hash code for this Node, as specified by Map.Entry.
+         * @return the hash code of the key XOR the hash code of the value
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        /**
+         * Returns a String version of this Node.
+         * @return a String version of this Node
+         */
+        @Override
+        public String toString()
+        {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The TreeNode class is a Node in a bucket that has been converted into a balanced (AVL)
+     * tree. It is still linked into the bucket's chain (in both directions), so iteration
+     * works the same way for every bucket.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <K> the type of key to hold
+     * @param <V> the type of value to hold
+     */
+    static final class TreeNode<K, V> extends Node<K, V>
+    {
+        TreeNode<K, V> parent;
+        TreeNode<K, V> left;
+        TreeNode<K, V> right;
+        TreeNode<K, V> prev;
+        int height;
+
+        /**
+         * Constructs a TreeNode that is not yet part of a tree.
+         * @param hash the hash of key
+         * @param key the key for the entry
+         * @param value the initial value for the entry
+         * @param next the next Node in the same bucket's chain
+         */
+        TreeNode(int hash, K key, V value, Node<K, V> next)
+        {
+            super(hash, key, value, next);
+            height = 1;
+        }
+    }
+
+    /**
+     * The KeySet class is a view of the keys of a MyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class KeySet extends AbstractSet<K>
+    {
+        /**
+         * Returns an iterator over the keys.
+         * @return an iterator over the keys
+         */
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator();
+        }
+
+        /**
+         * Returns the number of keys.
+         * @return the size of the MyHashMap
+         */
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        /**
+         * Determines if o is a key of the MyHashMap.
+         * @param o the Object to search for
+         * @return true if o is a key; otherwise false
+         */
+        @Override
+        public boolean contains(Object o)
+        {
+            return containsKey(o);
+        }
+
+        /**
+         * Removes the key o (and its value) from the MyHashMap.
+         * @param o the key to remove
+         * @return true if o was a key; otherwise false
+         */
+        @Override
+        public boolean remove(Object o)
+        {
+            return removeNode(hash(o), o) != null;
+        }
+
+        /**
+         * Removes every entry from the MyHashMap.
+         */
+        @Override
+        public void clear()
+        {
+            MyHashMap.this.clear();
+        }
+    }
+
+    /**
+     * The Values class is a view of the values of a MyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class Values extends AbstractCollection<V>
+    {
+        /**
+         * Returns an iterator over the values.
+         * @return an iterator over the values
+         */
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+
+        /**
+         * Returns the number of values.
+         * @return the size of the MyHashMap
+         */
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        /**
+         * Determines if o is a value of the MyHashMap.
+         * @param o the Object to search for
+         * @return true if o is a value; otherwise false
+         */
+        @Override
+        public boolean contains(Object o)
+        {
+            return containsValue(o);
+        }
+
+        /**
+         * Removes every entry from the MyHashMap.
+         */
+        @Override
+        public void clear()
+        {
+            MyHashMap.this.clear();
+        }
+    }
+
+    /**
+     * The EntrySet class is a view of the entries of a MyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>>
+    {
+        /**
+         * Returns an iterator over the entries.
+         * @return an iterator over the entries
+         */
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        /**
+         * Returns the number of entries.
+         * @return the size of the MyHashMap
+         */
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        /**
+         * Determines if o is an entry of the MyHashMap (its key is present and mapped to
+         * an equal value).
+         * @param o the Object to search for
+         * @return true if o is an entry; otherwise false
+         */
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Map.Entry))
+                return false;
+
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            Object key = e.getKey();
+            Node<K, V> node = getNode(hash(key), key);
+            return node != null && Objects.equals(node.value, e.getValue());
+        }
+
+        /**
+         * Removes the entry o from the MyHashMap if it is present.
+         * @param o the entry to remove
+         * @return true if o was an entry; otherwise false
+         */
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!contains(o))
+                return false;
+
+            Object key = ((Map.Entry<?, ?>) o).getKey();
+            removeNode(hash(key), key);
+            return true;
+        }
+
+        /**
+         * Removes every entry from the MyHashMap.
+         */
+        @Override
+        public void clear()
+        {
+            MyHashMap.this.clear();
+        }
+    }
+
+    /**
+     * The HashIterator class walks the buckets of a MyHashMap in order. It is fail-fast:
+     * changing the MyHashMap other than through this iterator makes the next call throw
+     * a ConcurrentModificationException.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private abstract class HashIterator
+    {
+        private int bucketIndex;
+        private Node<K, V> nextNode;
+        private Node<K, V> lastReturned;
+        private int expectedModCount;
+
+        /**
+         * Constructs a HashIterator positioned at the first entry.
+         */
+        HashIterator()
+        {
+            expectedModCount = modCount;
+            bucketIndex = 0;
+            nextNode = null;
+            advance();
+        }
+
+        /**
+         * Moves nextNode to the following entry, going to later buckets as needed.
+         */
+        private void advance()
+        {
+            Node<K, V>[] table = buckets;
+            Node<K, V> node = nextNode == null ? null : nextNode.next;
+
+            while (node == null && bucketIndex < table.length)
+                node = table[bucketIndex++];
+
+            nextNode = node;
+        }
+
+        /**
+         * Determines if the MyHashMap was modified without using this iterator.
+         * @throws ConcurrentModificationException if the MyHashMap was modified
+         */
+        private void checkForModException()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException("Modified MyHashMap without "
+                        + "using Iterator methods");
+        }
+
+        /**
+         * Determines if the iteration has more elements.
+         * @return true if the iteration has more elements; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nextNode != null;
+        }
+
+        /**
+         * Returns the next Node in the iteration.
+         * @return the next Node in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         * @throws ConcurrentModificationException if the MyHashMap was modified
+         */
+        Node<K, V> nextNode()
+        {
+            checkForModException();
+
+            if (nextNode == null)
+                throw new NoSuchElementException("the iteration has no more elements");
+
+            lastReturned = nextNode;
+            advance();
+            return lastReturned;
+        }
+
+        /**
+         * Removes the entry last returned by next().
+         * @throws IllegalStateException if the next method has not yet been called, or the remove
+         *                               method has already been called after the last call to
+         *                               the next method
+         * @throws ConcurrentModificationException if the MyHashMap was modified
+         */
+        public void remove()
+        {
+            if (lastReturned == null)
+                throw new IllegalStateException("next method has not yet been called");
+
+            checkForModException();
+            removeNode(lastReturned.hash, lastReturned.key);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * The KeyIterator class iterates over the keys of a MyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class KeyIterator extends HashIterator implements Iterator<K>
+    {
+        /**
+         * Returns the next key in the iteration.
+         * @return the next key in the iteration
+         */
+        @Override
+        public K next()
+        {
+            return nextNode().key;
+        }
+    }
+
+    /**
+     * The ValueIterator class iterates over the values of a MyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class ValueIterator extends HashIterator implements Iterator<V>
+    {
+        /**
+         * Returns the next value in the iteration.
+         * @return the next value in the iteration
+         */
+        @Override
+        public V next()
+        {
+            return nextNode().value;
+        }
+    }
+
+    /**
+     * The EntryIterator class iterates over the entries of a MyHashMap.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private final class EntryIterator extends HashIterator implements Iterator<Map.Entry<K, V>>
+    {
+        /**
+         * Returns the next entry in the iteration.
+         * @return the next entry in the iteration
+         */
+        @Override
+        public Map.Entry<K, V> next()
+        {
+            return nextNode();
+        }
     }
 }
@@ -3,46 +3,56 @@ import java.util.*;
 /**
  * The MyHashSet<E> class imitates Java's built-in HashSet class. It uses hashing
  * to create a set that de-dupes and runs all operations in O(1) time.
+ * Like Java's HashSet, it stores its elements as the keys of a MyHashMap, so it shares
+ * the MyHashMap's resizing and its conversion of overfull buckets into balanced trees.
+ * The bulk operations grow the buckets once up front, and when both sets are MyHashSets
+ * they walk one table directly, reusing each element's cached hash.
  * @param <E> the type of each element
  * @author Nelson Gou
  * @version 1/19/2022
  */
-public class MyHashSet<E>
+public class MyHashSet<E> extends AbstractSet<E> implements Set<E>
 {
-    private static final int NUM_BUCKETS = 5;
-    private LinkedList<E>[] buckets;
-    private int size;
+    private static final Object PRESENT = new Object();
+    private MyHashMap<E, Object> map;
 
     /**
      * Constructs a MyHashSet.
-     * Initializes all buckets as LinkedLists and sets size to 0.
+     * Creates an empty MyHashMap to hold the elements.
      */
     public MyHashSet()
     {
-        buckets = new LinkedList[NUM_BUCKETS];
-        for (int i=0; i<NUM_BUCKETS; i++)
-            buckets[i] = new LinkedList<E>();
+        map = new MyHashMap<E, Object>();
+    }
 
-        size = 0;
+    /**
+     * Constructs a MyHashSet with the given initial capacity.
+     * @param initialCapacity the initial number of buckets, rounded up to a power of two
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyHashSet(int initialCapacity)
+    {
+        map = new MyHashMap<E, Object>(initialCapacity);
     }
 
     /**
-     * Helper function that determines the index of the bucket where obj should be found.
-     * @param obj an Object to find the bucket for
-     * @return index of the bucket where obj should be found
+     * Constructs a MyHashSet containing the elements of a collection.
+     * @param c the collection whose elements are added
      */
-    private int toBucketIndex(Object obj)
+    public MyHashSet(Collection<? extends E> c)
     {
-        return Math.abs(obj.hashCode()) % NUM_BUCKETS;
+        this();
+        addAll(c);
     }
 
     /**
      * Returns the size of the MyHashSet (how many Objects inside the all the buckets).
      * @return the size of the MyHashSet
      */
+    @Override
     public int size()
     {
-        return size;
+        return map.size();
     }
 
     /**
@@ -50,9 +60,10 @@ public class MyHashSet<E>
      * @param obj the Object to test if it is contained
      * @return true if it is contained; otherwise false
      */
+    @Override
     public boolean contains(Object obj)
     {
-        return buckets[toBucketIndex(obj)].contains(obj);
+        return map.containsKey(obj);
     }
 
     /**
@@ -60,14 +71,10 @@ public class MyHashSet<E>
      * @param obj the specified object to add
      * @return false if obj is already present inside the MyHashSet; otherwise true
      */
+    @Override
     public boolean add(E obj)
     {
-        if (contains(obj))
-            return false;
-
-        buckets[toBucketIndex(obj)].add(obj);
-        size++;
-        return true;
+        return map.put(obj, PRESENT) == null;
     }
 
     /**
@@ -75,111 +82,172 @@ public class MyHashSet<E>
      * @param obj the specified object to remove
      * @return true if obj is already present inside the MyHashSet; otherwise false
      */
+    @Override
     public boolean remove(Object obj)
     {
-        ListIterator<E> it = buckets[toBucketIndex(obj)].listIterator();
+        return map.remove(obj) == PRESENT;
+    }
 
-        while (it.hasNext())
+    /**
+     * Removes every element, keeping the current number of buckets.
+     */
+    @Override
+    public void clear()
+    {
+        map.clear();
+    }
+
+    /**
+     * Adds every element of a collection that is not already present.
+     * The buckets are grown once up front instead of repeatedly while inserting.
+     * @param c the collection whose elements are added
+     * @return true if this MyHashSet changed; otherwise false
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c)
+    {
+        int oldSize = map.size();
+        map.ensureCapacity(oldSize + c.size());
+
+        if (c instanceof MyHashSet)
         {
-            if (it.next().equals(obj))
+            MyHashMap.Node<E, Object>[] table = ((MyHashSet<E>) c).map.table();
+            for (int i=0; i<table.length; i++)
             {
-                it.remove();
-                size--;
-                return true;
+                for (MyHashMap.Node<E, Object> node = table[i]; node != null; node = node.next)
+                    map.putVal(node.hash, node.key, PRESENT);
             }
         }
+        else
+        {
+            for (E obj: c)
+                map.put(obj, PRESENT);
+        }
 
-        return false;
+        return map.size() != oldSize;
     }
 
     /**
-     * Returns a String version of the MyHashSet.
-     * @return a String version of the MyHashSet
+     * Determines if every element of a collection is present.
+     * @param c the collection to check
+     * @return true if every element of c is present; otherwise false
      */
     @Override
-    public String toString()
+    public boolean containsAll(Collection<?> c)
     {
-        String s = "";
-        for (int i = 0; i < buckets.length; i++)
-            if (buckets[i].size() > 0)
-                s += i + ":" + buckets[i] + " ";
-        return s;
+        if (c instanceof MyHashSet)
+        {
+            MyHashMap.Node<?, Object>[] table = ((MyHashSet<?>) c).map.table();
+            for (int i=0; i<table.length; i++)
+            {
+                for (MyHashMap.Node<?, Object> node = table[i]; node != null; node = node.next)
+                {
+                    if (map.getNode(node.hash, node.key) == null)
+                        return false;
+                }
+            }
+
+            return true;
+        }
+
+        for (Object obj: c)
+        {
+            if (!map.containsKey(obj))
+                return false;
+        }
+
+        return true;
     }
 
     /**
-     * Returns an iterator for this MyHashSet.
-     * @return an iterator for this MyHashSet
+     * Removes every element that is not present in a collection.
+     * @param c the collection of elements to keep
+     * @return true if this MyHashSet changed; otherwise false
      */
-    public Iterator<E> iterator()
+    @Override
+    public boolean retainAll(Collection<?> c)
     {
-        return new MyHashSetIterator();
+        if (c instanceof MyHashSet)
+            return map.retainNodes(((MyHashSet<?>) c).map, true);
+
+        int oldSize = map.size();
+        for (Iterator<E> it = iterator(); it.hasNext(); )
+        {
+            if (!c.contains(it.next()))
+                it.remove();
+        }
+
+        return map.size() != oldSize;
     }
 
     /**
-     * The MyHashSetIterator is an iterator for a MyHashSet.
-     * @author Nelson Gou
-     * @version 1/31/2022
+     * Removes every element that is present in a collection. Walks whichever of the two
+     * is smaller.
+     * @param c the collection of elements to remove
+     * @return true if this MyHashSet changed; otherwise false
      */
-    private class MyHashSetIterator implements Iterator<E>
+    @Override
+    public boolean removeAll(Collection<?> c)
     {
-        private int bucketIndex;
-        private ListIterator<E> it;
-        private int elem;
-
-        /**
-         * Constructs a MyHashSetIterator.
-         * Initializes the bucketIndex to 0 and sets the iterator to null.
-         */
-        public MyHashSetIterator()
-        {
-            bucketIndex = 0;
-            elem = 0;
-            it = buckets[bucketIndex].listIterator();
-        }
+        int oldSize = map.size();
 
-        /**
-         * Determines if the iteration has more elements.
-         * @return true if the iteration has more elements; otherwise false
-         */
-        public boolean hasNext()
+        if (c instanceof MyHashSet)
         {
-            return elem < size;
-        }
+            MyHashSet<?> other = (MyHashSet<?>) c;
+            if (other.size() > map.size())
+                return map.retainNodes(other.map, false);
 
-        /**
-         * Returns the next element in the iteration.
-         * @return the next element in the iteration
-         * @throws NoSuchElementException if the iteration has no more elements
-         */
-        public E next()
+            MyHashMap.Node<?, Object>[] table = other.map.table();
+            for (int i=0; i<table.length; i++)
+            {
+                for (MyHashMap.Node<?, Object> node = table[i]; node != null; node = node.next)
+                    map.removeNode(node.hash, node.key);
+            }
+        }
+        else if (c.size() > map.size())
         {
-            if (!hasNext())
-                throw new NoSuchElementException("the iteration has no more elements");
-
-            if (!it.hasNext())
+            for (Iterator<E> it = iterator(); it.hasNext(); )
             {
-                bucketIndex++;
-
-                while (buckets[bucketIndex].isEmpty())
-                    bucketIndex++;
-
-                it = buckets[bucketIndex].listIterator();
+                if (c.contains(it.next()))
+                    it.remove();
             }
-
-            elem++;
-
-            return it.next();
         }
-
-        /**
-         * Removes the value last returned by next().
-         * @throws IllegalStateException if the next method has not yet been called, or the remove
-         *                               method has already been called after the last call to
-         *                               the next method
-         */
-        public void remove()
+        else
         {
-            it.remove();
+            for (Object obj: c)
+                map.remove(obj);
         }
+
+        return map.size() != oldSize;
+    }
+
+    /**
+     * Returns a snapshot of how well the elements are spread across the buckets.
+     * @return a HashStats snapshot of this MyHashSet
+     */
+    public HashStats stats()
+    {
+        return map.stats();
+    }
+
+    /**
+     * Returns a String version of the MyHashSet.
+     * @return a String version of the MyHashSet
+     */
+    @Override
+    public String toString()
+    {
+        return map.bucketString(false);
+    }
+
+    /**
+     * Returns an iterator for this MyHashSet. The iterator supports remove() and is
+     * fail-fast if the MyHashSet is changed some other way during the iteration.
+     * @return an iterator for this MyHashSet
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return map.keySet().iterator();
     }
-}
\ No newline at end of file
+}
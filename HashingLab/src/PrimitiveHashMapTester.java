@@ -0,0 +1,160 @@
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tester for IntHashMap and LongHashMap. Runs random operations against
+ * java.util.HashMap and checks that both maps always agree, including on the
+ * key 0 (which is stored outside the probing slots) and across rehashes.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class PrimitiveHashMapTester
+{
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 200000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        testIntHashMap(50);
+        testIntHashMap(5000);
+        System.out.println("IntHashMap works!");
+
+        testLongHashMap(50);
+        testLongHashMap(5000);
+        System.out.println("LongHashMap works!");
+    }
+
+    /**
+     * Runs random put/remove/get operations on an IntHashMap with keys in [-range, range).
+     * @param range the range of keys to use
+     */
+    private static void testIntHashMap(int range)
+    {
+        Map<Integer, Rectangle> real = new HashMap<Integer, Rectangle>();
+        IntHashMap<Rectangle> fake = new IntHashMap<Rectangle>(2);
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            int key = random(2 * range) - range;
+            Rectangle value = new Rectangle(random(4) + 1, random(3) + 1);
+
+            if (fake.containsKey(key) != real.containsKey(key))
+                throw new RuntimeException("containsKey(" + key + ") returned "
+                        + fake.containsKey(key) + " and should return " + real.containsKey(key));
+
+            int type = random(3);
+            Rectangle realRect;
+            Rectangle fakeRect;
+            if (type == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                realRect = real.put(key, value);
+                fakeRect = fake.put(key, value);
+            }
+            else if (type == 1)
+            {
+                debug("remove(" + key + ")");
+                realRect = real.remove(key);
+                fakeRect = fake.remove(key);
+            }
+            else
+            {
+                debug("get(" + key + ")");
+                realRect = real.get(key);
+                fakeRect = fake.get(key);
+            }
+
+            if (fakeRect != realRect)
+                throw new RuntimeException("operation on " + key + " returned " + fakeRect
+                        + " and should return " + realRect);
+            if (fake.size() != real.size())
+                throw new RuntimeException("size() returned " + fake.size()
+                        + " and should return " + real.size());
+        }
+
+        Map<Integer, Rectangle> walked = new HashMap<Integer, Rectangle>();
+        IntHashMap<Rectangle>.Cursor c = fake.cursor();
+        while (c.advance())
+        {
+            if (walked.put(c.key(), c.value()) != null)
+                throw new RuntimeException("cursor returned " + c.key() + " twice");
+        }
+        if (!walked.equals(real))
+            throw new RuntimeException("cursor returned " + walked + " and should return " + real);
+    }
+
+    /**
+     * Runs random put/remove/get operations on a LongHashMap with keys that differ
+     * only in their high 32 bits, so a poor hash would put them in the same slot.
+     * @param range the range of keys to use
+     */
+    private static void testLongHashMap(int range)
+    {
+        Map<Long, Rectangle> real = new HashMap<Long, Rectangle>();
+        LongHashMap<Rectangle> fake = new LongHashMap<Rectangle>(2);
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            long key = ((long) (random(2 * range) - range)) << 32;
+            Rectangle value = new Rectangle(random(4) + 1, random(3) + 1);
+
+            if (fake.containsKey(key) != real.containsKey(key))
+                throw new RuntimeException("containsKey(" + key + ") returned "
+                        + fake.containsKey(key) + " and should return " + real.containsKey(key));
+
+            int type = random(3);
+            Rectangle realRect;
+            Rectangle fakeRect;
+            if (type == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                realRect = real.put(key, value);
+                fakeRect = fake.put(key, value);
+            }
+            else if (type == 1)
+            {
+                debug("remove(" + key + ")");
+                realRect = real.remove(key);
+                fakeRect = fake.remove(key);
+            }
+            else
+            {
+                debug("get(" + key + ")");
+                realRect = real.get(key);
+                fakeRect = fake.get(key);
+            }
+
+            if (fakeRect != realRect)
+                throw new RuntimeException("operation on " + key + " returned " + fakeRect
+                        + " and should return " + realRect);
+            if (fake.size() != real.size())
+                throw new RuntimeException("size() returned " + fake.size()
+                        + " and should return " + real.size());
+        }
+
+        Map<Long, Rectangle> walked = new HashMap<Long, Rectangle>();
+        LongHashMap<Rectangle>.Cursor c = fake.cursor();
+        while (c.advance())
+        {
+            if (walked.put(c.key(), c.value()) != null)
+                throw new RuntimeException("cursor returned " + c.key() + " twice");
+        }
+        if (!walked.equals(real))
+            throw new RuntimeException("cursor returned " + walked + " and should return " + real);
+    }
+
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
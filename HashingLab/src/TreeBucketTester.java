@@ -0,0 +1,384 @@
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tester for the tree buckets of MyHashMap. Uses keys whose hashCodes collide on purpose,
+ * both Comparable ones (which the trees order by compareTo) and ones that are not Comparable
+ * (which the trees can only tell apart by searching both subtrees). Runs random operations on
+ * them against java.util.HashMap, checks with stats() that a bucket becomes a tree past 8
+ * entries and goes back to a chain at 6, that a resize splits a tree bucket correctly, and
+ * that a lookup in a tree bucket counts one probe per entry it compares.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class TreeBucketTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 100000;
+    private static final int NUM_KEYS = 500;
+    private static final int LARGE_TREE = 1000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        // every key in one bucket, then keys spread over only a few hashes
+        testRandom(true, 1);
+        testRandom(false, 1);
+        testRandom(true, 4);
+        testRandom(false, 4);
+        System.out.println("MyHashMap works with colliding keys!");
+
+        testTreeifyAndUntreeify(true);
+        testTreeifyAndUntreeify(false);
+        System.out.println("Buckets become trees past 8 entries and chains again at 6!");
+
+        testResize(true);
+        testResize(false);
+        System.out.println("Resizing splits tree buckets!");
+
+        testProbes();
+        System.out.println("Lookups in tree buckets count one probe per entry compared!");
+    }
+
+    /**
+     * Runs random operations on colliding keys against java.util.HashMap. The map starts with
+     * 16 buckets, so the buckets are doubled several times while they hold trees.
+     * @param comparable true to use Comparable keys; false to use keys that are not Comparable
+     * @param numHashes the number of different hashCodes the keys have
+     */
+    private static void testRandom(boolean comparable, int numHashes)
+    {
+        Map<Object, Integer> real = new HashMap<Object, Integer>();
+        MyHashMap<Object, Integer> fake = new MyHashMap<Object, Integer>();
+        boolean treeified = false;
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            Object key = key(comparable, random(NUM_KEYS), numHashes);
+            Integer value = random(1000);
+            int op = random(4);
+            Integer realVal;
+            Integer fakeVal;
+
+            if (op == 0)
+            {
+                debug("put(" + key + ", " + value + ")");
+                realVal = real.put(key, value);
+                fakeVal = fake.put(key, value);
+            }
+            else if (op == 1)
+            {
+                debug("remove(" + key + ")");
+                realVal = real.remove(key);
+                fakeVal = fake.remove(key);
+            }
+            else if (op == 2)
+            {
+                debug("get(" + key + ")");
+                realVal = real.get(key);
+                fakeVal = fake.get(key);
+            }
+            else
+            {
+                debug("containsKey(" + key + ")");
+                realVal = real.containsKey(key) ? 1 : 0;
+                fakeVal = fake.containsKey(key) ? 1 : 0;
+            }
+
+            if (!Objects.equals(fakeVal, realVal))
+                throw new RuntimeException("operation " + op + " on " + key + " returned " + fakeVal
+                        + " and should return " + realVal);
+            if (fake.size() != real.size())
+                throw new RuntimeException("size() returned " + fake.size() + " and should return "
+                        + real.size());
+
+            treeified |= fake.stats().getTreeBuckets() > 0;
+            if (i % 1000 == 0)
+                compare(real, fake);
+        }
+
+        if (!treeified)
+            throw new RuntimeException("no bucket was ever converted into a tree");
+        compare(real, fake);
+
+        // removing through the iterator must unlink the entry from its tree as well
+        Iterator<Object> it = fake.keySet().iterator();
+        while (it.hasNext())
+        {
+            Object key = it.next();
+            if (random(2) == 0)
+            {
+                it.remove();
+                real.remove(key);
+            }
+        }
+        compare(real, fake);
+    }
+
+    /**
+     * Puts keys with the same hashCode into one bucket until it becomes a tree, then removes
+     * them until it becomes a chain again. There are 64 buckets from the start, so the
+     * bucket is converted right away instead of the buckets being doubled first.
+     * @param comparable true to use Comparable keys; false to use keys that are not Comparable
+     */
+    private static void testTreeifyAndUntreeify(boolean comparable)
+    {
+        Map<Object, Integer> real = new HashMap<Object, Integer>();
+        MyHashMap<Object, Integer> fake = new MyHashMap<Object, Integer>(64);
+
+        for (int id = 0; id < 12; id++)
+        {
+            Object key = key(comparable, id, 1);
+            real.put(key, id);
+            fake.put(key, id);
+
+            // the ninth entry makes the chain longer than 8
+            checkTreeBuckets(fake, id < 8 ? 0 : 1);
+            compare(real, fake);
+        }
+
+        for (int id = 11; id >= 0; id--)
+        {
+            Object key = key(comparable, id, 1);
+            if (!Objects.equals(fake.remove(key), real.remove(key)))
+                throw new RuntimeException("remove(" + key + ") returned the wrong value");
+
+            // the tree becomes a chain once it is down to 6 entries
+            checkTreeBuckets(fake, id > 6 ? 1 : 0);
+            compare(real, fake);
+        }
+
+        if (fake.stats().getCapacity() != 64)
+            throw new RuntimeException("the buckets should not have been doubled");
+    }
+
+    /**
+     * Fills one bucket with two groups of keys whose hashCodes differ only in the bit that
+     * decides where they go when the buckets are doubled, then adds keys to other buckets
+     * until the buckets are doubled. The group that stays large must still be a tree, and
+     * the group left with fewer than 7 entries must become a chain.
+     * @param comparable true to use Comparable keys; false to use keys that are not Comparable
+     */
+    private static void testResize(boolean comparable)
+    {
+        Map<Object, Integer> real = new HashMap<Object, Integer>();
+        MyHashMap<Object, Integer> fake = new MyHashMap<Object, Integer>(64);
+
+        for (int id = 0; id < 17; id++)
+        {
+            // 12 keys hash to 0 and 5 keys to 64: the same bucket until there are 128 buckets
+            Object key = comparable ? new ComparableKey(id, id < 12 ? 0 : 64)
+                                    : new CollidingKey(id, id < 12 ? 0 : 64);
+            real.put(key, id);
+            fake.put(key, id);
+        }
+        checkTreeBuckets(fake, 1);
+
+        // odd hashCodes never land in bucket 0 or 64
+        for (int id = 17; fake.stats().getCapacity() == 64; id++)
+        {
+            Object key = comparable ? new ComparableKey(id, 2 * id + 1) : new CollidingKey(id, 2 * id + 1);
+            real.put(key, id);
+            fake.put(key, id);
+        }
+
+        checkTreeBuckets(fake, 1);
+        if (fake.stats().getHistogram()[12] != 1 || fake.stats().getHistogram()[5] != 1)
+            throw new RuntimeException("the tree bucket should split into buckets of 12 and 5 entries");
+        compare(real, fake);
+
+        // both halves grow back into trees
+        for (int id = 1000; id < 1005; id++)
+        {
+            Object key = comparable ? new ComparableKey(id, 64) : new CollidingKey(id, 64);
+            real.put(key, id);
+            fake.put(key, id);
+        }
+        checkTreeBuckets(fake, 2);
+        compare(real, fake);
+    }
+
+    /**
+     * Puts many Comparable keys with the same hashCode into one tree bucket and checks that
+     * the probes counted for looking each one up (and for missing keys) are between one and
+     * the greatest height of an AVL tree that size, since each lookup makes one descent.
+     */
+    private static void testProbes()
+    {
+        MyHashMap<Object, Integer> fake = new MyHashMap<Object, Integer>(64);
+        for (int id = 0; id < LARGE_TREE; id++)
+            fake.put(new ComparableKey(id, 7), id);
+        checkTreeBuckets(fake, 1);
+
+        int maxProbes = (int) (1.4405 * Math.log(LARGE_TREE + 2) / Math.log(2));
+        for (int id = -10; id < LARGE_TREE + 10; id++)
+        {
+            fake.resetStats();
+            Integer value = fake.get(new ComparableKey(id, 7));
+            if ((id >= 0 && id < LARGE_TREE) != (value != null))
+                throw new RuntimeException("get(" + id + ") returned " + value);
+
+            HashStats stats = fake.stats();
+            long probes = Math.round(stats.getAverageProbes() * stats.getLookups());
+            if (stats.getLookups() != 1 || probes < 1 || probes > maxProbes)
+                throw new RuntimeException("get(" + id + ") counted " + probes + " probes, but one "
+                        + "descent of the tree compares between 1 and " + maxProbes + " entries");
+        }
+    }
+
+    /**
+     * Checks the number of tree buckets reported by stats().
+     * @param fake the MyHashMap to check
+     * @param expected the number of buckets that should be trees
+     */
+    private static void checkTreeBuckets(MyHashMap<Object, Integer> fake, int expected)
+    {
+        int treeBuckets = fake.stats().getTreeBuckets();
+        if (treeBuckets != expected)
+            throw new RuntimeException("stats() reports " + treeBuckets + " tree buckets with "
+                    + fake.size() + " entries and should report " + expected);
+    }
+
+    /**
+     * Checks that a MyHashMap holds exactly the same entries as a HashMap, looking each one up
+     * and iterating over them.
+     * @param real the expected entries
+     * @param fake the MyHashMap to check
+     */
+    private static void compare(Map<Object, Integer> real, MyHashMap<Object, Integer> fake)
+    {
+        if (fake.size() != real.size() || !real.equals(fake))
+            throw new RuntimeException("MyHashMap has " + fake.size() + " entries and should equal "
+                    + "the HashMap with " + real.size());
+
+        int count = 0;
+        for (Map.Entry<Object, Integer> entry: fake.entrySet())
+        {
+            if (!entry.getValue().equals(real.get(entry.getKey())))
+                throw new RuntimeException("iterator returned " + entry + ", which should not be there");
+            count++;
+        }
+        if (count != real.size())
+            throw new RuntimeException("iterator returned " + count + " entries and should return "
+                    + real.size());
+    }
+
+    /**
+     * Makes a key whose hashCode is its id modulo numHashes.
+     * @param comparable true for a ComparableKey; false for a CollidingKey
+     * @param id the id of the key
+     * @param numHashes the number of different hashCodes to use
+     * @return the key
+     */
+    private static Object key(boolean comparable, int id, int numHashes)
+    {
+        if (comparable)
+            return new ComparableKey(id, id % numHashes);
+        return new CollidingKey(id, id % numHashes);
+    }
+
+    /**
+     * The CollidingKey class is a key with a chosen hashCode, so that many keys can be made to
+     * collide. Keys are equal if their ids are equal. It is not Comparable.
+     */
+    private static class CollidingKey
+    {
+        protected final int id;
+        private final int hash;
+
+        /**
+         * Constructs a CollidingKey.
+         * @param id the id that tells keys apart
+         * @param hash the hashCode of the key
+         */
+        public CollidingKey(int id, int hash)
+        {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        /**
+         * Determines if o is a key of the same class with the same id.
+         * @param o the Object to compare with
+         * @return true if o is equal to this key; otherwise false
+         */
+        @Override
+        public boolean equals(Object o)
+        {
+            return o != null && o.getClass() == getClass() && ((CollidingKey) o).id == id;
+        }
+
+        /**
+         * Returns the chosen hashCode.
+         * @return the hash given to the constructor
+         */
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        /**
+         * Returns the id and hash of the key.
+         * @return a String such as "17#4"
+         */
+        @Override
+        public String toString()
+        {
+            return id + "#" + hash;
+        }
+    }
+
+    /**
+     * The ComparableKey class is a CollidingKey that is ordered by its id.
+     */
+    private static class ComparableKey extends CollidingKey implements Comparable<ComparableKey>
+    {
+        /**
+         * Constructs a ComparableKey.
+         * @param id the id that tells keys apart and orders them
+         * @param hash the hashCode of the key
+         */
+        public ComparableKey(int id, int hash)
+        {
+            super(id, hash);
+        }
+
+        /**
+         * Compares the ids of two keys.
+         * @param other the key to compare with
+         * @return a negative number, zero, or a positive number as this id is less than,
+         *         equal to, or greater than other's
+         */
+        public int compareTo(ComparableKey other)
+        {
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
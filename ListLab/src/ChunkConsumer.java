@@ -0,0 +1,18 @@
+/**
+ * The ChunkConsumer interface receives the elements of a list a chunk at a time from
+ * forEachChunk. The same array is reused for every chunk, so a ChunkConsumer must copy out
+ * anything it wants to keep before it returns.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <E> Type of the elements
+ */
+public interface ChunkConsumer<E>
+{
+    /**
+     * Receives the next chunk of elements.
+     * @param chunk an array whose first length entries are the next elements, in order
+     *              (its entries are of type E)
+     * @param length the number of elements in this chunk
+     */
+    void accept(Object[] chunk, int length);
+}
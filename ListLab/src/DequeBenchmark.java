@@ -0,0 +1,239 @@
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Multi-producer/multi-consumer throughput benchmark for MyConcurrentLinkedDeque. Producers
+ * call offerLast and consumers call pollFirst (spinning while the deque is empty) until every
+ * item has been handed over. MyConcurrentLinkedDeque is measured next to
+ * java.util.concurrent.ConcurrentLinkedDeque, and next to a MyLinkedList guarded by a lock,
+ * which is how the producer/consumer work queue is shared today.
+ *
+ * Each measurement runs a few warmup rounds so the JIT compiler settles, then reports the
+ * median of the timed rounds, printed as CSV (one line per measurement).
+ *
+ * Usage: java DequeBenchmark [itemsPerProducer]
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class DequeBenchmark
+{
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Main method. Prints the CSV header and then one line per measurement.
+     * @param args optionally the number of items each producer offers (default 1000000)
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        int itemsPerProducer = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+
+        List<Supplier<Target>> targets = new ArrayList<Supplier<Target>>();
+        targets.add(() -> new MyDequeTarget());
+        targets.add(() -> new JavaDequeTarget());
+        targets.add(() -> new LockedListTarget());
+
+        System.out.println("structure,producers,consumers,items,nsPerItem,itemsPerSec");
+
+        for (int threads: THREAD_COUNTS)
+        {
+            for (Supplier<Target> supplier: targets)
+            {
+                double[] times = new double[MEASURED_ROUNDS];
+                for (int i = 0; i < WARMUP_ROUNDS; i++)
+                    run(supplier.get(), threads, itemsPerProducer);
+                for (int i = 0; i < MEASURED_ROUNDS; i++)
+                    times[i] = (double) run(supplier.get(), threads, itemsPerProducer) / (threads * itemsPerProducer);
+                Arrays.sort(times);
+
+                double nsPerItem = times[MEASURED_ROUNDS / 2];
+                System.out.println(supplier.get().name() + "," + threads + "," + threads + ","
+                        + (long) threads * itemsPerProducer + ","
+                        + String.format("%.2f,%.0f", nsPerItem, 1e9 / nsPerItem));
+            }
+        }
+    }
+
+    /**
+     * Helper function that runs one round: producers and consumers start together and the
+     * round ends when the consumers have taken every item.
+     * @param target the deque under test
+     * @param threads the number of producers, and also of consumers
+     * @param itemsPerProducer the number of items each producer offers
+     * @return the elapsed time in nanoseconds
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    private static long run(final Target target, int threads, final int itemsPerProducer)
+            throws InterruptedException
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger remaining = new AtomicInteger(threads * itemsPerProducer);
+        List<Thread> workers = new ArrayList<Thread>();
+
+        for (int i = 0; i < threads; i++)
+        {
+            workers.add(new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    await(start);
+                    for (int j = 0; j < itemsPerProducer; j++)
+                        target.offer(j);
+                }
+            }));
+            workers.add(new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    await(start);
+                    while (remaining.get() > 0)
+                    {
+                        if (target.poll() != null)
+                            remaining.decrementAndGet();
+                        else
+                            Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        for (Thread worker: workers)
+            worker.start();
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker: workers)
+            worker.join();
+        return System.nanoTime() - begin;
+    }
+
+    /**
+     * Helper function that waits for the start signal.
+     * @param start the latch that is released when the round begins
+     */
+    private static void await(CountDownLatch start)
+    {
+        try
+        {
+            start.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The Target interface gives every deque the same two operations, so each one is
+     * measured through the same calls.
+     */
+    private interface Target
+    {
+        /**
+         * Returns the name printed in the CSV.
+         * @return the name of the structure
+         */
+        String name();
+
+        /**
+         * Adds an item at the end.
+         * @param item the item to add
+         */
+        void offer(Integer item);
+
+        /**
+         * Removes the item at the front.
+         * @return the item, or null if there was none
+         */
+        Integer poll();
+    }
+
+    /**
+     * The MyDequeTarget class measures MyConcurrentLinkedDeque.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static class MyDequeTarget implements Target
+    {
+        private final MyConcurrentLinkedDeque<Integer> deque = new MyConcurrentLinkedDeque<Integer>();
+
+        @Override
+        public String name()
+        {
+            return "MyConcurrentLinkedDeque";
+        }
+
+        @Override
+        public void offer(Integer item)
+        {
+            deque.offerLast(item);
+        }
+
+        @Override
+        public Integer poll()
+        {
+            return deque.pollFirst();
+        }
+    }
+
+    /**
+     * The JavaDequeTarget class measures java.util.concurrent.ConcurrentLinkedDeque.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static class JavaDequeTarget implements Target
+    {
+        private final ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<Integer>();
+
+        @Override
+        public String name()
+        {
+            return "java.util.concurrent.ConcurrentLinkedDeque";
+        }
+
+        @Override
+        public void offer(Integer item)
+        {
+            deque.offerLast(item);
+        }
+
+        @Override
+        public Integer poll()
+        {
+            return deque.pollFirst();
+        }
+    }
+
+    /**
+     * The LockedListTarget class measures a MyLinkedList with a lock around every call.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static class LockedListTarget implements Target
+    {
+        private final MyLinkedList<Integer> list = new MyLinkedList<Integer>();
+
+        @Override
+        public String name()
+        {
+            return "synchronized MyLinkedList";
+        }
+
+        @Override
+        public synchronized void offer(Integer item)
+        {
+            list.addLast(item);
+        }
+
+        @Override
+        public synchronized Integer poll()
+        {
+            return list.size() == 0 ? null : list.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,351 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * DoubleArrayList is a version of MyArrayList that stores doubles directly in a double[]
+ * instead of boxing each one into a Double, which takes about a third of the memory and
+ * keeps the elements next to each other. It also sorts and binary searches the array in place.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class DoubleArrayList
+{
+    private int size;
+    private double[] values;
+    private int modCount;
+
+    /**
+     * Constructs a DoubleArrayList by setting size to 0 and creating an array of size 1.
+     */
+    public DoubleArrayList()
+    {
+        this(1);
+    }
+
+    /**
+     * Constructs a DoubleArrayList with room for initialCapacity elements.
+     * @param initialCapacity the initial length of the array
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public DoubleArrayList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        size = 0;
+        values = new double[initialCapacity];
+        modCount = 0;
+    }
+
+    /**
+     * Returns a string of comma separated values in the DoubleArrayList.
+     * @return String version of the DoubleArrayList
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size; i++)
+        {
+            if (i > 0)
+                s.append(", ");
+            s.append(values[i]);
+        }
+        return s.append("]").toString();
+    }
+
+    /**
+     * Returns the capacity of the internal array (not size).
+     * @return the length of the array
+     */
+    public int getCapacity()
+    {
+        return values.length;
+    }
+
+    /**
+     * Grows the array, if needed, so that it can hold at least minCapacity elements.
+     * @param minCapacity the number of elements the array must be able to hold
+     * @postcondition getCapacity() >= minCapacity
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity > values.length)
+        {
+            values = Arrays.copyOf(values, Math.max(values.length*2, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the array so that its length equals the size of the DoubleArrayList.
+     * @postcondition getCapacity() == size()
+     */
+    public void trimToSize()
+    {
+        if (size < values.length)
+        {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Returns the size of the DoubleArrayList (not array capacity).
+     * @return size of the DoubleArrayList
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Helper function that checks that index refers to an element.
+     * @param index the index to check
+     * @throws ArrayIndexOutOfBoundsException if index is not in [0, size)
+     */
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new ArrayIndexOutOfBoundsException("index " + index + " is out of range for size " + size);
+        }
+    }
+
+    /**
+     * Returns the value at the specified index.
+     * @precondition 0 <= index < size
+     * @param index requested index to retrieve
+     * @return the double located at index of the DoubleArrayList
+     */
+    public double get(int index)
+    {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Sets the value at the specified index to value.
+     * @precondition 0 <= index < size
+     * @param index the index to set the value to
+     * @param value the new value of the element
+     * @return the value of the element before setting the new value
+     */
+    public double set(int index, double value)
+    {
+        checkIndex(index);
+        double old = values[index];
+        values[index] = value;
+        return old;
+    }
+
+    /**
+     * Adds an element to the end of the DoubleArrayList.
+     * @postcondition appends value to end of list, increments size; returns true
+     * @param value value of the element to be added
+     * @return true
+     */
+    public boolean add(double value)
+    {
+        if (size >= values.length)
+        {
+            ensureCapacity(size + 1);
+        }
+
+        values[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds an element at the specified index and moves elements after it forward.
+     * @param index insertion index
+     * @param value value of the element to be inserted
+     * @precondition  0 <= index <= size
+     * @postcondition inserts value at position index,
+     *                moving elements at position index and higher
+     *                to the right (adds 1 to their indices) and adjusts size
+     */
+    public void add(int index, double value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new ArrayIndexOutOfBoundsException("index " + index + " is out of range for size " + size);
+        }
+
+        ensureCapacity(size + 1);
+        System.arraycopy(values, index, values, index+1, size-index);
+
+        values[index] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index (not the element equal to index).
+     * @param index index of the element to be removed
+     * @precondition 0 <= index < size
+     * @postcondition removes element from position index, moving elements
+     *                at position index + 1 and higher to the left
+     *                (subtracts 1 from their indices) and adjusts size
+     * @return value of the element prior to removal
+     */
+    public double remove(int index)
+    {
+        checkIndex(index);
+        double old = values[index];
+
+        size--;
+        modCount++;
+        System.arraycopy(values, index+1, values, index, size-index);
+
+        return old;
+    }
+
+    /**
+     * Returns the index of the first element equal to value. Values are compared like
+     * Double.equals, so NaN matches NaN and 0.0 does not match -0.0.
+     * @param value the value to search for
+     * @return the index of value, or -1 if it is not present
+     */
+    public int indexOf(double value)
+    {
+        for (int i=0; i<size; i++)
+        {
+            if (Double.compare(values[i], value) == 0)
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Determines if an element is equal to value.
+     * @param value the value to search for
+     * @return true if value is present; otherwise false
+     */
+    public boolean contains(double value)
+    {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns a new array containing the elements in order.
+     * @return a copy of the elements, with length size()
+     */
+    public double[] toArray()
+    {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Sorts the elements into ascending order, in place.
+     */
+    public void sort()
+    {
+        Arrays.sort(values, 0, size);
+        modCount++;
+    }
+
+    /**
+     * Searches for value in the elements, which must already be sorted.
+     * @param value the value to search for
+     * @return the index of value if present; otherwise (-(insertion point) - 1)
+     */
+    public int binarySearch(double value)
+    {
+        return Arrays.binarySearch(values, 0, size, value);
+    }
+
+    /**
+     * Returns a new Iterator for DoubleArrayList that returns unboxed doubles from nextDouble().
+     * @return a DoubleArrayListIterator
+     */
+    public PrimitiveIterator.OfDouble iterator()
+    {
+        return new DoubleArrayListIterator();
+    }
+
+    /**
+     * The DoubleArrayListIterator class is an Iterator for a DoubleArrayList.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class DoubleArrayListIterator implements PrimitiveIterator.OfDouble
+    {
+        private int nextIndex;
+        private int lastIndex;
+        private int expectedModCount;
+
+        /**
+         * Constructs a DoubleArrayListIterator with the nextIndex set to 0.
+         */
+        public DoubleArrayListIterator()
+        {
+            nextIndex = 0;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Determines if the DoubleArrayList was modified without using the Iterator.
+         * @throws ConcurrentModificationException if DoubleArrayList was modified without
+         *                                         using Iterator methods
+         */
+        private void checkForModException()
+        {
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("Modified DoubleArrayList without " +
+                                                          "using Iterator methods");
+            }
+        }
+
+        /**
+         * Determines if the iterator has a valid next element.
+         * @return true if there is a next element; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+
+        /**
+         * Returns the value of the next element without boxing it.
+         * @postcondition the Iterator moves forward by one element
+         * @return next double in the DoubleArrayList
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        public double nextDouble()
+        {
+            checkForModException();
+
+            if (!hasNext())
+            {
+                throw new NoSuchElementException("Iteration has no more elements");
+            }
+
+            lastIndex = nextIndex;
+            return values[nextIndex++];
+        }
+
+        /**
+         * Removes the element that was previously returned by nextDouble().
+         * @throws IllegalStateException if nextInt has not been called since the last remove
+         */
+        public void remove()
+        {
+            checkForModException();
+
+            if (lastIndex < 0)
+            {
+                throw new IllegalStateException("next method has not yet been called");
+            }
+
+            DoubleArrayList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+
+/**
+ * Tester for the export methods of MyArrayList and MyLinkedList: toString, writeTo, toArray,
+ * toArray(T[]) and forEachChunk. Checks them against java.util.ArrayList on random lists, and
+ * checks that toString of a 200,000-element list takes linear rather than quadratic time.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class ListExport_Tester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 500;
+    private static final int LARGE_SIZE = 200000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     * @throws IOException if writing to a StringWriter fails
+     */
+    public static void main(String[] args) throws IOException
+    {
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            MyArrayList<Integer> arrayList = new MyArrayList<Integer>();
+            MyLinkedList<Integer> linkedList = new MyLinkedList<Integer>();
+            ArrayList<Integer> real = new ArrayList<Integer>();
+            int size = random(300);
+            for (int j = 0; j < size; j++)
+            {
+                Integer value = random(3) == 0 ? null : random(1000);
+                arrayList.add(value);
+                linkedList.add(value);
+                real.add(value);
+            }
+            debug("size " + size);
+
+            int chunkSize = random(40) + 1;
+            check("MyArrayList", real, arrayList.toString(), export(arrayList::writeTo),
+                arrayList.toArray(), arrayList.toArray(new Integer[random(size + 2)]),
+                chunks(chunkSize, arrayList::forEachChunk));
+            check("MyLinkedList", real, linkedList.toString(), export(linkedList::writeTo),
+                linkedList.toArray(), linkedList.toArray(new Integer[random(size + 2)]),
+                chunks(chunkSize, linkedList::forEachChunk));
+        }
+        System.out.println("toString, writeTo, toArray and forEachChunk work!");
+
+        MyArrayList<Integer> arrayList = new MyArrayList<Integer>();
+        MyLinkedList<Integer> linkedList = new MyLinkedList<Integer>();
+        ArrayList<Integer> real = new ArrayList<Integer>();
+        for (int i = 0; i < LARGE_SIZE; i++)
+        {
+            arrayList.add(i);
+            linkedList.add(i);
+            real.add(i);
+        }
+
+        long start = System.nanoTime();
+        String arrayString = arrayList.toString();
+        String linkedString = linkedList.toString();
+        long millis = (System.nanoTime() - start) / 1000000;
+        debug("toString of " + LARGE_SIZE + " elements took " + millis + " ms");
+        if (!arrayString.equals(real.toString()) || !linkedString.equals(real.toString()))
+            throw new RuntimeException("toString of a large list doesn't match");
+        if (millis > 5000)
+            throw new RuntimeException("toString of " + LARGE_SIZE + " elements took " + millis +
+                " ms, so it probably isn't linear");
+
+        try
+        {
+            linkedList.forEachChunk(1000, (chunk, length) -> linkedList.add(0));
+            throw new RuntimeException("forEachChunk should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+        System.out.println("Large lists export in linear time!");
+    }
+
+    /**
+     * Checks a list's exports against a java.util.ArrayList.
+     * @param name the name of the list class
+     * @param real the expected elements
+     * @param string the list's toString()
+     * @param written what the list's writeTo wrote
+     * @param array the list's toArray()
+     * @param typed the list's toArray(T[])
+     * @param chunked the elements the list passed to forEachChunk
+     */
+    private static void check(String name, List<Integer> real, String string, String written,
+                              Object[] array, Integer[] typed, List<Object> chunked)
+    {
+        if (!string.equals(real.toString()))
+            throw new RuntimeException(name + ".toString() returned " + string + " and should return " + real);
+        if (!written.equals(real.toString()))
+            throw new RuntimeException(name + ".writeTo wrote " + written + " and should write " + real);
+        if (!Arrays.asList(array).equals(real))
+            throw new RuntimeException(name + ".toArray() returned " + Arrays.toString(array));
+
+        if (typed.length < real.size() || !Arrays.asList(typed).subList(0, real.size()).equals(real)
+                || (typed.length > real.size() && typed[real.size()] != null))
+            throw new RuntimeException(name + ".toArray(T[]) returned " + Arrays.toString(typed));
+
+        if (!chunked.equals(real))
+            throw new RuntimeException(name + ".forEachChunk passed " + chunked + " and should pass " + real);
+    }
+
+    /**
+     * Runs a writeTo method into a StringWriter.
+     * @param writer the writeTo method to run
+     * @return what was written
+     * @throws IOException if writing fails
+     */
+    private static String export(Writer writer) throws IOException
+    {
+        StringWriter out = new StringWriter();
+        writer.writeTo(out);
+        return out.toString();
+    }
+
+    /**
+     * Runs a forEachChunk method and collects the elements it passes, checking that no chunk
+     * is longer than chunkSize and that only the last chunk is short.
+     * @param chunkSize the chunk size to ask for
+     * @param chunker the forEachChunk method to run
+     * @return the elements passed, in order
+     */
+    private static List<Object> chunks(int chunkSize, Chunker chunker)
+    {
+        List<Object> elements = new ArrayList<Object>();
+        int[] shortChunks = {0};
+        chunker.forEachChunk(chunkSize, (chunk, length) ->
+        {
+            if (length > chunkSize || length <= 0)
+                throw new RuntimeException("forEachChunk passed a chunk of length " + length);
+            if (shortChunks[0] > 0)
+                throw new RuntimeException("forEachChunk passed a short chunk before the last one");
+            if (length < chunkSize)
+                shortChunks[0]++;
+            for (int i = 0; i < length; i++)
+                elements.add(chunk[i]);
+        });
+        return elements;
+    }
+
+    /**
+     * The Writer interface is a list's writeTo method.
+     */
+    private interface Writer
+    {
+        /**
+         * Writes the list to out.
+         * @param out where to write
+         * @throws IOException if writing fails
+         */
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    /**
+     * The Chunker interface is a list's forEachChunk method.
+     */
+    private interface Chunker
+    {
+        /**
+         * Passes the list's elements to consumer in chunks.
+         * @param chunkSize the most elements in one chunk
+         * @param consumer receives the chunks
+         */
+        void forEachChunk(int chunkSize, ChunkConsumer<Object> consumer);
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
@@ -0,0 +1,215 @@
+import java.util.*;
+
+/**
+ * Tester for the ListIterators of MyArrayList and MyLinkedList. Runs random
+ * next/previous/add/remove/set calls against ArrayList's ListIterator, then checks that
+ * several iterators can be live over the same list: set() and reads leave all of them
+ * valid, while a structural change through one iterator invalidates the others.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class ListIterator_Tester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 2500;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        for (int round = 0; round < 20; round++)
+        {
+            MyArrayList<Integer> arrayList = new MyArrayList<Integer>();
+            MyLinkedList<Integer> linkedList = new MyLinkedList<Integer>();
+            for (int i = 0; i < 100; i++)
+            {
+                arrayList.add(i);
+                linkedList.add(i);
+            }
+
+            int start = random(101);
+            testRandom(arrayList.listIterator(start), arrayList, start);
+            testRandom(linkedList.listIterator(start), linkedList, start);
+        }
+        System.out.println("Your list iterators match java.util's!");
+
+        MyArrayList<Integer> arrayList = new MyArrayList<Integer>();
+        MyLinkedList<Integer> linkedList = new MyLinkedList<Integer>();
+        for (int i = 0; i < 10; i++)
+        {
+            arrayList.add(i);
+            linkedList.add(i);
+        }
+
+        testLiveIterators(arrayList.listIterator(), arrayList.listIterator(3), arrayList.iterator(),
+            () -> arrayList.set(5, -5), () -> arrayList.add(0, 0));
+        testLiveIterators(linkedList.listIterator(), linkedList.listIterator(3), linkedList.iterator(),
+            () -> linkedList.set(5, -5), () -> linkedList.add(0, 0));
+        System.out.println("Several iterators can be live at once!");
+    }
+
+    /**
+     * Runs random ListIterator calls on a list and on a java.util.ArrayList.
+     * @param yourIt the ListIterator under test
+     * @param your the list yourIt iterates over, holding 0 through 99
+     * @param start the index yourIt started at
+     */
+    private static void testRandom(ListIterator<Integer> yourIt, Object your, int start)
+    {
+        ArrayList<Integer> real = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++)
+            real.add(i);
+        ListIterator<Integer> realIt = real.listIterator(start);
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            int op = random(6);
+            Integer value = random(1000);
+            String call;
+            Object yourResult = null;
+            Object realResult = null;
+
+            if (op == 0 && realIt.hasNext())
+            {
+                call = "next()";
+                realResult = realIt.next();
+                yourResult = yourIt.next();
+            }
+            else if (op == 1 && realIt.hasPrevious())
+            {
+                call = "previous()";
+                realResult = realIt.previous();
+                yourResult = yourIt.previous();
+            }
+            else if (op == 2)
+            {
+                call = "add(" + value + ")";
+                realIt.add(value);
+                yourIt.add(value);
+            }
+            else if (op == 3)
+            {
+                call = "remove()";
+                realResult = tryRun(() -> realIt.remove());
+                yourResult = tryRun(() -> yourIt.remove());
+            }
+            else if (op == 4)
+            {
+                call = "set(" + value + ")";
+                realResult = tryRun(() -> realIt.set(value));
+                yourResult = tryRun(() -> yourIt.set(value));
+            }
+            else
+            {
+                call = "nextIndex()";
+                realResult = realIt.nextIndex() + " " + realIt.previousIndex() + " " + realIt.hasNext();
+                yourResult = yourIt.nextIndex() + " " + yourIt.previousIndex() + " " + yourIt.hasNext();
+            }
+
+            debug(call);
+            if (!Objects.equals(yourResult, realResult))
+                throw new RuntimeException(call + " returned " + yourResult + " and should return " + realResult);
+            if (!your.toString().equals(real.toString()))
+                throw new RuntimeException(call + " left the list as " + your + " and it should be " + real);
+        }
+    }
+
+    /**
+     * Checks that three iterators over one list stay valid through a set() call and reads,
+     * and that a structural change invalidates every iterator except the one that made it.
+     * @param first a ListIterator at index 0
+     * @param second a ListIterator at index 3
+     * @param third an Iterator at index 0
+     * @param setCall a call to the list's set method
+     * @param addCall a structural change made directly on the list
+     */
+    private static void testLiveIterators(ListIterator<Integer> first, ListIterator<Integer> second,
+                                          Iterator<Integer> third, Runnable setCall, Runnable addCall)
+    {
+        check("first.next()", first.next(), 0);
+        check("second.next()", second.next(), 3);
+        check("third.next()", third.next(), 0);
+        setCall.run();
+        check("second.previous()", second.previous(), 3);
+        check("first.next()", first.next(), 1);
+        check("second.next()", second.next(), 3);
+        check("second.next()", second.next(), 4);
+        check("third.next()", third.next(), 1);
+        check("third.next()", third.next(), 2);
+
+        // a structural change through one iterator leaves that iterator valid
+        second.remove();
+        check("second.next()", second.next(), -5);
+        expectCME("first.next()", () -> first.next());
+        expectCME("third.hasNext()", () -> third.hasNext());
+
+        second.add(99);
+        check("second.previous()", second.previous(), 99);
+        addCall.run();
+        expectCME("second.next()", () -> second.next());
+    }
+
+    /**
+     * Checks that a call returned the expected element.
+     * @param call the call that was made
+     * @param yours the element it returned
+     * @param expected the element it should have returned
+     */
+    private static void check(String call, Integer yours, Integer expected)
+    {
+        if (!Objects.equals(yours, expected))
+            throw new RuntimeException(call + " returned " + yours + " and should return " + expected);
+    }
+
+    /**
+     * Checks that a call throws ConcurrentModificationException.
+     * @param call the call being made
+     * @param run the call to run
+     */
+    private static void expectCME(String call, Runnable run)
+    {
+        if (!"ConcurrentModificationException".equals(tryRun(run)))
+            throw new RuntimeException(call + " should throw ConcurrentModificationException");
+    }
+
+    /**
+     * Runs a call and returns the name of the exception it threw, if any.
+     * @param call the call to run
+     * @return the simple name of the exception class, or null if none was thrown
+     */
+    private static String tryRun(Runnable call)
+    {
+        try
+        {
+            call.run();
+            return null;
+        }
+        catch (RuntimeException e)
+        {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
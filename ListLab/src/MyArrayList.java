@@ -1,7 +1,17 @@
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * MyArrayList is an implementation of the ArrayList class provided by Java.
@@ -9,7 +19,7 @@ import java.util.NoSuchElementException;
  * @version 10/11/2021
  * @param <E> Type of the ArrayList
  */
-public class MyArrayList<E>
+public class MyArrayList<E> implements Iterable<E>
 {
     private int size;
     private Object[] values;
@@ -25,6 +35,22 @@ public class MyArrayList<E>
         modCount = 0;
     }
 
+    /**
+     * Constructs a MyArrayList with room for initialCapacity elements, so that adding up to
+     * that many elements never has to grow the array.
+     * @param initialCapacity the initial length of the array
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyArrayList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        size = 0;
+        values = new Object[initialCapacity];
+        modCount = 0;
+    }
+
     /**
      * Returns a string of comma separated values in the ArrayList.
      * @return String version of the ArrayList
@@ -32,13 +58,96 @@ public class MyArrayList<E>
     @Override
     public String toString()
     {
-        if (size == 0)
-            return "[]";
+        // room for short elements, capped so a huge list neither overflows nor over-reserves
+        StringBuilder s = new StringBuilder(2 + 8 * Math.min(size, 1 << 16));
+        try
+        {
+            writeTo(s);
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e); // a StringBuilder never throws
+        }
+        return s.toString();
+    }
+
+    /**
+     * Writes the ArrayList, formatted like toString(), to out one element at a time, so that
+     * a large ArrayList can be written to a log or file without building one big String.
+     * @param out where to write the elements
+     * @throws IOException if out throws one
+     */
+    public void writeTo(Appendable out) throws IOException
+    {
+        out.append('[');
+        for (int i=0; i<size; i++)
+        {
+            if (i > 0)
+                out.append(", ");
+            out.append(String.valueOf(values[i]));
+        }
+        out.append(']');
+    }
+
+    /**
+     * Returns an array holding the elements of the ArrayList, in order.
+     * @return a new array of length size()
+     */
+    public Object[] toArray()
+    {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Copies the elements of the ArrayList, in order, into an array of a's type, using a
+     * itself if it is long enough.
+     * @param a the array to fill, if it is long enough
+     * @param <T> the component type of the array
+     * @postcondition if a is longer than size(), a[size()] is null
+     * @return a, or a new array of a's type and length size() if a was too short
+     * @throws ArrayStoreException if an element is not a T
+     */
+    public <T> T[] toArray(T[] a)
+    {
+        if (a.length < size)
+        {
+            a = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+        }
 
-        String s = "[";
-        for (int i = 0; i < size - 1; i++)
-            s += values[i] + ", ";
-        return s + values[size - 1] + "]";
+        System.arraycopy(values, 0, a, 0, size);
+        if (a.length > size)
+        {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Hands the elements of the ArrayList to consumer in chunks of up to chunkSize elements,
+     * copied through one reused buffer. This exports the whole ArrayList in O(n) time while
+     * never allocating more than a chunkSize array.
+     * @param chunkSize the most elements to pass in one chunk
+     * @param consumer receives each chunk in order
+     * @throws IllegalArgumentException if chunkSize is not positive
+     * @throws ConcurrentModificationException if consumer changes the ArrayList's structure
+     */
+    public void forEachChunk(int chunkSize, ChunkConsumer<? super E> consumer)
+    {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+
+        int expectedModCount = modCount;
+        Object[] chunk = new Object[Math.min(chunkSize, size)];
+        for (int start=0; start<size; start+=chunkSize)
+        {
+            int length = Math.min(chunkSize, size-start);
+            System.arraycopy(values, start, chunk, 0, length);
+            consumer.accept(chunk, length);
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("Modified ArrayList during forEachChunk");
+            }
+        }
     }
 
     /**
@@ -49,14 +158,33 @@ public class MyArrayList<E>
      */
     private void doubleCapacity()
     {
-        Object[] newValues = new Object[values.length*2];
+        values = Arrays.copyOf(values, Math.max(values.length*2, 1));
+    }
 
-        for (int i=0; i<values.length; i++)
+    /**
+     * Grows the array, if needed, so that it can hold at least minCapacity elements.
+     * The array at least doubles each time it grows, so a series of adds stays amortized O(1).
+     * @param minCapacity the number of elements the array must be able to hold
+     * @postcondition getCapacity() >= minCapacity
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity > values.length)
         {
-            newValues[i] = values[i];
+            values = Arrays.copyOf(values, Math.max(values.length*2, minCapacity));
         }
+    }
 
-        values = newValues;
+    /**
+     * Shrinks the array so that its length equals the size of the ArrayList.
+     * @postcondition getCapacity() == size()
+     */
+    public void trimToSize()
+    {
+        if (size < values.length)
+        {
+            values = Arrays.copyOf(values, size);
+        }
     }
 
     /**
@@ -97,7 +225,8 @@ public class MyArrayList<E>
      * Sets the value at the specified index to obj.
      * @precondition index must be less than the size of the ArrayList
      * @postcondition replaces the element at position index with obj
-     *                returns the element formerly at the specified position
+     *                returns the element formerly at the specified position;
+     *                this is not a structural change, so iterators stay valid
      * @param index the index to set the value to
      * @param obj the object to set the element to
      * @return the value of the element before setting the new value
@@ -106,7 +235,6 @@ public class MyArrayList<E>
     {
         E old = (E) values[index];
         values[index] = obj;
-        modCount++;
         return old;
     }
 
@@ -139,14 +267,58 @@ public class MyArrayList<E>
             doubleCapacity();
         }
 
-        for (int i=size-1; i>=index; i--)
+        System.arraycopy(values, index, values, index+1, size-index);
+
+        values[index] = obj;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds every element of a collection to the end of the ArrayList, in the order
+     * returned by its iterator. The array grows at most once.
+     * @param c the collection whose elements are added
+     * @postcondition appends the elements of c and adjusts size
+     * @return true if the ArrayList changed; otherwise false
+     */
+    public boolean addAll(Collection<? extends E> c)
+    {
+        return addAll(size, c);
+    }
+
+    /**
+     * Inserts every element of a collection at the specified index, in the order returned
+     * by its iterator. The elements after index are shifted right once, by c.size() places.
+     * @param index insertion index of the first element of c
+     * @param c the collection whose elements are inserted
+     * @precondition  0 <= index <= size
+     * @postcondition inserts the elements of c starting at position index,
+     *                moving elements at position index and higher
+     *                to the right (adds c.size() to their indices) and adjusts size
+     * @return true if the ArrayList changed; otherwise false
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean addAll(int index, Collection<? extends E> c)
+    {
+        if (index < 0 || index > size)
         {
-            values[i+1] = values[i];
+            throw new IndexOutOfBoundsException("index " + index + " is out of range for size " + size);
         }
 
-        set(index, obj);
-        size++;
+        Object[] added = c.toArray();
+        int count = added.length;
+        if (count == 0)
+        {
+            return false;
+        }
+
+        ensureCapacity(size + count);
+        System.arraycopy(values, index, values, index+count, size-index);
+        System.arraycopy(added, 0, values, index, count);
+
+        size += count;
         modCount++;
+        return true;
     }
 
     /**
@@ -167,12 +339,159 @@ public class MyArrayList<E>
         size--;
         modCount++;
 
-        for (int i=index; i<size; i++)
+        System.arraycopy(values, index+1, values, index, size-index);
+        values[size] = null; // let the garbage collector reclaim the removed element
+
+        return old;
+    }
+
+    /**
+     * Removes the elements from fromIndex (inclusive) to toIndex (exclusive).
+     * The elements after toIndex are shifted left once, by toIndex - fromIndex places.
+     * @param fromIndex index of the first element to remove
+     * @param toIndex index after the last element to remove
+     * @precondition 0 <= fromIndex <= toIndex <= size
+     * @postcondition removes the elements in the range, moving elements at position toIndex
+     *                and higher to the left (subtracts toIndex - fromIndex from their indices)
+     *                and adjusts size
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
         {
-            values[i] = values[i+1];
+            throw new IndexOutOfBoundsException("range [" + fromIndex + ", " + toIndex +
+                                                ") is out of bounds for size " + size);
         }
 
-        return old;
+        if (fromIndex == toIndex)
+        {
+            return;
+        }
+
+        System.arraycopy(values, toIndex, values, fromIndex, size-toIndex);
+
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(values, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Performs an action on each element of the ArrayList, in order, reading the array directly.
+     * @param action the action to perform on each element
+     * @throws ConcurrentModificationException if action changes the ArrayList's structure
+     */
+    @Override
+    public void forEach(Consumer<? super E> action)
+    {
+        int expectedModCount = modCount;
+        Object[] array = values;
+        int end = size;
+        for (int i=0; i<end && modCount == expectedModCount; i++)
+        {
+            action.accept((E) array[i]);
+        }
+
+        if (modCount != expectedModCount)
+        {
+            throw new ConcurrentModificationException("Modified ArrayList during forEach");
+        }
+    }
+
+    /**
+     * Removes every element that satisfies filter in a single pass, sliding the survivors
+     * down over the removed elements.
+     * @param filter returns true for elements to remove
+     * @postcondition no remaining element satisfies filter and the survivors keep their order;
+     *                if filter throws or changes the ArrayList's structure, the elements not
+     *                yet tested are kept
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if filter changes the ArrayList's structure
+     */
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        int expectedModCount = modCount;
+        int write = 0;
+        int read = 0;
+        try
+        {
+            // stop sliding elements down as soon as filter changes the structure
+            for (; read<size && modCount == expectedModCount; read++)
+            {
+                Object value = values[read];
+                if (!filter.test((E) value))
+                {
+                    values[write] = value;
+                    write++;
+                }
+            }
+
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("Modified ArrayList during removeIf");
+            }
+        }
+        finally
+        {
+            if (read < size)
+            {
+                // filter threw or changed the structure: keep everything from read onward
+                System.arraycopy(values, read, values, write, size-read);
+                write += size-read;
+            }
+
+            if (write < size)
+            {
+                Arrays.fill(values, write, size, null);
+                size = write;
+                modCount++;
+            }
+        }
+
+        return read != write;
+    }
+
+    /**
+     * Replaces each element with the result of applying operator to it, in a single pass.
+     * @param operator the function to apply to each element
+     * @postcondition each element has been replaced; like set, this is not a structural change
+     */
+    public void replaceAll(UnaryOperator<E> operator)
+    {
+        for (int i=0; i<size; i++)
+        {
+            values[i] = operator.apply((E) values[i]);
+        }
+    }
+
+    /**
+     * Returns a Spliterator over the ArrayList that splits its range in half, so that
+     * parallel streams can work on separate slices of the array.
+     * @return a MyArrayListSpliterator over every element
+     */
+    @Override
+    public Spliterator<E> spliterator()
+    {
+        return new MyArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Returns a sequential Stream of the elements in the ArrayList.
+     * @return a sequential Stream over the ArrayList
+     */
+    public Stream<E> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel Stream of the elements in the ArrayList.
+     * @return a parallel Stream over the ArrayList
+     */
+    public Stream<E> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
     }
 
     /**
@@ -181,7 +500,7 @@ public class MyArrayList<E>
      */
     public Iterator<E> iterator()
     {
-        return new MyArrayListIterator();
+        return new MyArrayListIterator(0);
     }
 
     /**
@@ -190,38 +509,61 @@ public class MyArrayList<E>
      */
     public ListIterator<E> listIterator()
     {
-        return new MyArrayListListIterator();
+        return new MyArrayListListIterator(0);
+    }
+
+    /**
+     * Returns a new ListIterator for MyArrayList that starts at the specified index.
+     * @param index index of the first element to be returned by next()
+     * @precondition  0 <= index <= size
+     * @return a MyArrayListListIterator positioned before the element at index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public ListIterator<E> listIterator(int index)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return new MyArrayListListIterator(index);
     }
 
     /**
      * The MyArrayListIterator class is an Iterator for a MyArrayList.
+     * Each iterator records the list's modCount when it is created and compares it
+     * against the list on every call, so any number of iterators can be live at once.
      * @author Nelson Gou
      * @version 10/11/2021
      */
     private class MyArrayListIterator implements Iterator<E>
     {
-        private int nextIndex;
+        protected int cursor;
+        protected int lastReturned;
+        protected int expectedModCount;
 
         /**
-         * Constructs a MyArrayListIterator with the nextIndex set to 0.
+         * Constructs a MyArrayListIterator with the cursor set to index.
+         * @param index index of the first element to be returned by next()
          */
-        public MyArrayListIterator()
+        public MyArrayListIterator(int index)
         {
-            nextIndex = 0;
-            modCount = 0;
+            cursor = index;
+            lastReturned = -1;
+            expectedModCount = modCount;
         }
 
         /**
-         * Determines if the ArrayList was modified without using the Iterator.
+         * Determines if the ArrayList was modified without using this Iterator.
          * Called whenever an Iterator method is used.
          * @throws ConcurrentModificationException if ArrayList was modified without
-         *                                         using Iterator methods
+         *                                         using this Iterator's methods
          */
-        private void checkForModException()
+        protected void checkForModException()
         {
-            if (modCount > 0)
+            if (modCount != expectedModCount)
             {
-                throw new ConcurrentModificationException("Modified ArrayList without" +
+                throw new ConcurrentModificationException("Modified ArrayList without " +
                                                           "using Iterator methods");
             }
         }
@@ -233,7 +575,7 @@ public class MyArrayList<E>
         public boolean hasNext()
         {
             checkForModException();
-            return nextIndex < size;
+            return cursor < size;
         }
 
         /**
@@ -246,32 +588,36 @@ public class MyArrayList<E>
         {
             checkForModException();
 
-            if (!hasNext())
+            if (cursor >= size)
             {
                 throw new NoSuchElementException("Iteration has no more elements");
             }
 
-            E val = get(nextIndex);
-            nextIndex++;
-            return val;
+            lastReturned = cursor;
+            cursor++;
+            return (E) values[lastReturned];
         }
 
         /**
-         * Removes the element that was previously returned by next().
-         * @postcondition removes the last element that was returned by next
-         * @throws IllegalStateException if the next method has not yet been called
+         * Removes the element that was last returned by next() (or previous()).
+         * @postcondition removes the last returned element; this iterator stays valid
+         *                while other iterators over the list become invalid
+         * @throws IllegalStateException if no element has been returned since the
+         *                               last call to remove or add
          */
         public void remove()
         {
             checkForModException();
 
-            if (nextIndex == 0)
+            if (lastReturned < 0)
             {
                 throw new IllegalStateException("next method has not yet been called");
             }
 
-            MyArrayList.this.remove(nextIndex-1);
-            modCount--; // un-increment from remove call by iterator
+            MyArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
         }
     }
 
@@ -282,56 +628,13 @@ public class MyArrayList<E>
      */
     private class MyArrayListListIterator extends MyArrayListIterator implements ListIterator<E>
     {
-        private int nextIndex;
-        private int previousIndex;
-        private boolean forward;
-
         /**
          * Constructs a new MyArrayListListIterator.
+         * @param index index of the first element to be returned by next()
          */
-        public MyArrayListListIterator()
+        public MyArrayListListIterator(int index)
         {
-            nextIndex = 0;
-            previousIndex = -1;
-            forward = true;
-            modCount = 0;
-        }
-
-        /**
-         * Determines if the ArrayList was modified without using the ListIterator.
-         * Called whenever an ListIterator method is used.
-         * @throws ConcurrentModificationException if ArrayList was modified without
-         *                                         using ListIterator methods
-         */
-        private void checkForModException()
-        {
-            if (modCount > 0)
-            {
-                throw new ConcurrentModificationException("Modified ArrayList without" +
-                        " using ListIterator methods");
-            }
-        }
-
-        /**
-         * Returns next element and moves pointer forward.
-         * @postcondition the ListIterator moves forward by one element
-         * @return next Object in MyArrayList
-         * @throws NoSuchElementException if the iteration has no next element
-         */
-        @Override
-        public E next()
-        {
-            checkForModException();
-
-            if (!hasNext())
-            {
-                throw new NoSuchElementException("Iteration has no next elements");
-            }
-
-            forward = true;
-            previousIndex++;
-            nextIndex++;
-            return super.next();
+            super(index);
         }
 
         /**
@@ -343,11 +646,10 @@ public class MyArrayList<E>
         {
             checkForModException();
 
-            MyArrayList.this.add(nextIndex, obj);
-            previousIndex++;
-            nextIndex++;
-
-            modCount--; // un-increment from add call by ListIterator
+            MyArrayList.this.add(cursor, obj);
+            cursor++;
+            lastReturned = -1;
+            expectedModCount = modCount;
         }
 
         /**
@@ -358,7 +660,7 @@ public class MyArrayList<E>
         public boolean hasPrevious()
         {
             checkForModException();
-            return previousIndex >= 0;
+            return cursor > 0;
         }
 
         /**
@@ -371,18 +673,14 @@ public class MyArrayList<E>
         {
             checkForModException();
 
-            if (!hasPrevious())
+            if (cursor <= 0)
             {
                 throw new NoSuchElementException("Iteration has no previous element");
             }
 
-            forward = false;
-            E val = get(previousIndex);
-            previousIndex--;
-            nextIndex--;
-            modCount--; // un-increment from remove call by iterator
-
-            return val;
+            cursor--;
+            lastReturned = cursor;
+            return (E) values[lastReturned];
         }
 
         /**
@@ -393,7 +691,7 @@ public class MyArrayList<E>
         public int nextIndex()
         {
             checkForModException();
-            return nextIndex;
+            return cursor;
         }
 
         /**
@@ -404,61 +702,155 @@ public class MyArrayList<E>
         public int previousIndex()
         {
             checkForModException();
-            return previousIndex;
+            return cursor-1;
         }
 
         /**
-         * Removes element that was returned by next() or previous().
-         * @postcondition removes the last returned element from the MyArrayList
+         * Sets of the value that was returned by next() or previous().
+         * @param obj new value for the element
+         * @postcondition sets the value of the previously returned element
          * @throws IllegalStateException if neither next nor previous have been called
          */
-        @Override
-        public void remove()
+        public void set(E obj)
         {
             checkForModException();
 
-            if (nextIndex <= 0 || previousIndex >= size)
+            if (lastReturned < 0)
             {
                 throw new IllegalStateException("neither next nor previous have been called");
             }
 
-            if (forward)
+            values[lastReturned] = obj;
+        }
+    }
+
+    /**
+     * The MyArrayListSpliterator class is a Spliterator over a range of a MyArrayList's array.
+     * The end of the range is fixed the first time the Spliterator is used (late binding),
+     * and the ArrayList's modCount is checked once a traversal is done.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class MyArrayListSpliterator implements Spliterator<E>
+    {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        /**
+         * Constructs a MyArrayListSpliterator over [origin, fence).
+         * @param origin index of the first element
+         * @param fence index after the last element, or -1 to use size at first use
+         * @param expectedModCount the modCount the range was taken at (ignored if fence is -1)
+         */
+        public MyArrayListSpliterator(int origin, int fence, int expectedModCount)
+        {
+            index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Returns the end of the range, binding it to the current size on first use.
+         * @return index after the last element covered
+         */
+        private int getFence()
+        {
+            if (fence < 0)
             {
-                super.remove();
+                fence = size;
+                expectedModCount = modCount;
             }
-            else
+            return fence;
+        }
+
+        /**
+         * Splits off the first half of the remaining range.
+         * @postcondition this Spliterator covers the second half
+         * @return a Spliterator over the first half, or null if fewer than two elements remain
+         */
+        public Spliterator<E> trySplit()
+        {
+            int hi = getFence();
+            int mid = (index + hi) >>> 1;
+            if (index >= mid)
             {
-                MyArrayList.this.remove(previousIndex+1);
+                return null;
             }
 
-            modCount--; // un-increment from remove call by ListIterator
+            Spliterator<E> prefix = new MyArrayListSpliterator(index, mid, expectedModCount);
+            index = mid;
+            return prefix;
         }
 
         /**
-         * Sets of the value that was returned by next() or previous().
-         * @param obj new value for the element
-         * @postcondition sets the value of the previously returned element
-         * @throws IllegalStateException if neither next nor previous have been called
+         * Performs action on the next element, if any.
+         * @param action the action to perform
+         * @return false if no elements remain; otherwise true
+         * @throws ConcurrentModificationException if the ArrayList's structure has changed
          */
-        public void set(E obj)
+        public boolean tryAdvance(Consumer<? super E> action)
         {
-            checkForModException();
+            int hi = getFence();
+            if (index >= hi)
+            {
+                return false;
+            }
 
-            if (nextIndex == 0 || previousIndex >= size)
+            E value = (E) values[index];
+            index++;
+            action.accept(value);
+            if (modCount != expectedModCount)
             {
-                throw new IllegalStateException("neither next nor previous have been called");
+                throw new ConcurrentModificationException("Modified ArrayList during traversal");
+            }
+            return true;
+        }
+
+        /**
+         * Performs action on each remaining element, reading the array in one tight loop.
+         * @param action the action to perform
+         * @throws ConcurrentModificationException if the ArrayList's structure has changed
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super E> action)
+        {
+            int hi = getFence();
+            Object[] array = values;
+            int i = index;
+            index = hi;
+            if (hi > array.length)
+            {
+                throw new ConcurrentModificationException("Modified ArrayList during traversal");
             }
 
-            if (forward)
+            for (; i<hi; i++)
             {
-                MyArrayList.this.set(nextIndex-1, obj);
+                action.accept((E) array[i]);
             }
-            else
+
+            if (modCount != expectedModCount)
             {
-                MyArrayList.this.set(previousIndex+1, obj);
+                throw new ConcurrentModificationException("Modified ArrayList during traversal");
             }
+        }
+
+        /**
+         * Returns the number of elements left to traverse.
+         * @return the size of the remaining range
+         */
+        public long estimateSize()
+        {
+            return getFence() - index;
+        }
 
-            modCount--; // un-increment from remove call by iterator
+        /**
+         * Returns the characteristics of this Spliterator.
+         * @return ORDERED, SIZED and SUBSIZED
+         */
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+import java.util.*;
+
+/**
+ * Tester for the capacity and bulk methods of MyArrayList. Runs random add, remove, addAll,
+ * removeRange, ensureCapacity and trimToSize calls against java.util.ArrayList and checks
+ * that both lists always agree.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class MyArrayList_BulkTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 100000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        MyArrayList<Integer> your = new MyArrayList<Integer>(0);
+        ArrayList<Integer> real = new ArrayList<Integer>();
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            int op = random(6);
+            if (op == 0)
+            {
+                int index = random(real.size() + 1);
+                Integer value = random(100);
+                debug("add(" + index + ", " + value + ")");
+                real.add(index, value);
+                your.add(index, value);
+            }
+            else if (op == 1 && real.size() > 0)
+            {
+                int index = random(real.size());
+                debug("remove(" + index + ")");
+                Integer realValue = real.remove(index);
+                Integer yourValue = your.remove(index);
+                if (!realValue.equals(yourValue))
+                    throw new RuntimeException("remove(" + index + ") returned " + yourValue +
+                        " and should return " + realValue);
+            }
+            else if (op == 2)
+            {
+                List<Integer> added = randomList();
+                int index = random(real.size() + 1);
+                debug("addAll(" + index + ", " + added + ")");
+                boolean realBool = real.addAll(index, added);
+                boolean yourBool = your.addAll(index, added);
+                if (realBool != yourBool)
+                    throw new RuntimeException("addAll(" + index + ", " + added + ") returned " + yourBool +
+                        " and should return " + realBool);
+            }
+            else if (op == 3)
+            {
+                List<Integer> added = randomList();
+                debug("addAll(" + added + ")");
+                real.addAll(added);
+                your.addAll(added);
+            }
+            else if (op == 4)
+            {
+                int from = random(real.size() + 1);
+                int to = from + random(real.size() - from + 1);
+                debug("removeRange(" + from + ", " + to + ")");
+                real.subList(from, to).clear();
+                your.removeRange(from, to);
+            }
+            else
+            {
+                if (random(2) == 0)
+                {
+                    debug("trimToSize()");
+                    your.trimToSize();
+                    if (your.getCapacity() != real.size())
+                        throw new RuntimeException("Capacity is " + your.getCapacity() +
+                            " after trimToSize() and should be " + real.size());
+                }
+                else
+                {
+                    int minCapacity = random(2 * real.size() + 10);
+                    debug("ensureCapacity(" + minCapacity + ")");
+                    your.ensureCapacity(minCapacity);
+                    if (your.getCapacity() < minCapacity)
+                        throw new RuntimeException("Capacity is " + your.getCapacity() +
+                            " after ensureCapacity(" + minCapacity + ")");
+                }
+            }
+
+            if (real.size() > 1000)
+            {
+                real.subList(500, real.size()).clear();
+                your.removeRange(500, your.size());
+            }
+
+            if (your.size() != real.size())
+                throw new RuntimeException("Size is " + your.size() + " and should be " + real.size());
+            if (!your.toString().equals(real.toString()))
+                throw new RuntimeException("toString doesn't match\nyour: " + your + "\nreal: " + real);
+        }
+
+        MyArrayList<Integer> big = new MyArrayList<Integer>(1000);
+        for (int i = 0; i < 1000; i++)
+            big.add(i);
+        if (big.getCapacity() != 1000)
+            throw new RuntimeException("Capacity is " + big.getCapacity() +
+                " and a presized MyArrayList should not have grown");
+
+        System.out.println("MyArrayList bulk operations work!");
+    }
+
+    /**
+     * Returns a list of up to 20 random Integers.
+     * @return a random list
+     */
+    private static List<Integer> randomList()
+    {
+        List<Integer> list = new ArrayList<Integer>();
+        int n = random(20);
+        for (int i = 0; i < n; i++)
+            list.add(random(100));
+
+        return list;
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
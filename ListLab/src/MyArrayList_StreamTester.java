@@ -0,0 +1,164 @@
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Tester for the stream support of MyArrayList. Checks sequential and parallel streams,
+ * forEach, removeIf and replaceAll against java.util.ArrayList, and that the Spliterator
+ * splits evenly and is fail-fast.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class MyArrayList_StreamTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 200;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            MyArrayList<Integer> your = new MyArrayList<Integer>();
+            ArrayList<Integer> real = new ArrayList<Integer>();
+            int size = random(2000);
+            for (int j = 0; j < size; j++)
+            {
+                Integer value = random(1000);
+                your.add(value);
+                real.add(value);
+            }
+
+            int residue = random(7);
+            debug("size " + size + ", residue " + residue);
+            check("stream().collect", your.stream().collect(Collectors.toList()), real);
+            check("parallelStream().filter", your.parallelStream().filter(x -> x % 7 == residue)
+                .collect(Collectors.toList()), real.stream().filter(x -> x % 7 == residue)
+                .collect(Collectors.toList()));
+
+            long yourSum = your.parallelStream().mapToLong(x -> x).sum();
+            long realSum = real.stream().mapToLong(x -> x).sum();
+            if (yourSum != realSum)
+                throw new RuntimeException("parallel sum is " + yourSum + " and should be " + realSum);
+
+            List<Integer> visited = new ArrayList<Integer>();
+            your.forEach(visited::add);
+            check("forEach", visited, real);
+
+            boolean yourRemoved = your.removeIf(x -> x % 7 == residue);
+            boolean realRemoved = real.removeIf(x -> x % 7 == residue);
+            if (yourRemoved != realRemoved || your.size() != real.size())
+                throw new RuntimeException("removeIf returned " + yourRemoved + " and should return " +
+                    realRemoved);
+            check("removeIf", your.stream().collect(Collectors.toList()), real);
+
+            your.replaceAll(x -> x * 3 + 1);
+            real.replaceAll(x -> x * 3 + 1);
+            if (!your.toString().equals(real.toString()))
+                throw new RuntimeException("replaceAll doesn't match");
+        }
+        System.out.println("Streams, forEach, removeIf and replaceAll work!");
+
+        MyArrayList<Integer> list = new MyArrayList<Integer>();
+        for (int i = 0; i < 1000; i++)
+            list.add(i);
+
+        Spliterator<Integer> back = list.spliterator();
+        Spliterator<Integer> front = back.trySplit();
+        if (front.estimateSize() != 500 || back.estimateSize() != 500)
+            throw new RuntimeException("trySplit made halves of size " + front.estimateSize() + " and " +
+                back.estimateSize());
+        if (!back.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED))
+            throw new RuntimeException("spliterator should be ORDERED, SIZED and SUBSIZED");
+        front.tryAdvance(x -> check("first element", Collections.singletonList(x), Arrays.asList(0)));
+
+        try
+        {
+            list.removeIf(x -> 1 / (x - 500) < 0 && x > 990);
+            throw new RuntimeException("removeIf should pass on the predicate's exception");
+        }
+        catch (ArithmeticException e)
+        {
+            if (list.size() != 1000)
+                throw new RuntimeException("removeIf lost elements when the predicate threw");
+        }
+
+        try
+        {
+            list.forEach(x -> { if (x == 10) list.add(0); });
+            throw new RuntimeException("forEach should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+
+        try
+        {
+            list.stream().forEach(x -> { if (x == 10) list.add(-1); });
+            throw new RuntimeException("stream().forEach should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+
+        // a predicate that adds an element partway through must stop the pass without losing
+        // or duplicating anything
+        MyArrayList<Integer> small = new MyArrayList<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++)
+        {
+            small.add(i);
+            if (i > 50 || i % 2 == 1)
+                expected.add(i);
+        }
+        expected.add(1000);
+        try
+        {
+            small.removeIf(x -> { if (x == 50) small.add(1000); return x % 2 == 0; });
+            throw new RuntimeException("removeIf should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            check("removeIf after ConcurrentModificationException", small.stream().collect(Collectors.toList()),
+                expected);
+        }
+        System.out.println("The spliterator works!");
+    }
+
+    /**
+     * Checks that a list of elements matches the expected one.
+     * @param call the call that produced yours
+     * @param yours the elements produced
+     * @param expected the elements expected
+     */
+    private static void check(String call, List<Integer> yours, List<Integer> expected)
+    {
+        if (!yours.equals(expected))
+            throw new RuntimeException(call + " gave " + yours + " and should give " + expected);
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
@@ -0,0 +1,462 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * MyConcurrentLinkedDeque is a lock-free double-ended queue that many threads can push to
+ * and pop from at once without locking. It is made of nodes shaped like DoubleNode (a value
+ * with previous and next links), and follows Maged Michael's CAS-based deque: the first and
+ * last nodes and a status live together in one immutable Anchor, and every operation is a
+ * compareAndSet of the Anchor.
+ *
+ * A push swings the Anchor to the new node in one step, marking it RPUSH or LPUSH because
+ * the old end node does not link to the new node yet. Until some thread stabilizes the
+ * Anchor by setting that link, every other operation first helps to finish it, so no thread
+ * ever waits on another.
+ *
+ * Elements may not be null, so that pollFirst and pollLast can return null when empty.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <E> Type of the deque
+ */
+public class MyConcurrentLinkedDeque<E> implements Iterable<E>
+{
+    private static final int STABLE = 0;
+    private static final int RPUSH = 1;
+    private static final int LPUSH = 2;
+
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+        AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+    private static final AtomicReferenceFieldUpdater<Node, Node> PREVIOUS =
+        AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "previous");
+
+    private final AtomicReference<Anchor> anchor;
+
+    /**
+     * Constructs an empty MyConcurrentLinkedDeque.
+     */
+    public MyConcurrentLinkedDeque()
+    {
+        anchor = new AtomicReference<Anchor>(new Anchor(null, null, STABLE));
+    }
+
+    /**
+     * Inserts an element at the front of the deque.
+     * @param obj the element to insert
+     * @precondition obj is not null
+     * @postcondition obj is the first element
+     * @return true
+     * @throws NullPointerException if obj is null
+     */
+    public boolean offerFirst(E obj)
+    {
+        Node node = newNode(obj);
+        while (true)
+        {
+            Anchor current = anchor.get();
+            if (current.first == null)
+            {
+                if (anchor.compareAndSet(current, new Anchor(node, node, STABLE)))
+                    return true;
+            }
+            else if (current.status == STABLE)
+            {
+                node.next = current.first;
+                Anchor pushed = new Anchor(node, current.last, LPUSH);
+                if (anchor.compareAndSet(current, pushed))
+                {
+                    stabilize(pushed);
+                    return true;
+                }
+            }
+            else
+            {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Inserts an element at the end of the deque.
+     * @param obj the element to insert
+     * @precondition obj is not null
+     * @postcondition obj is the last element
+     * @return true
+     * @throws NullPointerException if obj is null
+     */
+    public boolean offerLast(E obj)
+    {
+        Node node = newNode(obj);
+        while (true)
+        {
+            Anchor current = anchor.get();
+            if (current.last == null)
+            {
+                if (anchor.compareAndSet(current, new Anchor(node, node, STABLE)))
+                    return true;
+            }
+            else if (current.status == STABLE)
+            {
+                node.previous = current.last;
+                Anchor pushed = new Anchor(current.first, node, RPUSH);
+                if (anchor.compareAndSet(current, pushed))
+                {
+                    stabilize(pushed);
+                    return true;
+                }
+            }
+            else
+            {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Inserts an element at the front of the deque.
+     * @param obj the element to insert
+     * @throws NullPointerException if obj is null
+     */
+    public void addFirst(E obj)
+    {
+        offerFirst(obj);
+    }
+
+    /**
+     * Inserts an element at the end of the deque.
+     * @param obj the element to insert
+     * @throws NullPointerException if obj is null
+     */
+    public void addLast(E obj)
+    {
+        offerLast(obj);
+    }
+
+    /**
+     * Removes and returns the first element of the deque.
+     * @postcondition the first element, if any, has been removed
+     * @return the first element, or null if the deque is empty
+     */
+    public E pollFirst()
+    {
+        while (true)
+        {
+            Anchor current = anchor.get();
+            if (current.first == null)
+                return null;
+
+            if (current.status != STABLE)
+            {
+                stabilize(current);
+            }
+            else if (current.first == current.last)
+            {
+                if (anchor.compareAndSet(current, new Anchor(null, null, STABLE)))
+                    return (E) current.first.value;
+            }
+            else
+            {
+                // the rest of the list is stable, so first's next link is up to date
+                Node first = current.first;
+                Node next = first.next;
+                if (anchor.compareAndSet(current, new Anchor(next, current.last, STABLE)))
+                {
+                    // unlink the popped node, or the new first node would keep it and every
+                    // node popped before it reachable
+                    PREVIOUS.compareAndSet(next, first, null);
+                    return (E) first.value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     * @postcondition the last element, if any, has been removed
+     * @return the last element, or null if the deque is empty
+     */
+    public E pollLast()
+    {
+        while (true)
+        {
+            Anchor current = anchor.get();
+            if (current.last == null)
+                return null;
+
+            if (current.status != STABLE)
+            {
+                stabilize(current);
+            }
+            else if (current.first == current.last)
+            {
+                if (anchor.compareAndSet(current, new Anchor(null, null, STABLE)))
+                    return (E) current.last.value;
+            }
+            else
+            {
+                Node last = current.last;
+                Node previous = last.previous;
+                if (anchor.compareAndSet(current, new Anchor(current.first, previous, STABLE)))
+                {
+                    NEXT.compareAndSet(previous, last, null);
+                    return (E) last.value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque.
+     * @return the first element
+     * @throws NoSuchElementException if the deque is empty
+     */
+    public E removeFirst()
+    {
+        E val = pollFirst();
+        if (val == null)
+            throw new NoSuchElementException("Deque is empty");
+        return val;
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     * @return the last element
+     * @throws NoSuchElementException if the deque is empty
+     */
+    public E removeLast()
+    {
+        E val = pollLast();
+        if (val == null)
+            throw new NoSuchElementException("Deque is empty");
+        return val;
+    }
+
+    /**
+     * Returns the first element of the deque without removing it.
+     * @return the first element, or null if the deque is empty
+     */
+    public E peekFirst()
+    {
+        Node first = anchor.get().first;
+        return first == null ? null : (E) first.value;
+    }
+
+    /**
+     * Returns the last element of the deque without removing it.
+     * @return the last element, or null if the deque is empty
+     */
+    public E peekLast()
+    {
+        Node last = anchor.get().last;
+        return last == null ? null : (E) last.value;
+    }
+
+    /**
+     * Determines whether the deque is empty.
+     * @return true if the deque has no elements; otherwise false
+     */
+    public boolean isEmpty()
+    {
+        return anchor.get().first == null;
+    }
+
+    /**
+     * Counts the elements in the deque. This walks the whole deque, so it takes O(n) time,
+     * and if other threads are changing the deque the count may already be out of date.
+     * @return the number of elements seen
+     */
+    public int size()
+    {
+        int count = 0;
+        for (Iterator<E> it = iterator(); it.hasNext(); it.next())
+            count++;
+        return count;
+    }
+
+    /**
+     * Returns a weakly consistent Iterator over the deque, from first to last. It never
+     * throws ConcurrentModificationException: it walks the nodes that were in the deque when
+     * it was created, so it may or may not show changes made after that.
+     * @return an Iterator over the deque
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyConcurrentLinkedDequeIterator();
+    }
+
+    /**
+     * Returns a string of comma separated values in the deque.
+     * @return String version of the deque
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("[");
+        for (Iterator<E> it = iterator(); it.hasNext(); )
+        {
+            s.append(it.next());
+            if (it.hasNext())
+                s.append(", ");
+        }
+        return s.append("]").toString();
+    }
+
+    /**
+     * Helper function that creates a node for a new element.
+     * @param obj the element
+     * @return a new unlinked Node holding obj
+     * @throws NullPointerException if obj is null
+     */
+    private Node newNode(E obj)
+    {
+        if (obj == null)
+            throw new NullPointerException("MyConcurrentLinkedDeque does not allow null elements");
+        return new Node(obj);
+    }
+
+    /**
+     * Finishes a push: links the old end node to the new one, then marks the Anchor STABLE.
+     * Any thread may call this for any unstable Anchor; if another thread gets there first,
+     * the compareAndSets simply fail. The old end node's link may be null rather than stale,
+     * since pollFirst and pollLast clear the link to the node they pop.
+     * @param pushed an Anchor with status RPUSH or LPUSH
+     * @postcondition the Anchor is no longer pushed (this or another thread stabilized it)
+     */
+    private void stabilize(Anchor pushed)
+    {
+        if (pushed.status == RPUSH)
+        {
+            // a popped end node has its link cleared, so a null link means the Anchor has moved on
+            Node previous = pushed.last.previous;
+            if (previous == null)
+                return;
+            Node previousNext = previous.next;
+            if (previousNext != pushed.last)
+            {
+                if (anchor.get() != pushed)
+                    return;
+                if (!NEXT.compareAndSet(previous, previousNext, pushed.last))
+                    return;
+            }
+        }
+        else if (pushed.status == LPUSH)
+        {
+            Node next = pushed.first.next;
+            if (next == null)
+                return;
+            Node nextPrevious = next.previous;
+            if (nextPrevious != pushed.first)
+            {
+                if (anchor.get() != pushed)
+                    return;
+                if (!PREVIOUS.compareAndSet(next, nextPrevious, pushed.first))
+                    return;
+            }
+        }
+        anchor.compareAndSet(pushed, new Anchor(pushed.first, pushed.last, STABLE));
+    }
+
+    /**
+     * The Anchor class holds the first node, the last node and the status of the deque. It is
+     * never changed once created, so all three are replaced together by one compareAndSet.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static class Anchor
+    {
+        private final Node first;
+        private final Node last;
+        private final int status;
+
+        /**
+         * Constructs an Anchor.
+         * @param first the first node, or null if the deque is empty
+         * @param last the last node, or null if the deque is empty
+         * @param status STABLE, RPUSH or LPUSH
+         */
+        public Anchor(Node first, Node last, int status)
+        {
+            this.first = first;
+            this.last = last;
+            this.status = status;
+        }
+    }
+
+    /**
+     * The Node class is a DoubleNode whose links are volatile, so that they can be read
+     * safely without a lock and set with a compareAndSet.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static class Node
+    {
+        // package-private so that the field updaters can reach them
+        final Object value;
+        volatile Node previous;
+        volatile Node next;
+
+        /**
+         * Constructs a Node with a given value and previous and next null.
+         * @param v the given value
+         */
+        public Node(Object v)
+        {
+            value = v;
+        }
+    }
+
+    /**
+     * The MyConcurrentLinkedDequeIterator class is a weakly consistent Iterator for a
+     * MyConcurrentLinkedDeque. It takes a stable snapshot of the Anchor when created and
+     * follows next links from that first node until it has returned that last node.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class MyConcurrentLinkedDequeIterator implements Iterator<E>
+    {
+        private Node nextNode;
+        private Node lastNode;
+
+        /**
+         * Constructs a MyConcurrentLinkedDequeIterator starting at the first node.
+         */
+        public MyConcurrentLinkedDequeIterator()
+        {
+            Anchor current = anchor.get();
+            while (current.status != STABLE)
+            {
+                stabilize(current);
+                current = anchor.get();
+            }
+            nextNode = current.first;
+            lastNode = current.last;
+        }
+
+        /**
+         * Determines if the iterator has a valid next element (if it has reached the end or not).
+         * @return true if there is a next element; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nextNode != null;
+        }
+
+        /**
+         * Returns the value of the next element.
+         * @postcondition the Iterator moves forward by one element
+         * @return next Object in the deque
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        public E next()
+        {
+            if (nextNode == null)
+                throw new NoSuchElementException("Iteration has no more elements");
+
+            Node node = nextNode;
+            // stop at the snapshot's last node even if more nodes were pushed after it
+            nextNode = (node == lastNode) ? null : node.next;
+            return (E) node.value;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tester for MyConcurrentLinkedDeque. First runs random operations against java.util.ArrayDeque
+ * on a single thread, then has several threads push and pop at both ends at once and checks
+ * that every element pushed was popped exactly once. Also pushes and pops millions of elements
+ * through a deque that never holds more than two, checking that popped elements are not kept.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class MyConcurrentLinkedDequeTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 200000;
+    private static final int STEADY_STATE_CYCLES = 5000000;
+    private static final long MAX_RETAINED_BYTES = 32 * 1024 * 1024;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        testSingleThreaded();
+        System.out.println("MyConcurrentLinkedDeque works on one thread!");
+
+        testSteadyState();
+        System.out.println("MyConcurrentLinkedDeque does not keep popped elements!");
+
+        testProducersConsumers();
+        testIteratorDuringWrites();
+        System.out.println("MyConcurrentLinkedDeque works on " + NUM_THREADS + " threads!");
+    }
+
+    /**
+     * Runs random operations against java.util.ArrayDeque.
+     */
+    private static void testSingleThreaded()
+    {
+        MyConcurrentLinkedDeque<Integer> your = new MyConcurrentLinkedDeque<Integer>();
+        ArrayDeque<Integer> real = new ArrayDeque<Integer>();
+
+        for (int i = 0; i < 200000; i++)
+        {
+            int op = random(6);
+            Integer value = random(1000);
+            Integer yourResult = null;
+            Integer realResult = null;
+            String call;
+
+            if (op == 0)
+            {
+                call = "offerFirst(" + value + ")";
+                your.offerFirst(value);
+                real.offerFirst(value);
+            }
+            else if (op == 1)
+            {
+                call = "offerLast(" + value + ")";
+                your.offerLast(value);
+                real.offerLast(value);
+            }
+            else if (op == 2)
+            {
+                call = "pollFirst()";
+                yourResult = your.pollFirst();
+                realResult = real.pollFirst();
+            }
+            else if (op == 3)
+            {
+                call = "pollLast()";
+                yourResult = your.pollLast();
+                realResult = real.pollLast();
+            }
+            else if (op == 4)
+            {
+                call = "peekFirst()";
+                yourResult = your.peekFirst();
+                realResult = real.peekFirst();
+            }
+            else
+            {
+                call = "peekLast()";
+                yourResult = your.peekLast();
+                realResult = real.peekLast();
+            }
+
+            debug(call);
+            if (yourResult == null ? realResult != null : !yourResult.equals(realResult))
+                throw new RuntimeException(call + " returned " + yourResult + " and should return " + realResult);
+            if (your.isEmpty() != real.isEmpty())
+                throw new RuntimeException("isEmpty() returned " + your.isEmpty() + " and should return "
+                        + real.isEmpty());
+            if (i % 1000 == 0 && (your.size() != real.size() || !your.toString().equals(real.toString())))
+                throw new RuntimeException("deque is " + your + " and should be " + real);
+        }
+
+        try
+        {
+            new MyConcurrentLinkedDeque<Integer>().removeFirst();
+            throw new RuntimeException("removeFirst() on an empty deque should throw NoSuchElementException");
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+
+        try
+        {
+            your.offerLast(null);
+            throw new RuntimeException("offerLast(null) should throw NullPointerException");
+        }
+        catch (NullPointerException e)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Pushes at one end and pops at the other millions of times, so the deque never holds more
+     * than two elements, then checks that the first element popped can be garbage collected and
+     * that the heap has not grown by more than MAX_RETAINED_BYTES. If popped nodes stayed linked
+     * to the deque, this would keep every one of them (and fail, or run out of memory on a small
+     * heap such as -Xmx64m).
+     */
+    private static void testSteadyState()
+    {
+        MyConcurrentLinkedDeque<Object> deque = new MyConcurrentLinkedDeque<Object>();
+        Object firstValue = new Object();
+        WeakReference<Object> firstPopped = new WeakReference<Object>(firstValue);
+        deque.offerLast(firstValue);
+        firstValue = null;
+        long before = usedMemory();
+
+        for (int i = 0; i < STEADY_STATE_CYCLES; i++)
+        {
+            deque.offerLast(i);
+            deque.pollFirst();
+        }
+        for (int i = 0; i < STEADY_STATE_CYCLES; i++)
+        {
+            deque.offerFirst(i);
+            deque.pollLast();
+        }
+
+        long retained = usedMemory() - before;
+        if (firstPopped.get() != null)
+            throw new RuntimeException("the first element popped is still reachable from the deque");
+        if (retained > MAX_RETAINED_BYTES)
+            throw new RuntimeException("the heap grew by " + retained + " bytes while the deque held "
+                    + "at most two elements");
+        if (deque.size() != 1)
+            throw new RuntimeException("size() is " + deque.size() + " and should be 1");
+    }
+
+    /**
+     * Runs the garbage collector and returns the memory still in use.
+     * @return the number of bytes in use after garbage collection
+     */
+    private static long usedMemory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Has every thread push its own range of numbers at random ends while popping from random
+     * ends, then drains the deque and checks that each number came out exactly once.
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    private static void testProducersConsumers() throws InterruptedException
+    {
+        final MyConcurrentLinkedDeque<Integer> deque = new MyConcurrentLinkedDeque<Integer>();
+        final AtomicIntegerArray seen = new AtomicIntegerArray(NUM_THREADS * OPERATIONS_PER_THREAD);
+        final int[] nextThread = {0};
+
+        runThreads(new Runnable()
+        {
+            public void run()
+            {
+                int thread;
+                synchronized (nextThread)
+                {
+                    thread = nextThread[0]++;
+                }
+
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++)
+                {
+                    Integer value = thread * OPERATIONS_PER_THREAD + i;
+                    if (random(2) == 0)
+                        deque.offerFirst(value);
+                    else
+                        deque.offerLast(value);
+
+                    Integer popped = random(2) == 0 ? deque.pollFirst() : deque.pollLast();
+                    if (popped != null)
+                        seen.incrementAndGet(popped);
+                }
+            }
+        });
+
+        for (Integer popped = deque.pollFirst(); popped != null; popped = deque.pollFirst())
+            seen.incrementAndGet(popped);
+
+        for (int i = 0; i < seen.length(); i++)
+        {
+            if (seen.get(i) != 1)
+                throw new RuntimeException(i + " was popped " + seen.get(i) + " times and should be popped once");
+        }
+    }
+
+    /**
+     * Has the threads iterate over the deque while moving elements from end to end, and checks
+     * that the iterators only return pushed values and never fail. Afterwards no element may
+     * have been lost or duplicated.
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    private static void testIteratorDuringWrites() throws InterruptedException
+    {
+        final MyConcurrentLinkedDeque<Integer> deque = new MyConcurrentLinkedDeque<Integer>();
+        for (int i = 0; i < 1000; i++)
+            deque.offerLast(i);
+
+        runThreads(new Runnable()
+        {
+            public void run()
+            {
+                for (int i = 0; i < OPERATIONS_PER_THREAD / 100; i++)
+                {
+                    if (random(4) == 0)
+                    {
+                        for (Iterator<Integer> it = deque.iterator(); it.hasNext(); )
+                        {
+                            Integer value = it.next();
+                            if (value < 0 || value >= 1000)
+                                throw new RuntimeException("iterator returned " + value +
+                                        ", which was never pushed");
+                        }
+                    }
+                    else
+                    {
+                        Integer popped = random(2) == 0 ? deque.pollFirst() : deque.pollLast();
+                        if (popped != null)
+                        {
+                            if (random(2) == 0)
+                                deque.offerFirst(popped);
+                            else
+                                deque.offerLast(popped);
+                        }
+                    }
+                }
+            }
+        });
+
+        if (deque.size() != 1000)
+            throw new RuntimeException("size() is " + deque.size() + " and should be 1000");
+
+        boolean[] seen = new boolean[1000];
+        for (Integer popped = deque.pollLast(); popped != null; popped = deque.pollLast())
+        {
+            if (seen[popped])
+                throw new RuntimeException(popped + " is in the deque twice");
+            seen[popped] = true;
+        }
+    }
+
+    /**
+     * Starts NUM_THREADS threads running the same task at the same moment and waits for them.
+     * @param task the work each thread does
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    private static void runThreads(final Runnable task) throws InterruptedException
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread[] threads = new Thread[NUM_THREADS];
+
+        for (int i = 0; i < NUM_THREADS; i++)
+        {
+            threads[i] = new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                        task.run();
+                    }
+                    catch (Throwable t)
+                    {
+                        failure.compareAndSet(null, t);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        start.countDown();
+        for (Thread thread: threads)
+            thread.join();
+
+        if (failure.get() != null)
+            throw new RuntimeException("a worker thread failed", failure.get());
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
@@ -1,5 +1,8 @@
+import java.io.IOException;
+import java.lang.reflect.Array;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 /**
@@ -14,6 +17,9 @@ public class MyLinkedList<E>
     private DoubleNode last;
     private int size;
     private int modCount;
+    private DoubleNode pool;
+    private int poolSize;
+    private final int poolCapacity;
 
     /**
      * Constructs a MyLinkedList by setting size to 0 and
@@ -21,10 +27,28 @@ public class MyLinkedList<E>
      */
     public MyLinkedList()
     {
+        this(0);
+    }
+
+    /**
+     * Constructs a MyLinkedList that keeps up to poolCapacity removed nodes and reuses them
+     * for later adds, so that a list whose size goes up and down within that many elements
+     * stops allocating nodes once it has warmed up.
+     * @param poolCapacity the most removed nodes to keep for reuse (0 turns pooling off)
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public MyLinkedList(int poolCapacity)
+    {
+        if (poolCapacity < 0)
+            throw new IllegalArgumentException("Illegal pool capacity: " + poolCapacity);
+
         first = null;
         last = null;
         size = 0;
         modCount = 0;
+        pool = null;
+        poolSize = 0;
+        this.poolCapacity = poolCapacity;
     }
 
     /**
@@ -33,16 +57,116 @@ public class MyLinkedList<E>
      */
     public String toString()
     {
+        // room for short elements, capped so a huge list neither overflows nor over-reserves
+        StringBuilder s = new StringBuilder(2 + 8 * Math.min(size, 1 << 16));
+        try
+        {
+            writeTo(s);
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e); // a StringBuilder never throws
+        }
+        return s.toString();
+    }
+
+    /**
+     * Writes the LinkedList, formatted like toString(), to out one element at a time, so that
+     * a large LinkedList can be written to a log or file without building one big String.
+     * @param out where to write the elements
+     * @throws IOException if out throws one
+     */
+    public void writeTo(Appendable out) throws IOException
+    {
+        out.append('[');
+        for (DoubleNode node = first; node != null; node = node.getNext())
+        {
+            if (node != first)
+                out.append(", ");
+            out.append(String.valueOf(node.getValue()));
+        }
+        out.append(']');
+    }
+
+    /**
+     * Returns an array holding the elements of the LinkedList, in order.
+     * @return a new array of length size()
+     */
+    public Object[] toArray()
+    {
+        Object[] a = new Object[size];
+        int i = 0;
+        for (DoubleNode node = first; node != null; node = node.getNext())
+        {
+            a[i] = node.getValue();
+            i++;
+        }
+        return a;
+    }
+
+    /**
+     * Copies the elements of the LinkedList, in order, into an array of a's type, using a
+     * itself if it is long enough.
+     * @param a the array to fill, if it is long enough
+     * @param <T> the component type of the array
+     * @postcondition if a is longer than size(), a[size()] is null
+     * @return a, or a new array of a's type and length size() if a was too short
+     * @throws ArrayStoreException if an element is not a T
+     */
+    public <T> T[] toArray(T[] a)
+    {
+        if (a.length < size)
+        {
+            a = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+        }
+
+        Object[] result = a;
+        int i = 0;
+        for (DoubleNode node = first; node != null; node = node.getNext())
+        {
+            result[i] = node.getValue();
+            i++;
+        }
+        if (a.length > size)
+        {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Hands the elements of the LinkedList to consumer in chunks of up to chunkSize elements,
+     * copied through one reused buffer. This exports the whole LinkedList in O(n) time while
+     * never allocating more than a chunkSize array.
+     * @param chunkSize the most elements to pass in one chunk
+     * @param consumer receives each chunk in order
+     * @throws IllegalArgumentException if chunkSize is not positive
+     * @throws ConcurrentModificationException if consumer changes the LinkedList's structure
+     */
+    public void forEachChunk(int chunkSize, ChunkConsumer<? super E> consumer)
+    {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+
+        int expectedModCount = modCount;
+        Object[] chunk = new Object[Math.min(chunkSize, size)];
         DoubleNode node = first;
-        if (node == null)
-            return "[]";
-        String s = "[";
-        while (node.getNext() != null)
+        while (node != null)
         {
-            s += node.getValue() + ", ";
-            node = node.getNext();
+            int length = 0;
+            while (node != null && length < chunkSize)
+            {
+                chunk[length] = node.getValue();
+                length++;
+                node = node.getNext();
+            }
+
+            consumer.accept(chunk, length);
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("Modified LinkedList during forEachChunk");
+            }
         }
-        return s + node.getValue() + "]";
     }
 
     /**
@@ -136,14 +260,15 @@ public class MyLinkedList<E>
      * @param obj the value of the obj
      * @precondition index must be less than the size of the LinkedList
      * @postcondition replaces the element at position index with obj
-     *                returns the element formerly at the specified position
+     *                returns the element formerly at the specified position;
+     *                this is not a structural change, so iterators stay valid
      * @return previous value of the element
      */
     public E set(int index, E obj)
     {
-        E old = get(index);
-        getNode(index).setValue(obj);
-        modCount++;
+        DoubleNode node = getNode(index);
+        E old = (E) node.getValue();
+        node.setValue(obj);
         return old;
     }
 
@@ -159,39 +284,94 @@ public class MyLinkedList<E>
      */
     public E remove(int index)
     {
-        DoubleNode remove = getNode(index);
+        return unlink(getNode(index));
+    }
+
+    /**
+     * Unlinks a node from the LinkedList.
+     * @param remove the node to unlink
+     * @precondition  remove is a node of this LinkedList
+     * @postcondition remove's neighbors (or first/last) are linked to each other,
+     *                size has been decremented and modCount incremented
+     * @return value of the unlinked node
+     */
+    private E unlink(DoubleNode remove)
+    {
         E val = (E) remove.getValue();
+        DoubleNode prev = remove.getPrevious();
+        DoubleNode next = remove.getNext();
 
-        if (size == 1)
+        if (prev == null)
         {
-            first = null;
-            last = null;
+            first = next;
         }
-        else if (index == 0)
+        else
         {
-            first = first.getNext();
-            first.setPrevious(null);
+            prev.setNext(next);
         }
-        else if (index == size-1)
+
+        if (next == null)
         {
-            last = last.getPrevious();
-            last.setNext(null);
+            last = prev;
         }
         else
         {
-            DoubleNode prev = remove.getPrevious();
-            DoubleNode next = remove.getNext();
-
-            prev.setNext(next);
             next.setPrevious(prev);
         }
 
         size--;
         modCount++;
+        recycle(remove);
 
         return val;
     }
 
+    /**
+     * Returns a node holding obj, taken from the pool if it has one.
+     * @param obj the value for the node
+     * @return an unlinked DoubleNode holding obj
+     */
+    private DoubleNode newNode(E obj)
+    {
+        if (pool == null)
+        {
+            return new DoubleNode(obj);
+        }
+
+        DoubleNode node = pool;
+        pool = node.getNext();
+        poolSize--;
+        node.setNext(null);
+        node.setValue(obj);
+        return node;
+    }
+
+    /**
+     * Puts a node that was just unlinked into the pool, unless the pool is full.
+     * @param node the unlinked node
+     * @postcondition node no longer refers to its value or its old neighbors
+     */
+    private void recycle(DoubleNode node)
+    {
+        if (poolSize < poolCapacity)
+        {
+            node.setValue(null);
+            node.setPrevious(null);
+            node.setNext(pool);
+            pool = node;
+            poolSize++;
+        }
+    }
+
+    /**
+     * Returns the number of removed nodes being kept for reuse.
+     * @return the number of nodes in the pool
+     */
+    public int getPoolSize()
+    {
+        return poolSize;
+    }
+
     /**
      * Removes the first element in the LinkedList.
      * @postcondition first has been modified to start at the next one and size has been decremented
@@ -224,34 +404,49 @@ public class MyLinkedList<E>
      */
     public void add(int index, E obj)
     {
-        DoubleNode insert = new DoubleNode(obj);
+        if (index == size)
+        {
+            linkBefore(obj, null);
+        }
+        else
+        {
+            linkBefore(obj, getNode(index));
+        }
+    }
+
+    /**
+     * Links a new node holding obj in front of next.
+     * @param obj the value of the new element
+     * @param next the node to insert in front of, or null to append
+     * @precondition  next is a node of this LinkedList or null
+     * @postcondition a node holding obj sits between next and its previous node
+     *                (or at the end of the list if next is null),
+     *                size has been incremented and modCount incremented
+     */
+    private void linkBefore(E obj, DoubleNode next)
+    {
+        DoubleNode insert = newNode(obj);
+        DoubleNode prev = (next == null) ? last : next.getPrevious();
 
-        if (size == 0)
+        insert.setPrevious(prev);
+        insert.setNext(next);
+
+        if (prev == null)
         {
             first = insert;
-            last = insert;
         }
-        else if (index == 0)
+        else
         {
-            insert.setNext(first);
-            first.setPrevious(insert);
-            first = insert;
+            prev.setNext(insert);
         }
-        else if (index == size)
+
+        if (next == null)
         {
-            last.setNext(insert);
-            insert.setPrevious(last);
             last = insert;
         }
         else
         {
-            DoubleNode next = getNode(index);
-            DoubleNode prev = next.getPrevious();
-
-            insert.setPrevious(prev);
-            insert.setNext(next);
             next.setPrevious(insert);
-            prev.setNext(insert);
         }
 
         size++;
@@ -316,36 +511,198 @@ public class MyLinkedList<E>
      */
     public Iterator<E> iterator()
     {
-        return new MyLinkedListIterator();
+        return new MyLinkedListIterator(0);
+    }
+
+    /**
+     * Returns a ListIterator for the LinkedList.
+     * @return a ListIterator for the LinkedList
+     */
+    public ListIterator<E> listIterator()
+    {
+        return new MyLinkedListIterator(0);
+    }
+
+    /**
+     * Returns a ListIterator for the LinkedList that starts at the specified index.
+     * @param index index of the first element to be returned by next()
+     * @precondition  0 <= index <= size
+     * @return a ListIterator positioned before the element at index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public ListIterator<E> listIterator(int index)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return new MyLinkedListIterator(index);
     }
 
     /**
-     * The MyLinkedListIterator class is an Iterator for a MyLinkedList.
+     * Returns a Cursor positioned before the first element. A Cursor can be rewound with
+     * reset() and used for any number of walks, so holding on to one lets a loop walk the
+     * list over and over without allocating anything.
+     * @return a new Cursor for the LinkedList
+     */
+    public Cursor cursor()
+    {
+        return new Cursor();
+    }
+
+    /**
+     * The Cursor class walks a MyLinkedList one node at a time, like an Iterator that can be
+     * reused. A walk looks like: for (cursor.reset(); cursor.next(); ) use(cursor.get());
+     * It is fail-fast: changing the list other than through the Cursor invalidates it until
+     * its next reset().
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    public class Cursor
+    {
+        private DoubleNode current;
+        private DoubleNode following;
+        private int expectedModCount;
+
+        /**
+         * Constructs a Cursor positioned before the first element.
+         */
+        private Cursor()
+        {
+            reset();
+        }
+
+        /**
+         * Moves the Cursor back to before the first element.
+         * @postcondition the next call to next() moves to the first element
+         */
+        public void reset()
+        {
+            current = null;
+            following = first;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Determines if the LinkedList was modified without using this Cursor.
+         * @throws ConcurrentModificationException if LinkedList was modified without
+         *                                         using this Cursor's methods
+         */
+        private void checkForModException()
+        {
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("Modified LinkedList without" +
+                        " using Cursor methods");
+            }
+        }
+
+        /**
+         * Moves the Cursor to the next element.
+         * @postcondition get() returns the element moved to, if there is one
+         * @return true if the Cursor moved to an element; false if it is past the end
+         */
+        public boolean next()
+        {
+            checkForModException();
+            current = following;
+            if (current == null)
+            {
+                return false;
+            }
+
+            following = current.getNext();
+            return true;
+        }
+
+        /**
+         * Returns the element the Cursor is on.
+         * @return the current element
+         * @throws IllegalStateException if the Cursor is not on an element
+         */
+        public E get()
+        {
+            checkForModException();
+            if (current == null)
+            {
+                throw new IllegalStateException("Cursor is not on an element");
+            }
+            return (E) current.getValue();
+        }
+
+        /**
+         * Replaces the element the Cursor is on.
+         * @param obj the new value
+         * @postcondition the current element is obj; this is not a structural change
+         * @throws IllegalStateException if the Cursor is not on an element
+         */
+        public void set(E obj)
+        {
+            checkForModException();
+            if (current == null)
+            {
+                throw new IllegalStateException("Cursor is not on an element");
+            }
+            current.setValue(obj);
+        }
+
+        /**
+         * Removes the element the Cursor is on.
+         * @postcondition the element is removed and the Cursor is between elements,
+         *                so next() moves to the element after it
+         * @throws IllegalStateException if the Cursor is not on an element
+         */
+        public void remove()
+        {
+            checkForModException();
+            if (current == null)
+            {
+                throw new IllegalStateException("Cursor is not on an element");
+            }
+
+            unlink(current);
+            current = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * The MyLinkedListIterator class is a ListIterator for a MyLinkedList.
+     * It holds on to the node it will return next, so every step in either direction
+     * is O(1), and records the list's modCount when it is created so that any number
+     * of iterators can be live at once.
      * @author Nelson Gou
      * @version 10/11/2021
      */
-    private class MyLinkedListIterator implements Iterator<E>
+    private class MyLinkedListIterator implements ListIterator<E>
     {
         private DoubleNode nextNode;
+        private DoubleNode lastReturned;
+        private int nextIndex;
+        private int expectedModCount;
 
         /**
-         * Constructs a MyLinkedListIterator with the nextNode set to first.
+         * Constructs a MyLinkedListIterator positioned before the element at index.
+         * @param index index of the first element to be returned by next()
          */
-        public MyLinkedListIterator()
+        public MyLinkedListIterator(int index)
         {
-            nextNode = first;
-            modCount = 0;
+            nextNode = (index == size) ? null : getNode(index);
+            lastReturned = null;
+            nextIndex = index;
+            expectedModCount = modCount;
         }
 
         /**
-         * Determines if the ArrayList was modified without using the Iterator.
+         * Determines if the LinkedList was modified without using this Iterator.
          * Called whenever an Iterator method is used.
-         * @throws ConcurrentModificationException if ArrayList was modified without
-         *                                         using Iterator methods
+         * @throws ConcurrentModificationException if LinkedList was modified without
+         *                                         using this Iterator's methods
          */
         private void checkForModException()
         {
-            if (modCount > 0)
+            if (modCount != expectedModCount)
             {
                 throw new ConcurrentModificationException("Modified LinkedList without" +
                         " using Iterator methods");
@@ -359,7 +716,7 @@ public class MyLinkedList<E>
         public boolean hasNext()
         {
             checkForModException();
-            return nextNode != null;
+            return nextIndex < size;
         }
 
         /**
@@ -372,49 +729,133 @@ public class MyLinkedList<E>
         {
             checkForModException();
 
-            if (!hasNext())
+            if (nextIndex >= size)
             {
                 throw new NoSuchElementException("Iteration has no more elements");
             }
 
-            E val = (E) nextNode.getValue();
+            lastReturned = nextNode;
             nextNode = nextNode.getNext();
-            return val;
+            nextIndex++;
+            return (E) lastReturned.getValue();
         }
 
         /**
-         * Removes the element that was previously returned by next().
-         * @postcondition removes the last element that was returned by next and decrements size
-         * @throws IllegalStateException if the next method has not yet been called
+         * Determines whether there is another element in the LinkedList
+         * while traversing in the backward direction.
+         * @return true if there is a previous element; otherwise false
          */
-        public void remove()
+        public boolean hasPrevious()
+        {
+            checkForModException();
+            return nextIndex > 0;
+        }
+
+        /**
+         * Returns the value of the previous element.
+         * @postcondition the Iterator moves backwards by one element
+         * @return previous Object in the LinkedList
+         * @throws NoSuchElementException if the iteration has no previous element
+         */
+        public E previous()
         {
             checkForModException();
 
-            if (nextNode == first)
+            if (nextIndex <= 0)
             {
-                throw new IllegalStateException("next method has not yet been called");
+                throw new NoSuchElementException("Iteration has no previous element");
             }
-            else if (nextNode == null)
+
+            nextNode = (nextNode == null) ? last : nextNode.getPrevious();
+            lastReturned = nextNode;
+            nextIndex--;
+            return (E) lastReturned.getValue();
+        }
+
+        /**
+         * Returns index of the next element.
+         * @return index of element that would be returned by a call to next()
+         */
+        public int nextIndex()
+        {
+            checkForModException();
+            return nextIndex;
+        }
+
+        /**
+         * Returns index of the previous element.
+         * @return index of element that would be returned by a call to previous()
+         */
+        public int previousIndex()
+        {
+            checkForModException();
+            return nextIndex-1;
+        }
+
+        /**
+         * Removes the element that was last returned by next() or previous().
+         * @postcondition removes the last returned element and decrements size;
+         *                this iterator stays valid while other iterators over
+         *                the list become invalid
+         * @throws IllegalStateException if no element has been returned since the
+         *                               last call to remove or add
+         */
+        public void remove()
+        {
+            checkForModException();
+
+            if (lastReturned == null)
             {
-                MyLinkedList.this.removeLast();
-                modCount--; // un-increment from remove call from Iterator
+                throw new IllegalStateException("next method has not yet been called");
             }
 
-            DoubleNode remove = nextNode.getPrevious();
-
-            if (remove.getPrevious() == null)
+            if (lastReturned == nextNode)
             {
-                MyLinkedList.this.removeFirst();
-                modCount--; // un-increment from remove call from Iterator
+                // removing the element returned by previous(): the cursor moves past it
+                nextNode = nextNode.getNext();
             }
             else
             {
-                DoubleNode prev = remove.getPrevious();
-                prev.setNext(nextNode);
-                nextNode.setPrevious(prev);
-                size--;
+                nextIndex--;
+            }
+
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Sets the value of the element that was last returned by next() or previous().
+         * @param obj new value for the element
+         * @postcondition sets the value of the previously returned element
+         * @throws IllegalStateException if neither next nor previous have been called
+         */
+        public void set(E obj)
+        {
+            checkForModException();
+
+            if (lastReturned == null)
+            {
+                throw new IllegalStateException("neither next nor previous have been called");
             }
+
+            lastReturned.setValue(obj);
+        }
+
+        /**
+         * Adds an element before the element that would be returned by next().
+         * @param obj element to add
+         * @postcondition inserts obj before nextNode; a following call to
+         *                previous() returns obj
+         */
+        public void add(E obj)
+        {
+            checkForModException();
+
+            linkBefore(obj, nextNode);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
         }
     }
 }
\ No newline at end of file
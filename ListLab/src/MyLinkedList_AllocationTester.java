@@ -0,0 +1,224 @@
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * Tester for MyLinkedList's node pool and Cursor. Checks that a pooled list and the Cursor
+ * behave like java.util.LinkedList, then uses the JVM's per-thread allocation counter to
+ * check that an enqueue/dequeue loop and Cursor walks over a pooled list allocate nothing
+ * once warmed up.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class MyLinkedList_AllocationTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 1000000;
+    private static final int POOL_CAPACITY = 64;
+    // a few hundred bytes of slack for the allocation counter's own bookkeeping
+    private static final long ALLOWED_BYTES = 1024;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        testPoolAndCursor();
+        System.out.println("The node pool and Cursor work!");
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported())
+        {
+            System.out.println("This JVM can't count allocations, so the allocation checks were skipped.");
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Integer[] values = new Integer[POOL_CAPACITY];
+        for (int i = 0; i < values.length; i++)
+            values[i] = 1000 + i;
+
+        MyLinkedList<Integer> pooled = new MyLinkedList<Integer>(POOL_CAPACITY);
+        MyLinkedList<Integer> unpooled = new MyLinkedList<Integer>();
+        MyLinkedList<Integer>.Cursor cursor = pooled.cursor();
+
+        // warm up so that the loops are compiled and the pool is full
+        for (int round = 0; round < 20; round++)
+        {
+            enqueueDequeue(pooled, values);
+            enqueueDequeue(unpooled, values);
+            walk(cursor);
+        }
+
+        long bytes = allocatedBytes(threads);
+        long sum = enqueueDequeue(pooled, values);
+        long pooledBytes = allocatedBytes(threads) - bytes;
+
+        bytes = allocatedBytes(threads);
+        sum += enqueueDequeue(unpooled, values);
+        long unpooledBytes = allocatedBytes(threads) - bytes;
+
+        debug("pooled: " + pooledBytes + " bytes, unpooled: " + unpooledBytes + " bytes");
+        if (pooledBytes > ALLOWED_BYTES)
+            throw new RuntimeException("enqueue/dequeue on a pooled list allocated " + pooledBytes + " bytes");
+        if (unpooledBytes < NUM_OPERATIONS)
+            throw new RuntimeException("enqueue/dequeue on an unpooled list allocated only " + unpooledBytes +
+                " bytes, so the allocation counter isn't working");
+
+        for (int i = 0; i < POOL_CAPACITY; i++)
+            pooled.addLast(values[i]);
+        bytes = allocatedBytes(threads);
+        for (int round = 0; round < 1000; round++)
+            sum += walk(cursor);
+        long cursorBytes = allocatedBytes(threads) - bytes;
+
+        debug("cursor: " + cursorBytes + " bytes (sum " + sum + ")");
+        if (cursorBytes > ALLOWED_BYTES)
+            throw new RuntimeException("walking with a Cursor allocated " + cursorBytes + " bytes");
+
+        System.out.println("Pooled enqueue/dequeue and Cursor walks allocate nothing!");
+    }
+
+    /**
+     * Runs random adds, removes and Cursor edits on a pooled list against java.util.LinkedList.
+     */
+    private static void testPoolAndCursor()
+    {
+        MyLinkedList<Integer> your = new MyLinkedList<Integer>(POOL_CAPACITY);
+        LinkedList<Integer> real = new LinkedList<Integer>();
+        MyLinkedList<Integer>.Cursor cursor = your.cursor();
+
+        for (int i = 0; i < 100000; i++)
+        {
+            int op = random(5);
+            Integer value = random(1000);
+
+            if (op <= 1 && real.size() < 200)
+            {
+                debug("addLast(" + value + ")");
+                your.addLast(value);
+                real.addLast(value);
+            }
+            else if (op == 2 && real.size() < 200)
+            {
+                int index = random(real.size() + 1);
+                debug("add(" + index + ", " + value + ")");
+                your.add(index, value);
+                real.add(index, value);
+            }
+            else if (op == 3 && !real.isEmpty())
+            {
+                debug("removeFirst()");
+                if (!your.removeFirst().equals(real.removeFirst()))
+                    throw new RuntimeException("removeFirst() returned the wrong element");
+            }
+            else
+            {
+                // a Cursor pass that doubles odd elements and removes multiples of 3
+                debug("cursor pass");
+                ListIterator<Integer> it = real.listIterator();
+                for (cursor.reset(); cursor.next(); )
+                {
+                    Integer expected = it.next();
+                    if (!cursor.get().equals(expected))
+                        throw new RuntimeException("Cursor.get() returned " + cursor.get() +
+                            " and should return " + expected);
+                    if (expected % 3 == 0)
+                    {
+                        cursor.remove();
+                        it.remove();
+                    }
+                    else if (expected % 2 == 1)
+                    {
+                        cursor.set(expected * 2);
+                        it.set(expected * 2);
+                    }
+                }
+                if (it.hasNext())
+                    throw new RuntimeException("Cursor stopped before the end of the list");
+            }
+
+            if (your.size() != real.size())
+                throw new RuntimeException("Your list is the wrong size (should have been " + real.size() + ").");
+            if (your.getPoolSize() > POOL_CAPACITY)
+                throw new RuntimeException("The pool holds " + your.getPoolSize() + " nodes, more than its capacity");
+            if (i % 1000 == 0 && !your.toString().equals(real.toString()))
+                throw new RuntimeException("Your list is " + your + " and should be " + real);
+        }
+
+        your.add(0, 1);
+        try
+        {
+            cursor.next();
+            throw new RuntimeException("next() should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Adds and removes every value NUM_OPERATIONS / values.length times, like a work queue.
+     * @param list the list to use as a queue
+     * @param values the values to enqueue
+     * @return the sum of the dequeued values
+     */
+    private static long enqueueDequeue(MyLinkedList<Integer> list, Integer[] values)
+    {
+        long sum = 0;
+        for (int i = 0; i < NUM_OPERATIONS / values.length; i++)
+        {
+            for (Integer value: values)
+                list.addLast(value);
+            for (int j = 0; j < values.length; j++)
+                sum += list.removeFirst();
+        }
+        return sum;
+    }
+
+    /**
+     * Walks the whole list with a Cursor.
+     * @param cursor the Cursor to walk with
+     * @return the sum of the elements
+     */
+    private static long walk(MyLinkedList<Integer>.Cursor cursor)
+    {
+        long sum = 0;
+        for (cursor.reset(); cursor.next(); )
+            sum += cursor.get();
+        return sum;
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far.
+     * @param threads the JVM's ThreadMXBean
+     * @return the bytes allocated by this thread
+     */
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads)
+    {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
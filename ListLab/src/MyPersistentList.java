@@ -0,0 +1,689 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MyPersistentList is an immutable list. Every change returns a new list and leaves the old
+ * one as it was, so a list can be handed to readers as a snapshot in O(1) time while writers
+ * keep making new versions from it.
+ *
+ * The elements live in a trie where every node has 32 children, plus a tail array holding
+ * the last (up to) 32 elements. get, set, add and removeLast walk one path of the trie, which
+ * is at most log32(n) nodes deep, and copy only the nodes along that path. Every other node
+ * is shared between the old and new versions. Most adds and removeLasts only touch the tail.
+ *
+ * For many changes in a row, toBuilder() returns a Builder that changes its own copies of the
+ * nodes in place instead of copying a path for every call, then build() turns it back into a
+ * MyPersistentList.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <E> Type of the list
+ */
+public final class MyPersistentList<E> implements Iterable<E>
+{
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final MyPersistentList<Object> EMPTY =
+        new MyPersistentList<Object>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    /**
+     * Constructs a MyPersistentList from its parts.
+     * @param size the number of elements
+     * @param shift the number of index bits below the root (BITS times the trie's height)
+     * @param root the root of the trie
+     * @param tail the last elements, exactly as many as are not in the trie
+     */
+    private MyPersistentList(int size, int shift, Node root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty MyPersistentList.
+     * @param <E> Type of the list
+     * @return a list with no elements
+     */
+    public static <E> MyPersistentList<E> empty()
+    {
+        return (MyPersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a new Builder that starts out empty.
+     * @param <E> Type of the list
+     * @return an empty Builder
+     */
+    public static <E> Builder<E> builder()
+    {
+        return MyPersistentList.<E>empty().toBuilder();
+    }
+
+    /**
+     * Returns the size of the list.
+     * @return the number of elements
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Determines whether the list is empty.
+     * @return true if the list has no elements; otherwise false
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     * @param index the specified index
+     * @precondition 0 <= index < size
+     * @return the element at index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index)
+    {
+        checkIndex(index, size);
+        return (E) arrayFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a list with the element at the specified index replaced by obj.
+     * @param index the specified index
+     * @param obj the new element
+     * @precondition 0 <= index < size
+     * @postcondition this list is unchanged
+     * @return a new list that shares every node with this one except those on index's path
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public MyPersistentList<E> set(int index, E obj)
+    {
+        checkIndex(index, size);
+        if (index >= tailOffset(size))
+        {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = obj;
+            return new MyPersistentList<E>(size, shift, root, newTail);
+        }
+
+        return new MyPersistentList<E>(size, shift, setInPath(shift, root, index, obj), tail);
+    }
+
+    /**
+     * Returns a list with obj appended.
+     * @param obj the element to append
+     * @postcondition this list is unchanged
+     * @return a new list one longer than this one, ending with obj
+     */
+    public MyPersistentList<E> add(E obj)
+    {
+        if (size - tailOffset(size) < WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = obj;
+            return new MyPersistentList<E>(size + 1, shift, root, newTail);
+        }
+
+        // the tail is full: push it into the trie and start a new tail
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift))
+        {
+            // the trie is full too, so it grows a level
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        }
+        else
+        {
+            newRoot = pushTail(shift, root, tailNode);
+        }
+        return new MyPersistentList<E>(size + 1, newShift, newRoot, new Object[] {obj});
+    }
+
+    /**
+     * Returns a list without the last element.
+     * @postcondition this list is unchanged
+     * @return a new list one shorter than this one
+     * @throws NoSuchElementException if the list is empty
+     */
+    public MyPersistentList<E> removeLast()
+    {
+        if (size == 0)
+            throw new NoSuchElementException("List is empty");
+        if (size == 1)
+            return empty();
+
+        if (size - tailOffset(size) > 1)
+        {
+            return new MyPersistentList<E>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        // the tail becomes empty: the last leaf of the trie becomes the new tail
+        Object[] newTail = arrayFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null)
+        {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null)
+        {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new MyPersistentList<E>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns a Builder holding the same elements as this list. This takes O(1) time; the
+     * Builder copies nodes only as it changes them.
+     * @return a new Builder
+     */
+    public Builder<E> toBuilder()
+    {
+        return new Builder<E>(this);
+    }
+
+    /**
+     * Returns an Iterator over the list that reads a whole leaf array at each step down the trie.
+     * @return an Iterator for the list
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyPersistentListIterator();
+    }
+
+    /**
+     * Returns a string of comma separated values in the list.
+     * @return String version of the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("[");
+        for (Iterator<E> it = iterator(); it.hasNext(); )
+        {
+            s.append(it.next());
+            if (it.hasNext())
+                s.append(", ");
+        }
+        return s.append("]").toString();
+    }
+
+    /**
+     * Helper function that returns the index of the first element in the tail.
+     * @param count the number of elements
+     * @return the number of elements stored in the trie
+     */
+    private static int tailOffset(int count)
+    {
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Helper function that throws if an index is out of range.
+     * @param index the index to check
+     * @param count the number of elements
+     * @throws IndexOutOfBoundsException if index is not in [0, count)
+     */
+    private static void checkIndex(int index, int count)
+    {
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+    }
+
+    /**
+     * Helper function that finds the array holding an index: the tail, or a leaf of the trie.
+     * @param index the index to find
+     * @precondition 0 <= index < size
+     * @return the array whose slot index & MASK holds the element at index
+     */
+    private Object[] arrayFor(int index)
+    {
+        if (index >= tailOffset(size))
+            return tail;
+
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = (Node) node.array[(index >>> level) & MASK];
+        return node.array;
+    }
+
+    /**
+     * Helper function that copies the path to an index, with the element replaced.
+     * @param level the number of index bits below node
+     * @param node the node to copy
+     * @param index the index to replace
+     * @param obj the new element
+     * @return a copy of node with a new path down to index
+     */
+    private static Node setInPath(int level, Node node, int index, Object obj)
+    {
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0)
+        {
+            copy.array[index & MASK] = obj;
+        }
+        else
+        {
+            int child = (index >>> level) & MASK;
+            copy.array[child] = setInPath(level - BITS, (Node) node.array[child], index, obj);
+        }
+        return copy;
+    }
+
+    /**
+     * Helper function that copies the path to the end of the trie, with a full tail attached
+     * as the new last leaf.
+     * @param level the number of index bits below parent
+     * @param parent the node to copy
+     * @param tailNode a leaf holding the full tail
+     * @return a copy of parent with tailNode added on its right edge
+     */
+    private Node pushTail(int level, Node parent, Node tailNode)
+    {
+        int child = ((size - 1) >>> level) & MASK;
+        Node copy = new Node(null, parent.array.clone());
+        if (level == BITS)
+        {
+            copy.array[child] = tailNode;
+        }
+        else
+        {
+            Node next = (Node) parent.array[child];
+            copy.array[child] = (next != null) ? pushTail(level - BITS, next, tailNode)
+                                               : newPath(null, level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    /**
+     * Helper function that copies the path to the end of the trie, without its last leaf.
+     * @param level the number of index bits below node
+     * @param node the node to copy
+     * @return a copy of node without the last leaf, or null if nothing is left under it
+     */
+    private Node popTail(int level, Node node)
+    {
+        int child = ((size - 2) >>> level) & MASK;
+        if (level > BITS)
+        {
+            Node newChild = popTail(level - BITS, (Node) node.array[child]);
+            if (newChild == null && child == 0)
+                return null;
+
+            Node copy = new Node(null, node.array.clone());
+            copy.array[child] = newChild;
+            return copy;
+        }
+        else if (child == 0)
+        {
+            return null;
+        }
+
+        Node copy = new Node(null, node.array.clone());
+        copy.array[child] = null;
+        return copy;
+    }
+
+    /**
+     * Helper function that builds a chain of single-child nodes down to a leaf.
+     * @param edit the Builder token for the new nodes, or null for a persistent list
+     * @param level the number of index bits below the top of the chain
+     * @param node the leaf at the bottom
+     * @return the top of the chain
+     */
+    private static Node newPath(Object edit, int level, Node node)
+    {
+        if (level == 0)
+            return node;
+
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    /**
+     * The Node class is a node of the trie: an array of 32 children, or of 32 elements at a leaf.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static class Node
+    {
+        private final Object edit;
+        private final Object[] array;
+
+        /**
+         * Constructs a Node.
+         * @param edit the Builder allowed to change this node in place, or null if none is
+         * @param array the children or elements
+         */
+        public Node(Object edit, Object[] array)
+        {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * The Builder class makes many changes to a MyPersistentList without copying a path for
+     * every call. Each node it copies is tagged with the Builder's token, and later changes
+     * to a tagged node happen in place. build() returns the result as a MyPersistentList
+     * and retires the token, so the finished list can never change. A Builder must not be
+     * shared between threads.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     * @param <E> Type of the list
+     */
+    public static final class Builder<E>
+    {
+        private Object edit;
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        /**
+         * Constructs a Builder holding the elements of a list.
+         * @param list the list to start from
+         */
+        private Builder(MyPersistentList<E> list)
+        {
+            edit = new Object();
+            size = list.size;
+            shift = list.shift;
+            root = new Node(edit, list.root.array.clone());
+            tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        /**
+         * Returns the number of elements so far.
+         * @return the size of the Builder
+         */
+        public int size()
+        {
+            return size;
+        }
+
+        /**
+         * Returns the element at the specified index.
+         * @param index the specified index
+         * @return the element at index
+         * @throws IndexOutOfBoundsException if index is out of range
+         * @throws IllegalStateException if build() has been called
+         */
+        public E get(int index)
+        {
+            ensureActive();
+            checkIndex(index, size);
+            if (index >= tailOffset(size))
+                return (E) tail[index & MASK];
+
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS)
+                node = (Node) node.array[(index >>> level) & MASK];
+            return (E) node.array[index & MASK];
+        }
+
+        /**
+         * Replaces the element at the specified index.
+         * @param index the specified index
+         * @param obj the new element
+         * @return this Builder
+         * @throws IndexOutOfBoundsException if index is out of range
+         * @throws IllegalStateException if build() has been called
+         */
+        public Builder<E> set(int index, E obj)
+        {
+            ensureActive();
+            checkIndex(index, size);
+            if (index >= tailOffset(size))
+            {
+                tail[index & MASK] = obj;
+                return this;
+            }
+
+            Node node = root = editable(root);
+            for (int level = shift; level > 0; level -= BITS)
+            {
+                int child = (index >>> level) & MASK;
+                Node next = editable((Node) node.array[child]);
+                node.array[child] = next;
+                node = next;
+            }
+            node.array[index & MASK] = obj;
+            return this;
+        }
+
+        /**
+         * Appends an element.
+         * @param obj the element to append
+         * @return this Builder
+         * @throws IllegalStateException if build() has been called
+         */
+        public Builder<E> add(E obj)
+        {
+            ensureActive();
+            if (size - tailOffset(size) < WIDTH)
+            {
+                tail[size & MASK] = obj;
+                size++;
+                return this;
+            }
+
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = obj;
+            if ((size >>> BITS) > (1 << shift))
+            {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            }
+            else
+            {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Removes the last element.
+         * @return this Builder
+         * @throws NoSuchElementException if the Builder is empty
+         * @throws IllegalStateException if build() has been called
+         */
+        public Builder<E> removeLast()
+        {
+            ensureActive();
+            if (size == 0)
+                throw new NoSuchElementException("List is empty");
+
+            if (size == 1 || size - tailOffset(size) > 1)
+            {
+                size--;
+                tail[size & MASK] = null;
+                return this;
+            }
+
+            // the last leaf becomes the tail; copy it, since the tail is changed in place
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS)
+                node = (Node) node.array[((size - 2) >>> level) & MASK];
+            Object[] newTail = node.array.clone();
+
+            Node newRoot = popTail(shift, root);
+            if (newRoot == null)
+            {
+                newRoot = new Node(edit, new Object[WIDTH]);
+            }
+            if (shift > BITS && newRoot.array[1] == null)
+            {
+                newRoot = editable((Node) newRoot.array[0]);
+                shift -= BITS;
+            }
+            root = newRoot;
+            tail = newTail;
+            size--;
+            return this;
+        }
+
+        /**
+         * Returns the elements as a MyPersistentList and retires this Builder.
+         * @postcondition every later call on this Builder throws IllegalStateException
+         * @return a MyPersistentList holding the Builder's elements
+         * @throws IllegalStateException if build() has already been called
+         */
+        public MyPersistentList<E> build()
+        {
+            ensureActive();
+            edit = null;
+            if (size == 0)
+                return empty();
+            return new MyPersistentList<E>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        /**
+         * Helper function that throws if build() has been called.
+         * @throws IllegalStateException if the Builder has been retired
+         */
+        private void ensureActive()
+        {
+            if (edit == null)
+                throw new IllegalStateException("Builder used after build()");
+        }
+
+        /**
+         * Helper function that returns a node this Builder may change in place.
+         * @param node a node of the trie
+         * @return node itself if this Builder made it; otherwise a copy tagged with this Builder
+         */
+        private Node editable(Node node)
+        {
+            if (node.edit == edit)
+                return node;
+            return new Node(edit, node.array.clone());
+        }
+
+        /**
+         * Helper function that adds a full tail as the new last leaf of the trie, changing
+         * the path to it in place.
+         * @param level the number of index bits below parent
+         * @param parent a node on the right edge of the trie
+         * @param tailNode a leaf holding the full tail
+         * @return parent, or the editable copy of it that now holds the path
+         */
+        private Node pushTail(int level, Node parent, Node tailNode)
+        {
+            Node node = editable(parent);
+            int child = ((size - 1) >>> level) & MASK;
+            if (level == BITS)
+            {
+                node.array[child] = tailNode;
+            }
+            else
+            {
+                Node next = (Node) node.array[child];
+                node.array[child] = (next != null) ? pushTail(level - BITS, next, tailNode)
+                                                   : newPath(edit, level - BITS, tailNode);
+            }
+            return node;
+        }
+
+        /**
+         * Helper function that removes the last leaf of the trie, changing the path to it in place.
+         * @param level the number of index bits below node
+         * @param parent a node on the right edge of the trie
+         * @return parent (or its editable copy) without the last leaf, or null if nothing is left
+         */
+        private Node popTail(int level, Node parent)
+        {
+            Node node = editable(parent);
+            int child = ((size - 2) >>> level) & MASK;
+            if (level > BITS)
+            {
+                Node newChild = popTail(level - BITS, (Node) node.array[child]);
+                if (newChild == null && child == 0)
+                    return null;
+
+                node.array[child] = newChild;
+                return node;
+            }
+            else if (child == 0)
+            {
+                return null;
+            }
+
+            node.array[child] = null;
+            return node;
+        }
+    }
+
+    /**
+     * The MyPersistentListIterator class is an Iterator for a MyPersistentList. It looks up
+     * each leaf array once and then reads its elements directly. Since the list never
+     * changes, it never throws ConcurrentModificationException.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class MyPersistentListIterator implements Iterator<E>
+    {
+        private int nextIndex;
+        private Object[] leaf;
+
+        /**
+         * Constructs a MyPersistentListIterator with the nextIndex set to 0.
+         */
+        public MyPersistentListIterator()
+        {
+            nextIndex = 0;
+            leaf = null;
+        }
+
+        /**
+         * Determines if the iterator has a valid next element (if it has reached the end or not).
+         * @return true if there is a next element; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+
+        /**
+         * Returns the value of the next element.
+         * @postcondition the Iterator moves forward by one element
+         * @return next Object in the list
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        public E next()
+        {
+            if (nextIndex >= size)
+                throw new NoSuchElementException("Iteration has no more elements");
+
+            if ((nextIndex & MASK) == 0 || leaf == null)
+                leaf = arrayFor(nextIndex);
+            E val = (E) leaf[nextIndex & MASK];
+            nextIndex++;
+            return val;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+import java.util.*;
+
+/**
+ * Tester for MyPersistentList. Keeps many versions of a list alive at once, each next to an
+ * ArrayList copy of what it should hold, and makes random changes to random versions, checking
+ * that every old version stays exactly as it was. Then runs the same checks through Builders
+ * and grows a list past three levels of the trie and back.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class MyPersistentList_Tester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 10000;
+    private static final int NUM_VERSIONS = 20;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        testVersions();
+        System.out.println("Old versions stay unchanged!");
+        testBuilder();
+        System.out.println("The Builder works!");
+        testDeepTrie();
+        System.out.println("MyPersistentList works on a deep trie!");
+    }
+
+    /**
+     * Makes random changes to random versions and checks every version against its copy.
+     */
+    private static void testVersions()
+    {
+        List<MyPersistentList<Integer>> versions = new ArrayList<MyPersistentList<Integer>>();
+        List<List<Integer>> copies = new ArrayList<List<Integer>>();
+        versions.add(MyPersistentList.<Integer>empty());
+        copies.add(new ArrayList<Integer>());
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            int from = random(versions.size());
+            MyPersistentList<Integer> your = versions.get(from);
+            List<Integer> real = new ArrayList<Integer>(copies.get(from));
+            int op = random(4);
+            Integer value = random(1000);
+
+            if ((op <= 1 && real.size() < 2000) || real.isEmpty())
+            {
+                debug("add(" + value + ")");
+                // add several elements so the versions grow past a few leaves
+                for (int j = random(100); j >= 0; j--)
+                {
+                    your = your.add(value + j);
+                    real.add(value + j);
+                }
+            }
+            else if (op == 2)
+            {
+                int index = random(real.size());
+                debug("set(" + index + ", " + value + ")");
+                your = your.set(index, value);
+                real.set(index, value);
+            }
+            else
+            {
+                debug("removeLast()");
+                for (int j = random(60); j >= 0 && !real.isEmpty(); j--)
+                {
+                    your = your.removeLast();
+                    real.remove(real.size() - 1);
+                }
+            }
+
+            check(your, real);
+            if (versions.size() < NUM_VERSIONS)
+            {
+                versions.add(your);
+                copies.add(real);
+            }
+            else
+            {
+                int replace = random(NUM_VERSIONS);
+                versions.set(replace, your);
+                copies.set(replace, real);
+            }
+
+            if (i % 500 == 0)
+            {
+                for (int v = 0; v < versions.size(); v++)
+                    check(versions.get(v), copies.get(v));
+            }
+        }
+
+        try
+        {
+            MyPersistentList.<Integer>empty().removeLast();
+            throw new RuntimeException("removeLast() on an empty list should throw NoSuchElementException");
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Runs batches of changes through Builders made from random versions, checking that the
+     * versions they started from are unchanged and that a built Builder can't be used again.
+     */
+    private static void testBuilder()
+    {
+        MyPersistentList<Integer> base = MyPersistentList.empty();
+        List<Integer> baseCopy = new ArrayList<Integer>();
+
+        for (int round = 0; round < 200; round++)
+        {
+            MyPersistentList.Builder<Integer> builder = base.toBuilder();
+            List<Integer> real = new ArrayList<Integer>(baseCopy);
+
+            for (int i = 0; i < 500; i++)
+            {
+                int op = random(4);
+                Integer value = random(1000);
+                if ((op <= 1 && real.size() < 2000) || real.isEmpty())
+                {
+                    builder.add(value);
+                    real.add(value);
+                }
+                else if (op == 2)
+                {
+                    int index = random(real.size());
+                    builder.set(index, value);
+                    real.set(index, value);
+                }
+                else
+                {
+                    builder.removeLast();
+                    real.remove(real.size() - 1);
+                }
+
+                if (builder.size() != real.size())
+                    throw new RuntimeException("Builder size is " + builder.size() + " and should be " + real.size());
+                if (!real.isEmpty())
+                {
+                    int index = random(real.size());
+                    if (!builder.get(index).equals(real.get(index)))
+                        throw new RuntimeException("Builder get(" + index + ") returned " + builder.get(index) +
+                            " and should return " + real.get(index));
+                }
+            }
+
+            MyPersistentList<Integer> built = builder.build();
+            check(built, real);
+            check(base, baseCopy);
+
+            try
+            {
+                builder.add(1);
+                throw new RuntimeException("a Builder should throw IllegalStateException after build()");
+            }
+            catch (IllegalStateException e)
+            {
+                // expected
+            }
+
+            // the built list must not change when a later Builder changes its shared nodes
+            MyPersistentList.Builder<Integer> next = built.toBuilder();
+            for (int i = 0; i < real.size(); i++)
+                next.set(i, -1);
+            check(built, real);
+
+            if (random(2) == 0)
+            {
+                base = built;
+                baseCopy = real;
+            }
+        }
+    }
+
+    /**
+     * Grows a list to more than 32 * 32 * 32 elements, so the trie has a fourth level, then
+     * shrinks it back to nothing, both as a MyPersistentList and through a Builder, checking
+     * it on the way up and down.
+     */
+    private static void testDeepTrie()
+    {
+        int size = 32 * 32 * 32 + 100;
+        MyPersistentList.Builder<Integer> builder = MyPersistentList.builder();
+        MyPersistentList<Integer> your = MyPersistentList.empty();
+        for (int i = 0; i < size; i++)
+        {
+            builder.add(i);
+            your = your.add(i);
+        }
+
+        MyPersistentList<Integer> built = builder.build();
+        for (int i = 0; i < size; i++)
+        {
+            if (your.get(i) != i || built.get(i) != i)
+                throw new RuntimeException("get(" + i + ") returned " + your.get(i) + " and " + built.get(i));
+        }
+
+        int index = 0;
+        for (Integer value: built)
+        {
+            if (value != index)
+                throw new RuntimeException("the iterator returned " + value + " and should return " + index);
+            index++;
+        }
+
+        MyPersistentList<Integer> snapshot = your;
+        for (int i = size - 1; i >= 0; i--)
+        {
+            your = your.removeLast();
+            if (your.size() != i || (i > 0 && your.get(i - 1) != i - 1))
+                throw new RuntimeException("removeLast() broke the list at size " + i);
+        }
+        if (snapshot.size() != size || snapshot.get(size - 1) != size - 1 || !your.isEmpty())
+            throw new RuntimeException("removeLast() changed an old version");
+
+        MyPersistentList.Builder<Integer> shrinking = built.toBuilder();
+        for (int i = size - 1; i >= 0; i--)
+        {
+            shrinking.removeLast();
+            if (shrinking.size() != i || (i > 0 && shrinking.get(i - 1) != i - 1))
+                throw new RuntimeException("Builder removeLast() broke the list at size " + i);
+            if (i % 1000 == 0)
+                shrinking.add(-1).removeLast();
+        }
+        if (built.size() != size || built.get(size - 1) != size - 1 || !shrinking.build().isEmpty())
+            throw new RuntimeException("Builder removeLast() changed the list it was made from");
+    }
+
+    /**
+     * Checks a MyPersistentList against the elements it should hold.
+     * @param your the list to check
+     * @param real the expected elements
+     */
+    private static void check(MyPersistentList<Integer> your, List<Integer> real)
+    {
+        if (your.size() != real.size())
+            throw new RuntimeException("Size is " + your.size() + " and should be " + real.size());
+        for (int i = 0; i < real.size(); i++)
+        {
+            if (!your.get(i).equals(real.get(i)))
+                throw new RuntimeException("get(" + i + ") returned " + your.get(i) + " and should return " +
+                    real.get(i));
+        }
+        if (!your.toString().equals(real.toString()))
+            throw new RuntimeException("toString is " + your + " and should be " + real);
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
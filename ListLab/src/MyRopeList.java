@@ -0,0 +1,951 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MyRopeList is a list built for editing in the middle. The elements are split into small
+ * leaves of at most 64 elements, and the leaves hang off a balanced (AVL) tree whose nodes
+ * know how many elements lie below them, so any index is found in O(log n) time.
+ * Each leaf is a gap buffer: its unused slots sit at the position of the last edit, so a run
+ * of inserts or removes at nearby positions only shifts a few elements.
+ *
+ * The list also remembers the leaf of the last access (the finger) and where it starts.
+ * Accesses that land in the same leaf skip the tree entirely, and edits there do not update
+ * the sizes stored in the tree right away; the change is kept as a pending delta and written
+ * up the tree only when another part of the tree is needed. Together, this makes edits near
+ * the cursor amortized O(1), while split and concat still run in O(log n) time.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <E> Type of the list
+ */
+public class MyRopeList<E>
+{
+    private static final int LEAF_CAPACITY = 64;
+
+    private Node root;
+    private int size;
+    private int modCount;
+
+    private Leaf finger;
+    private int fingerStart;
+    private int pendingDelta;
+
+    /**
+     * Constructs an empty MyRopeList.
+     */
+    public MyRopeList()
+    {
+        root = null;
+        size = 0;
+        modCount = 0;
+        finger = null;
+    }
+
+    /**
+     * Returns a string of comma separated values in the list.
+     * @return String version of the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size; i++)
+        {
+            if (i > 0)
+                s.append(", ");
+            s.append(get(i));
+        }
+        return s.append("]").toString();
+    }
+
+    /**
+     * Returns the size of the list.
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     * @precondition 0 <= index < size
+     * @param index requested index to retrieve
+     * @return the object located at index of the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index)
+    {
+        checkIndex(index);
+        locate(index, false);
+        return (E) finger.get(index - fingerStart);
+    }
+
+    /**
+     * Sets the value at the specified index to obj.
+     * @precondition 0 <= index < size
+     * @param index the index to set the value to
+     * @param obj the object to set the element to
+     * @return the value of the element before setting the new value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E set(int index, E obj)
+    {
+        checkIndex(index);
+        locate(index, false);
+        return (E) finger.set(index - fingerStart, obj);
+    }
+
+    /**
+     * Adds an element with value obj to the end of the list.
+     * @param obj value of the element to be added
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        add(size, obj);
+        return true;
+    }
+
+    /**
+     * Adds an element with value obj at the specified index and moves elements after it forward.
+     * @param index insertion index
+     * @param obj value of the element to be inserted
+     * @precondition  0 <= index <= size
+     * @postcondition inserts obj at position index,
+     *                moving elements at position index and higher
+     *                to the right (adds 1 to their indices) and adjusts size
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void add(int index, E obj)
+    {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("index " + index + " is out of range for size " + size);
+
+        if (root == null)
+        {
+            root = new Leaf();
+            finger = (Leaf) root;
+            fingerStart = 0;
+        }
+        else
+        {
+            locate(index, true);
+        }
+
+        int offset = index - fingerStart;
+
+        if (finger.size == LEAF_CAPACITY)
+        {
+            // appending to either end of a full leaf starts a new leaf instead of halving it
+            int at = offset == 0 || offset == LEAF_CAPACITY ? offset : LEAF_CAPACITY / 2;
+            Leaf right = splitLeaf(finger, at);
+            if (offset > at || (offset == at && at == LEAF_CAPACITY))
+            {
+                fingerStart += at;
+                offset -= at;
+                finger = right;
+            }
+        }
+
+        finger.insert(offset, obj);
+        pendingDelta++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an element to the front of the list.
+     * @param obj the element to add
+     */
+    public void addFirst(E obj)
+    {
+        add(0, obj);
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     * @param obj the element to add
+     */
+    public void addLast(E obj)
+    {
+        add(size, obj);
+    }
+
+    /**
+     * Removes the element at the specified index and returns the value of
+     * the element prior to removal.
+     * @param index index of the element to be removed
+     * @precondition 0 <= index < size
+     * @postcondition removes element from position index, moving elements
+     *                at position index + 1 and higher to the left
+     *                (subtracts 1 from their indices) and adjusts size
+     * @return value of the element prior to removal
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E remove(int index)
+    {
+        checkIndex(index);
+        locate(index, false);
+
+        E old = (E) finger.remove(index - fingerStart);
+        pendingDelta--;
+        size--;
+        modCount++;
+
+        if (finger.size == 0)
+            removeLeaf(finger);
+
+        return old;
+    }
+
+    /**
+     * Removes the first element of the list.
+     * @return the removed element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E removeFirst()
+    {
+        if (size == 0)
+            throw new NoSuchElementException("the list is empty");
+
+        return remove(0);
+    }
+
+    /**
+     * Removes the last element of the list.
+     * @return the removed element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E removeLast()
+    {
+        if (size == 0)
+            throw new NoSuchElementException("the list is empty");
+
+        return remove(size - 1);
+    }
+
+    /**
+     * Returns the first element of the list.
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getFirst()
+    {
+        if (size == 0)
+            throw new NoSuchElementException("the list is empty");
+
+        return get(0);
+    }
+
+    /**
+     * Returns the last element of the list.
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getLast()
+    {
+        if (size == 0)
+            throw new NoSuchElementException("the list is empty");
+
+        return get(size - 1);
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear()
+    {
+        root = null;
+        finger = null;
+        pendingDelta = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Splits the list in two in O(log n) time. This list keeps the elements before index,
+     * and the elements from index on are moved into a new list.
+     * @param index the index of the first element to move
+     * @precondition 0 <= index <= size
+     * @return a new MyRopeList holding the elements formerly at index and higher
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public MyRopeList<E> split(int index)
+    {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("index " + index + " is out of range for size " + size);
+
+        flush();
+        finger = null;
+
+        MyRopeList<E> other = new MyRopeList<E>();
+        if (root != null)
+        {
+            Node[] parts = split(root, index);
+            root = parts[0];
+            other.root = parts[1];
+        }
+
+        other.size = size - index;
+        size = index;
+        modCount++;
+        return other;
+    }
+
+    /**
+     * Moves every element of other to the end of this list in O(log n) time,
+     * leaving other empty.
+     * @param other the list whose elements are appended
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void concat(MyRopeList<E> other)
+    {
+        if (other == this)
+            throw new IllegalArgumentException("cannot concatenate a list with itself");
+
+        flush();
+        other.flush();
+        finger = null;
+
+        root = join(root, other.root);
+        size += other.size;
+        modCount++;
+
+        other.clear();
+    }
+
+    /**
+     * Returns a new Iterator for MyRopeList.
+     * @return an Iterator over the elements in order
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyRopeListIterator(0);
+    }
+
+    /**
+     * Returns a new ListIterator for MyRopeList, starting at the front.
+     * @return a ListIterator over the elements in order
+     */
+    public ListIterator<E> listIterator()
+    {
+        return new MyRopeListIterator(0);
+    }
+
+    /**
+     * Returns a new ListIterator for MyRopeList, starting before the given index.
+     * @param index the index of the first element returned by next()
+     * @return a ListIterator over the elements in order
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public ListIterator<E> listIterator(int index)
+    {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("index " + index + " is out of range for size " + size);
+
+        return new MyRopeListIterator(index);
+    }
+
+    /**
+     * Helper function that checks that index refers to an element.
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is not in [0, size)
+     */
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index " + index + " is out of range for size " + size);
+    }
+
+    /**
+     * Helper function that moves the finger to the leaf holding index. If the finger is
+     * already there, the tree is not touched at all.
+     * @param index the index to find
+     * @param forInsert true if index may be the position just after the finger's last element
+     */
+    private void locate(int index, boolean forInsert)
+    {
+        if (finger != null && index >= fingerStart
+                && (index < fingerStart + finger.size || (forInsert && index == fingerStart + finger.size)))
+            return;
+
+        flush();
+
+        Node node = root;
+        int start = 0;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            if (index - start < branch.left.size)
+            {
+                node = branch.left;
+            }
+            else
+            {
+                start += branch.left.size;
+                node = branch.right;
+            }
+        }
+
+        finger = (Leaf) node;
+        fingerStart = start;
+    }
+
+    /**
+     * Helper function that writes the pending size change of the finger leaf into the sizes
+     * of every node above it.
+     */
+    private void flush()
+    {
+        if (pendingDelta != 0)
+        {
+            for (Branch branch = finger.parent; branch != null; branch = branch.parent)
+                branch.size += pendingDelta;
+            pendingDelta = 0;
+        }
+    }
+
+    /**
+     * Helper function that splits a full leaf in the tree into two leaves.
+     * @param leaf the leaf to split
+     * @param at the number of elements leaf keeps
+     * @return the new leaf, holding the elements after at
+     */
+    private Leaf splitLeaf(Leaf leaf, int at)
+    {
+        flush();
+
+        Branch parent = leaf.parent;
+        Leaf right = leaf.splitOff(at);
+        Branch branch = new Branch(leaf, right);
+        replaceChild(parent, leaf, branch);
+        root = rebalanceFrom(parent, branch);
+        return right;
+    }
+
+    /**
+     * Helper function that removes an empty leaf from the tree.
+     * @param leaf the leaf to remove
+     */
+    private void removeLeaf(Leaf leaf)
+    {
+        flush();
+        finger = null;
+
+        Branch parent = leaf.parent;
+        if (parent == null)
+        {
+            root = null;
+            return;
+        }
+
+        Node sibling = parent.left == leaf ? parent.right : parent.left;
+        Branch grandparent = parent.parent;
+        replaceChild(grandparent, parent, sibling);
+        root = rebalanceFrom(grandparent, sibling);
+    }
+
+    /**
+     * Helper function that puts child in place of old below parent.
+     * @param parent the parent of old, or null if old is a root
+     * @param old the node being replaced
+     * @param child the replacement
+     */
+    private static void replaceChild(Branch parent, Node old, Node child)
+    {
+        child.parent = parent;
+        if (parent != null)
+        {
+            if (parent.left == old)
+                parent.left = child;
+            else
+                parent.right = child;
+        }
+    }
+
+    /**
+     * Helper function that recomputes sizes and heights from branch up to the top of its
+     * tree, rotating wherever a branch is out of balance.
+     * @param branch the lowest branch that changed, or null if the change was at the top
+     * @param top the node to return if branch is null
+     * @return the top node of the tree afterwards
+     */
+    private static Node rebalanceFrom(Branch branch, Node top)
+    {
+        Node node = top;
+        while (branch != null)
+        {
+            branch.update();
+            node = balance(branch);
+            branch = node.parent;
+        }
+
+        return node;
+    }
+
+    /**
+     * Helper function that restores the AVL balance of a branch whose children are balanced
+     * and differ in height by at most two.
+     * @param branch the branch to balance
+     * @return the node that took branch's place
+     */
+    private static Node balance(Branch branch)
+    {
+        int factor = branch.left.height - branch.right.height;
+
+        if (factor > 1)
+        {
+            Branch left = (Branch) branch.left;
+            if (left.left.height < left.right.height)
+                rotateLeft(left);
+            return rotateRight(branch);
+        }
+        if (factor < -1)
+        {
+            Branch right = (Branch) branch.right;
+            if (right.right.height < right.left.height)
+                rotateRight(right);
+            return rotateLeft(branch);
+        }
+
+        return branch;
+    }
+
+    /**
+     * Helper function that rotates a branch to the left.
+     * @param branch the branch to rotate
+     * @return its right child, which takes its place
+     */
+    private static Branch rotateLeft(Branch branch)
+    {
+        Branch right = (Branch) branch.right;
+        replaceChild(branch.parent, branch, right);
+
+        branch.right = right.left;
+        branch.right.parent = branch;
+        right.left = branch;
+        branch.parent = right;
+
+        branch.update();
+        right.update();
+        return right;
+    }
+
+    /**
+     * Helper function that rotates a branch to the right.
+     * @param branch the branch to rotate
+     * @return its left child, which takes its place
+     */
+    private static Branch rotateRight(Branch branch)
+    {
+        Branch left = (Branch) branch.left;
+        replaceChild(branch.parent, branch, left);
+
+        branch.left = left.right;
+        branch.left.parent = branch;
+        left.right = branch;
+        branch.parent = left;
+
+        branch.update();
+        left.update();
+        return left;
+    }
+
+    /**
+     * Helper function that concatenates two trees, keeping them balanced. Only the spine of
+     * the taller tree is walked, so this takes O(difference in height) time.
+     * @param a the tree holding the first elements (may be null); must not have a parent
+     * @param b the tree holding the last elements (may be null); must not have a parent
+     * @return the joined tree
+     */
+    private static Node join(Node a, Node b)
+    {
+        if (a == null)
+            return b;
+        if (b == null)
+            return a;
+
+        if (a.height > b.height + 1)
+        {
+            Node node = a;
+            while (node.height > b.height + 1)
+                node = ((Branch) node).right;
+
+            Branch parent = node.parent;
+            Branch branch = new Branch(node, b);
+            parent.right = branch;
+            branch.parent = parent;
+            return rebalanceFrom(parent, branch);
+        }
+        if (b.height > a.height + 1)
+        {
+            Node node = b;
+            while (node.height > a.height + 1)
+                node = ((Branch) node).left;
+
+            Branch parent = node.parent;
+            Branch branch = new Branch(a, node);
+            parent.left = branch;
+            branch.parent = parent;
+            return rebalanceFrom(parent, branch);
+        }
+
+        return new Branch(a, b);
+    }
+
+    /**
+     * Helper function that splits a tree into the elements before index and the rest.
+     * Each level joins a piece back on, and the joins' costs telescope to O(log n).
+     * @param node the tree to split; must not have a parent
+     * @param index the number of elements in the first part
+     * @return the first part and the second part (either may be null)
+     */
+    private static Node[] split(Node node, int index)
+    {
+        if (index == 0)
+            return new Node[] {null, node};
+        if (index == node.size)
+            return new Node[] {node, null};
+
+        if (node instanceof Leaf)
+        {
+            Leaf leaf = (Leaf) node;
+            return new Node[] {leaf, leaf.splitOff(index)};
+        }
+
+        Branch branch = (Branch) node;
+        Node left = branch.left;
+        Node right = branch.right;
+        left.parent = null;
+        right.parent = null;
+
+        if (index <= left.size)
+        {
+            Node[] parts = split(left, index);
+            return new Node[] {parts[0], join(parts[1], right)};
+        }
+
+        Node[] parts = split(right, index - left.size);
+        return new Node[] {join(left, parts[0]), parts[1]};
+    }
+
+    /**
+     * The Node class is a node of the tree: either a Branch or a Leaf.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private abstract static class Node
+    {
+        Branch parent;
+        int size;
+        int height;
+    }
+
+    /**
+     * The Branch class is an inner node of the tree. It always has two children and stores
+     * the total number of elements below it and its height.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static final class Branch extends Node
+    {
+        Node left;
+        Node right;
+
+        /**
+         * Constructs a Branch over two trees.
+         * @param left the tree holding the first elements
+         * @param right the tree holding the last elements
+         */
+        Branch(Node left, Node right)
+        {
+            this.left = left;
+            this.right = right;
+            left.parent = this;
+            right.parent = this;
+            update();
+        }
+
+        /**
+         * Recomputes the size and height from the children.
+         */
+        void update()
+        {
+            size = left.size + right.size;
+            height = 1 + Math.max(left.height, right.height);
+        }
+    }
+
+    /**
+     * The Leaf class holds up to LEAF_CAPACITY elements in a gap buffer: the elements before
+     * the gap are at the front of the array and the rest are at the back, so inserting or
+     * removing at the gap moves nothing, and moving the gap copies only the elements between
+     * its old and new positions.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static final class Leaf extends Node
+    {
+        final Object[] items;
+        int gapStart;
+        int gapEnd;
+
+        /**
+         * Constructs an empty Leaf.
+         */
+        Leaf()
+        {
+            items = new Object[LEAF_CAPACITY];
+            gapStart = 0;
+            gapEnd = LEAF_CAPACITY;
+        }
+
+        /**
+         * Returns the element at an offset in this leaf.
+         * @param i the offset of the element
+         * @return the element
+         */
+        Object get(int i)
+        {
+            return items[i < gapStart ? i : i + gapEnd - gapStart];
+        }
+
+        /**
+         * Replaces the element at an offset in this leaf.
+         * @param i the offset of the element
+         * @param value the new element
+         * @return the old element
+         */
+        Object set(int i, Object value)
+        {
+            int slot = i < gapStart ? i : i + gapEnd - gapStart;
+            Object old = items[slot];
+            items[slot] = value;
+            return old;
+        }
+
+        /**
+         * Moves the gap so that it starts at offset pos, clearing any slots that end up in
+         * the gap so the garbage collector can reclaim their elements.
+         * @param pos the new start of the gap
+         */
+        void moveGap(int pos)
+        {
+            if (pos < gapStart)
+            {
+                int length = gapStart - pos;
+                System.arraycopy(items, pos, items, gapEnd - length, length);
+                Arrays.fill(items, pos, Math.min(gapStart, gapEnd - length), null);
+                gapStart = pos;
+                gapEnd -= length;
+            }
+            else if (pos > gapStart)
+            {
+                int length = pos - gapStart;
+                System.arraycopy(items, gapEnd, items, gapStart, length);
+                Arrays.fill(items, Math.max(gapEnd, pos), gapEnd + length, null);
+                gapStart += length;
+                gapEnd += length;
+            }
+        }
+
+        /**
+         * Inserts an element at an offset; the leaf must not be full.
+         * @param i the offset to insert at
+         * @param value the element to insert
+         */
+        void insert(int i, Object value)
+        {
+            moveGap(i);
+            items[gapStart++] = value;
+            size++;
+        }
+
+        /**
+         * Removes the element at an offset.
+         * @param i the offset of the element
+         * @return the removed element
+         */
+        Object remove(int i)
+        {
+            moveGap(i);
+            Object old = items[gapEnd];
+            items[gapEnd++] = null;
+            size--;
+            return old;
+        }
+
+        /**
+         * Moves the elements from offset i on into a new Leaf.
+         * @param i the number of elements this leaf keeps
+         * @return a new Leaf with the remaining elements
+         */
+        Leaf splitOff(int i)
+        {
+            moveGap(i);
+
+            Leaf right = new Leaf();
+            int length = LEAF_CAPACITY - gapEnd;
+            System.arraycopy(items, gapEnd, right.items, 0, length);
+            right.gapStart = length;
+            right.size = length;
+
+            Arrays.fill(items, gapEnd, LEAF_CAPACITY, null);
+            gapEnd = LEAF_CAPACITY;
+            size = i;
+            return right;
+        }
+    }
+
+    /**
+     * The MyRopeListIterator class is a ListIterator for a MyRopeList. Stepping to a nearby
+     * element reuses the list's finger, so a full pass takes O(n) time. It is fail-fast.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class MyRopeListIterator implements ListIterator<E>
+    {
+        private int nextIndex;
+        private int lastIndex;
+        private int expectedModCount;
+
+        /**
+         * Constructs a MyRopeListIterator positioned before the given index.
+         * @param index the index of the first element returned by next()
+         */
+        public MyRopeListIterator(int index)
+        {
+            nextIndex = index;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Determines if the list was modified without using the iterator.
+         * @throws ConcurrentModificationException if the list was modified without
+         *                                         using iterator methods
+         */
+        private void checkForModException()
+        {
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("Modified MyRopeList without " +
+                                                          "using ListIterator methods");
+            }
+        }
+
+        /**
+         * Determines if there is a next element.
+         * @return true if there is a next element; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+
+        /**
+         * Returns the next element and moves the cursor forward.
+         * @return the next element
+         * @throws NoSuchElementException if the iteration has no next element
+         */
+        public E next()
+        {
+            checkForModException();
+            if (!hasNext())
+                throw new NoSuchElementException("Iteration has no next element");
+
+            lastIndex = nextIndex++;
+            return get(lastIndex);
+        }
+
+        /**
+         * Determines if there is a previous element.
+         * @return true if there is a previous element; otherwise false
+         */
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+
+        /**
+         * Returns the previous element and moves the cursor backward.
+         * @return the previous element
+         * @throws NoSuchElementException if the iteration has no previous element
+         */
+        public E previous()
+        {
+            checkForModException();
+            if (!hasPrevious())
+                throw new NoSuchElementException("Iteration has no previous element");
+
+            lastIndex = --nextIndex;
+            return get(lastIndex);
+        }
+
+        /**
+         * Returns index of the next element.
+         * @return index of element that would be returned by a call to next()
+         */
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        /**
+         * Returns index of the previous element.
+         * @return index of element that would be returned by a call to previous()
+         */
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+
+        /**
+         * Removes the element that was returned by next() or previous().
+         * @throws IllegalStateException if neither next nor previous have been called
+         *                               since the last add or remove
+         */
+        public void remove()
+        {
+            checkForModException();
+            if (lastIndex < 0)
+                throw new IllegalStateException("neither next nor previous have been called");
+
+            MyRopeList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Sets the element that was returned by next() or previous().
+         * @param obj new value for the element
+         * @throws IllegalStateException if neither next nor previous have been called
+         *                               since the last add or remove
+         */
+        public void set(E obj)
+        {
+            checkForModException();
+            if (lastIndex < 0)
+                throw new IllegalStateException("neither next nor previous have been called");
+
+            MyRopeList.this.set(lastIndex, obj);
+        }
+
+        /**
+         * Inserts an element before the element that would be returned by next().
+         * @param obj element to add
+         */
+        public void add(E obj)
+        {
+            checkForModException();
+
+            MyRopeList.this.add(nextIndex++, obj);
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
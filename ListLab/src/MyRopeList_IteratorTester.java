@@ -0,0 +1,359 @@
+import java.util.*;
+
+/**
+ * Tester for MyRopeList. Runs the same kinds of operations as MyArrayList_IteratorTester
+ * and MyLinkedList_IteratorTester (get/set/add/remove, addFirst/addLast/removeFirst/removeLast,
+ * Iterator.remove and the ListIterator), but on lists long enough to span many leaves, plus
+ * edits clustered around a moving cursor and random split/concat calls.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class MyRopeList_IteratorTester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 200000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        testRandom();
+        System.out.println("You win!");
+        testDeque();
+        System.out.println("addFirst/addLast/removeFirst/removeLast work!");
+        testIterators();
+        System.out.println("Your iterator and list iterator work!");
+        testSplitConcat();
+        System.out.println("split and concat work!");
+        System.out.println("Phew the testers finally done. And you can breathe easy!");
+    }
+
+    /**
+     * Runs random add/remove/set/get calls, mostly near a cursor that drifts through the list.
+     */
+    private static void testRandom()
+    {
+        MyRopeList<Integer> your = new MyRopeList<Integer>();
+        ArrayList<Integer> real = new ArrayList<Integer>();
+        int cursor = 0;
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            // most edits land near the cursor; some jump anywhere
+            if (random(100) == 0)
+                cursor = random(real.size() + 1);
+            int index = Math.max(0, Math.min(real.size(), cursor + random(9) - 4));
+
+            int op = random(4);
+            if (op <= 1 && real.size() < 3000)
+            {
+                Integer value = random(1000);
+                debug("add(" + index + ", " + value + ")");
+                real.add(index, value);
+                your.add(index, value);
+                cursor = index + 1;
+            }
+            else if (op == 2 && index < real.size())
+            {
+                debug("remove(" + index + ")");
+                Integer realValue = real.remove(index);
+                Integer yourValue = your.remove(index);
+                if (!realValue.equals(yourValue))
+                    throw new RuntimeException("remove(" + index + ") returned " + yourValue +
+                        " and should return " + realValue);
+                cursor = index;
+            }
+            else if (index < real.size())
+            {
+                Integer value = random(1000);
+                debug("set(" + index + ", " + value + ")");
+                Integer realOld = real.set(index, value);
+                Integer yourOld = your.set(index, value);
+                if (!realOld.equals(yourOld))
+                    throw new RuntimeException("set(" + index + ", " + value + ") returned " +
+                        yourOld + " and should return " + realOld);
+            }
+
+            if (your.size() != real.size())
+                throw new RuntimeException("Size is " + your.size() + " and should be " + real.size());
+
+            if (real.size() > 0)
+            {
+                int probe = random(real.size());
+                if (!your.get(probe).equals(real.get(probe)))
+                    throw new RuntimeException("get(" + probe + ") returned " + your.get(probe) +
+                        " and should return " + real.get(probe));
+            }
+
+            if (i % 1000 == 0 && !your.toString().equals(real.toString()))
+                throw new RuntimeException("toString doesn't match");
+        }
+    }
+
+    /**
+     * Runs the deque-style operations of MyLinkedList_IteratorTester.
+     */
+    private static void testDeque()
+    {
+        MyRopeList<Integer> list = new MyRopeList<Integer>();
+        LinkedList<Integer> orig = new LinkedList<Integer>();
+
+        for (int i = 0; i < 5000; i++)
+        {
+            int op = random(6);
+            Integer value = random(1000);
+            if (op == 0)
+            {
+                list.addFirst(value);
+                orig.addFirst(value);
+            }
+            else if (op == 1 || orig.isEmpty())
+            {
+                list.addLast(value);
+                orig.addLast(value);
+            }
+            else if (op == 2)
+            {
+                if (!list.removeFirst().equals(orig.removeFirst()))
+                    throw new RuntimeException("removeFirst() returned the wrong element");
+            }
+            else if (op == 3)
+            {
+                if (!list.removeLast().equals(orig.removeLast()))
+                    throw new RuntimeException("removeLast() returned the wrong element");
+            }
+            else if (op == 4)
+            {
+                if (!list.getFirst().equals(orig.getFirst()) || !list.getLast().equals(orig.getLast()))
+                    throw new RuntimeException("getFirst()/getLast() returned the wrong element");
+            }
+            else
+            {
+                // the iterator-remove pass of MyLinkedList_IteratorTester: drop the front half
+                Iterator<Integer> it = list.iterator();
+                for (int j = orig.size() / 2; j > 0; j--)
+                {
+                    it.next();
+                    it.remove();
+                    orig.removeFirst();
+                }
+            }
+
+            if (list.size() != orig.size() || !list.toString().equals(orig.toString()))
+                throw new RuntimeException("Check your iterator and rope list implementation, and also " +
+                    "your add*() and remove*() methods.");
+        }
+
+        try
+        {
+            new MyRopeList<Integer>().removeFirst();
+            throw new RuntimeException("removeFirst() on an empty list should throw NoSuchElementException");
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Runs random ListIterator calls against ArrayList's ListIterator, then checks that the
+     * iterators are fail-fast.
+     */
+    private static void testIterators()
+    {
+        MyRopeList<Integer> your = new MyRopeList<Integer>();
+        ArrayList<Integer> real = new ArrayList<Integer>();
+        for (int i = 0; i < 500; i++)
+        {
+            your.add(i);
+            real.add(i);
+        }
+
+        int start = random(real.size() + 1);
+        ListIterator<Integer> yourIt = your.listIterator(start);
+        ListIterator<Integer> realIt = real.listIterator(start);
+
+        for (int i = 0; i < 50000; i++)
+        {
+            int op = random(6);
+            Integer value = random(1000);
+            String call;
+            Object yourResult = null;
+            Object realResult = null;
+
+            try
+            {
+                if (op == 0 && realIt.hasNext())
+                {
+                    call = "next()";
+                    realResult = realIt.next();
+                    yourResult = yourIt.next();
+                }
+                else if (op == 1 && realIt.hasPrevious())
+                {
+                    call = "previous()";
+                    realResult = realIt.previous();
+                    yourResult = yourIt.previous();
+                }
+                else if (op == 2)
+                {
+                    call = "add(" + value + ")";
+                    realIt.add(value);
+                    yourIt.add(value);
+                }
+                else if (op == 3)
+                {
+                    call = "remove()";
+                    realResult = tryRun(() -> realIt.remove());
+                    yourResult = tryRun(() -> yourIt.remove());
+                }
+                else if (op == 4)
+                {
+                    call = "set(" + value + ")";
+                    realResult = tryRun(() -> realIt.set(value));
+                    yourResult = tryRun(() -> yourIt.set(value));
+                }
+                else
+                {
+                    call = "nextIndex()";
+                    realResult = realIt.nextIndex() + " " + realIt.previousIndex();
+                    yourResult = yourIt.nextIndex() + " " + yourIt.previousIndex();
+                }
+            }
+            catch (RuntimeException e)
+            {
+                throw new RuntimeException("list iterator call failed", e);
+            }
+
+            debug(call);
+            if (!Objects.equals(yourResult, realResult))
+                throw new RuntimeException(call + " returned " + yourResult + " and should return " + realResult);
+            if (your.size() != real.size() || !your.toString().equals(real.toString()))
+                throw new RuntimeException(call + " left the list as " + your + " and it should be " + real);
+        }
+
+        Iterator<Integer> it = your.iterator();
+        your.add(0, 1);
+        try
+        {
+            it.next();
+            throw new RuntimeException("next() should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Splits and concatenates lists at random indices, checking the contents each time.
+     */
+    private static void testSplitConcat()
+    {
+        MyRopeList<Integer> your = new MyRopeList<Integer>();
+        ArrayList<Integer> real = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++)
+        {
+            your.add(i);
+            real.add(i);
+        }
+
+        for (int i = 0; i < 2000; i++)
+        {
+            int index = random(real.size() + 1);
+            debug("split(" + index + ")");
+            MyRopeList<Integer> back = your.split(index);
+            List<Integer> realBack = new ArrayList<Integer>(real.subList(index, real.size()));
+            real.subList(index, real.size()).clear();
+
+            if (your.size() != real.size() || back.size() != realBack.size())
+                throw new RuntimeException("split(" + index + ") made parts of size " + your.size() + " and "
+                    + back.size());
+            checkSome(your, real);
+            checkSome(back, realBack);
+
+            // put the parts back together in the other order to shuffle the list a little
+            if (random(2) == 0)
+            {
+                back.concat(your);
+                your = back;
+                realBack.addAll(real);
+                real = new ArrayList<Integer>(realBack);
+            }
+            else
+            {
+                your.concat(back);
+                real.addAll(realBack);
+            }
+
+            int insertAt = random(real.size() + 1);
+            your.add(insertAt, -i);
+            real.add(insertAt, -i);
+
+            if (your.size() != real.size())
+                throw new RuntimeException("concat made a list of size " + your.size() + " and should be "
+                    + real.size());
+            checkSome(your, real);
+        }
+
+        if (!your.toString().equals(real.toString()))
+            throw new RuntimeException("toString doesn't match after split and concat");
+    }
+
+    /**
+     * Checks the elements of a MyRopeList at the ends and at a few random indices.
+     * @param your the MyRopeList to check
+     * @param real the expected elements
+     */
+    private static void checkSome(MyRopeList<Integer> your, List<Integer> real)
+    {
+        for (int j = 0; j < 20 && !real.isEmpty(); j++)
+        {
+            int index = j == 0 ? 0 : j == 1 ? real.size() - 1 : random(real.size());
+            if (!your.get(index).equals(real.get(index)))
+                throw new RuntimeException("get(" + index + ") returned " + your.get(index) +
+                    " and should return " + real.get(index));
+        }
+    }
+
+    /**
+     * Runs a call and returns the name of the exception it threw, if any.
+     * @param call the call to run
+     * @return the simple name of the exception class, or null if none was thrown
+     */
+    private static String tryRun(Runnable call)
+    {
+        try
+        {
+            call.run();
+            return null;
+        }
+        catch (RuntimeException e)
+        {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
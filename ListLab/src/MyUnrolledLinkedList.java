@@ -0,0 +1,540 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MyUnrolledLinkedList is an unrolled version of MyLinkedList: each node (a Chunk) holds an
+ * array of up to 64 elements instead of just one. This cuts the per-element overhead of the
+ * node objects and links, lets get(index) skip a whole chunk at a time, and lets iteration read
+ * elements that sit next to each other in memory.
+ * A full chunk is split in half when something is inserted into its middle, but adding to
+ * either end of the list starts a fresh chunk, so addFirst and addLast stay O(1). A chunk that
+ * drops below a quarter full is merged with its successor when they fit together.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ * @param <E> Type of the LinkedList
+ */
+public class MyUnrolledLinkedList<E>
+{
+    private static final int CHUNK_CAPACITY = 64;
+    private static final int MIN_FILL = CHUNK_CAPACITY / 4;
+
+    private Chunk first;
+    private Chunk last;
+    private int size;
+    private int modCount;
+    private int foundOffset;
+
+    /**
+     * Constructs an empty MyUnrolledLinkedList.
+     */
+    public MyUnrolledLinkedList()
+    {
+        first = null;
+        last = null;
+        size = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Returns a string of comma separated values in the LinkedList.
+     * @return String version of the LinkedList
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("[");
+        for (Chunk chunk = first; chunk != null; chunk = chunk.next)
+        {
+            for (int i = 0; i < chunk.count; i++)
+            {
+                if (chunk != first || i > 0)
+                    s.append(", ");
+                s.append(chunk.items[i]);
+            }
+        }
+        return s.append("]").toString();
+    }
+
+    /**
+     * Returns the size of the LinkedList.
+     * @return the size of the LinkedList
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Helper function that finds the chunk holding an index, walking from whichever end of
+     * the list is closer and skipping a whole chunk at each step.
+     * @param index the index to find
+     * @precondition  0 <= index < size
+     * @postcondition foundOffset is the offset of index within the returned chunk
+     * @return the chunk holding index
+     */
+    private Chunk locate(int index)
+    {
+        if (index < size / 2)
+        {
+            Chunk chunk = first;
+            while (index >= chunk.count)
+            {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            foundOffset = index;
+            return chunk;
+        }
+
+        Chunk chunk = last;
+        int start = size - chunk.count;
+        while (index < start)
+        {
+            chunk = chunk.previous;
+            start -= chunk.count;
+        }
+        foundOffset = index - start;
+        return chunk;
+    }
+
+    /**
+     * Helper function that checks that index refers to an element.
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is not in [0, size)
+     */
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("index " + index + " is out of range for size " + size);
+        }
+    }
+
+    /**
+     * Returns the element at the specified index.
+     * @param index the specified index
+     * @precondition 0 <= index < size
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index)
+    {
+        checkIndex(index);
+        Chunk chunk = locate(index);
+        return (E) chunk.items[foundOffset];
+    }
+
+    /**
+     * Sets the element at the specified index to obj.
+     * @param index the specified index
+     * @param obj the value of the obj
+     * @precondition 0 <= index < size
+     * @postcondition replaces the element at position index with obj
+     *                returns the element formerly at the specified position
+     * @return previous value of the element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E set(int index, E obj)
+    {
+        checkIndex(index);
+        Chunk chunk = locate(index);
+        int offset = foundOffset;
+
+        E old = (E) chunk.items[offset];
+        chunk.items[offset] = obj;
+        return old;
+    }
+
+    /**
+     * Removes the element at the specified index.
+     * @param index the specified index
+     * @precondition 0 <= index < size
+     * @postcondition removes element from position index, moving elements
+     *                at position index + 1 and higher to the left
+     *                (subtracts 1 from their indices) and adjusts size
+     *                returns the element formerly at the specified position
+     * @return value of the element prior to removal
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E remove(int index)
+    {
+        checkIndex(index);
+        Chunk chunk = locate(index);
+        return removeAt(chunk, foundOffset);
+    }
+
+    /**
+     * Helper function that removes the element at an offset in a chunk, unlinking the
+     * chunk if it empties and merging it with its successor if it becomes sparse.
+     * @param chunk the chunk holding the element
+     * @param offset the offset of the element in chunk
+     * @return the removed element
+     */
+    private E removeAt(Chunk chunk, int offset)
+    {
+        E val = (E) chunk.items[offset];
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+        chunk.items[--chunk.count] = null;
+
+        if (chunk.count == 0)
+        {
+            unlink(chunk);
+        }
+        else if (chunk.count < MIN_FILL && chunk.next != null
+                 && chunk.count + chunk.next.count <= CHUNK_CAPACITY / 2)
+        {
+            Chunk next = chunk.next;
+            System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+            chunk.count += next.count;
+            unlink(next);
+        }
+
+        size--;
+        modCount++;
+        return val;
+    }
+
+    /**
+     * Removes the first element in the LinkedList.
+     * @postcondition the first element has been removed and size has been decremented
+     * @return the value of the first element in the LinkedList before removal
+     * @throws NoSuchElementException if the LinkedList is empty
+     */
+    public E removeFirst()
+    {
+        if (size == 0)
+        {
+            throw new NoSuchElementException("the LinkedList is empty");
+        }
+
+        return removeAt(first, 0);
+    }
+
+    /**
+     * Removes the last element in the LinkedList.
+     * @postcondition the last element has been removed and size has been decremented
+     * @return the value of the last element in the LinkedList before removal
+     * @throws NoSuchElementException if the LinkedList is empty
+     */
+    public E removeLast()
+    {
+        if (size == 0)
+        {
+            throw new NoSuchElementException("the LinkedList is empty");
+        }
+
+        return removeAt(last, last.count - 1);
+    }
+
+    /**
+     * Adds an element at the specified index with value obj.
+     * @param index the specified index
+     * @param obj the value of the element
+     * @precondition  0 <= index <= size
+     * @postcondition inserts obj at position index,
+     *                moving elements at position index and higher
+     *                to the right (adds 1 to their indices) and adjusts size
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void add(int index, E obj)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("index " + index + " is out of range for size " + size);
+        }
+
+        Chunk chunk;
+        int offset;
+
+        if (size == 0)
+        {
+            chunk = new Chunk();
+            linkAfter(null, chunk);
+            offset = 0;
+        }
+        else if (index == size)
+        {
+            chunk = last;
+            offset = chunk.count;
+            if (chunk.count == CHUNK_CAPACITY)
+            {
+                chunk = new Chunk();
+                linkAfter(last, chunk);
+                offset = 0;
+            }
+        }
+        else if (index == 0 && first.count == CHUNK_CAPACITY)
+        {
+            chunk = new Chunk();
+            linkAfter(null, chunk);
+            offset = 0;
+        }
+        else
+        {
+            chunk = locate(index);
+            offset = foundOffset;
+
+            if (chunk.count == CHUNK_CAPACITY)
+            {
+                // move the back half into a new chunk, then insert into whichever half holds index
+                Chunk back = new Chunk();
+                int half = CHUNK_CAPACITY / 2;
+                System.arraycopy(chunk.items, half, back.items, 0, CHUNK_CAPACITY - half);
+                Arrays.fill(chunk.items, half, CHUNK_CAPACITY, null);
+                back.count = CHUNK_CAPACITY - half;
+                chunk.count = half;
+                linkAfter(chunk, back);
+
+                if (offset > half)
+                {
+                    chunk = back;
+                    offset -= half;
+                }
+            }
+        }
+
+        System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+        chunk.items[offset] = obj;
+        chunk.count++;
+
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an element at the beginning of the LinkedList.
+     * @param obj the value of the element
+     * @postcondition inserts obj at the front of the LinkedList
+     */
+    public void addFirst(E obj)
+    {
+        add(0, obj);
+    }
+
+    /**
+     * Adds an element at the end of the LinkedList.
+     * @param obj the value of the element
+     * @postcondition inserts obj at the end of the LinkedList
+     */
+    public void addLast(E obj)
+    {
+        add(size, obj);
+    }
+
+    /**
+     * Adds an element to the end of the LinkedList.
+     * @param obj obj to be appended
+     * @postcondition appends obj to end of list
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        add(size, obj);
+        return true;
+    }
+
+    /**
+     * Returns the value of the first element in the LinkedList.
+     * @return the value of the first element in the LinkedList
+     * @throws NoSuchElementException if the LinkedList is empty
+     */
+    public E getFirst()
+    {
+        if (size == 0)
+        {
+            throw new NoSuchElementException("the LinkedList is empty");
+        }
+
+        return (E) first.items[0];
+    }
+
+    /**
+     * Returns the value of the last element in the LinkedList.
+     * @return the value of the last element in the LinkedList
+     * @throws NoSuchElementException if the LinkedList is empty
+     */
+    public E getLast()
+    {
+        if (size == 0)
+        {
+            throw new NoSuchElementException("the LinkedList is empty");
+        }
+
+        return (E) last.items[last.count - 1];
+    }
+
+    /**
+     * Helper function that links a new chunk into the list of chunks.
+     * @param previous the chunk to link after, or null to link at the front
+     * @param chunk the chunk to link
+     */
+    private void linkAfter(Chunk previous, Chunk chunk)
+    {
+        Chunk next = previous == null ? first : previous.next;
+
+        chunk.previous = previous;
+        chunk.next = next;
+        if (previous == null)
+            first = chunk;
+        else
+            previous.next = chunk;
+        if (next == null)
+            last = chunk;
+        else
+            next.previous = chunk;
+    }
+
+    /**
+     * Helper function that unlinks a chunk from the list of chunks.
+     * @param chunk the chunk to unlink
+     */
+    private void unlink(Chunk chunk)
+    {
+        if (chunk.previous == null)
+            first = chunk.next;
+        else
+            chunk.previous.next = chunk.next;
+        if (chunk.next == null)
+            last = chunk.previous;
+        else
+            chunk.next.previous = chunk.previous;
+    }
+
+    /**
+     * Returns an Iterator for the LinkedList.
+     * @return an Iterator for the LinkedList
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyUnrolledLinkedListIterator();
+    }
+
+    /**
+     * The Chunk class is a node of a MyUnrolledLinkedList, holding up to CHUNK_CAPACITY
+     * elements at the front of its array.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private static final class Chunk
+    {
+        final Object[] items;
+        int count;
+        Chunk previous;
+        Chunk next;
+
+        /**
+         * Constructs an empty Chunk.
+         */
+        Chunk()
+        {
+            items = new Object[CHUNK_CAPACITY];
+        }
+    }
+
+    /**
+     * The MyUnrolledLinkedListIterator class is an Iterator for a MyUnrolledLinkedList.
+     * It reads each chunk's array in order and is fail-fast.
+     * @author Nelson Gou
+     * @version 10/18/2026
+     */
+    private class MyUnrolledLinkedListIterator implements Iterator<E>
+    {
+        private Chunk chunk;
+        private int offset;
+        private boolean canRemove;
+        private int expectedModCount;
+
+        /**
+         * Constructs a MyUnrolledLinkedListIterator positioned at the first element.
+         */
+        public MyUnrolledLinkedListIterator()
+        {
+            chunk = first;
+            offset = 0;
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Determines if the LinkedList was modified without using the Iterator.
+         * @throws ConcurrentModificationException if LinkedList was modified without
+         *                                         using Iterator methods
+         */
+        private void checkForModException()
+        {
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("Modified LinkedList without" +
+                        " using Iterator methods");
+            }
+        }
+
+        /**
+         * Determines if the iterator has a valid next element.
+         * @return true if there is a next element; otherwise false
+         */
+        public boolean hasNext()
+        {
+            return chunk != null && (offset < chunk.count || chunk.next != null);
+        }
+
+        /**
+         * Returns the value of the next element.
+         * @postcondition the Iterator moves forward by one element
+         * @return next Object in the LinkedList
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        public E next()
+        {
+            checkForModException();
+
+            if (!hasNext())
+            {
+                throw new NoSuchElementException("Iteration has no more elements");
+            }
+
+            if (offset == chunk.count)
+            {
+                chunk = chunk.next;
+                offset = 0;
+            }
+
+            canRemove = true;
+            return (E) chunk.items[offset++];
+        }
+
+        /**
+         * Removes the element that was previously returned by next().
+         * @postcondition removes the last element that was returned by next and decrements size
+         * @throws IllegalStateException if the next method has not been called since the
+         *                               last remove
+         */
+        public void remove()
+        {
+            checkForModException();
+
+            if (!canRemove)
+            {
+                throw new IllegalStateException("next method has not yet been called");
+            }
+
+            offset--;
+            Chunk previous = chunk.previous;
+            int previousCount = previous == null ? 0 : previous.count;
+            removeAt(chunk, offset);
+
+            // the chunk may have been unlinked (when it emptied); the next element then
+            // starts the following chunk, which is found again through previous
+            if (chunk.count == 0)
+            {
+                chunk = previous == null ? first : previous;
+                offset = previous == null ? 0 : previousCount;
+            }
+
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+    }
+}
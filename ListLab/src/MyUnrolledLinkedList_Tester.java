@@ -0,0 +1,168 @@
+import java.util.*;
+
+/**
+ * Tester for MyUnrolledLinkedList. Runs random get/set/add/remove calls and the
+ * addFirst/addLast/removeFirst/removeLast calls of MyLinkedList_IteratorTester against
+ * java.util.LinkedList, on lists long enough to span many chunks, along with random
+ * Iterator.remove passes.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class MyUnrolledLinkedList_Tester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 200000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<Integer>();
+        LinkedList<Integer> orig = new LinkedList<Integer>();
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            int op = random(10);
+            Integer value = random(1000);
+            // keep the list between a few hundred and a few thousand elements
+            boolean grow = orig.size() < 300 || (orig.size() < 3000 && random(2) == 0);
+
+            if (op <= 1 && grow)
+            {
+                debug("addFirst(" + value + ")");
+                list.addFirst(value);
+                orig.addFirst(value);
+            }
+            else if (op <= 3 && grow)
+            {
+                debug("addLast(" + value + ")");
+                list.addLast(value);
+                orig.addLast(value);
+            }
+            else if (op <= 5 && grow)
+            {
+                int index = random(orig.size() + 1);
+                debug("add(" + index + ", " + value + ")");
+                list.add(index, value);
+                orig.add(index, value);
+            }
+            else if (op == 6 && !orig.isEmpty())
+            {
+                debug("removeFirst()");
+                check("removeFirst()", list.removeFirst(), orig.removeFirst());
+            }
+            else if (op == 7 && !orig.isEmpty())
+            {
+                debug("removeLast()");
+                check("removeLast()", list.removeLast(), orig.removeLast());
+            }
+            else if (op == 8 && !orig.isEmpty())
+            {
+                int index = random(orig.size());
+                debug("remove(" + index + ")");
+                check("remove(" + index + ")", list.remove(index), orig.remove(index));
+            }
+            else if (!orig.isEmpty())
+            {
+                int index = random(orig.size());
+                debug("set(" + index + ", " + value + ")");
+                check("set(" + index + ", " + value + ")", list.set(index, value), orig.set(index, value));
+            }
+
+            if (list.size() != orig.size())
+                throw new RuntimeException("Your list is the wrong size (should have been " + orig.size() + ").");
+
+            if (!orig.isEmpty())
+            {
+                int index = random(orig.size());
+                check("get(" + index + ")", list.get(index), orig.get(index));
+                check("getFirst()", list.getFirst(), orig.getFirst());
+                check("getLast()", list.getLast(), orig.getLast());
+            }
+
+            if (i % 1000 == 0)
+            {
+                // an Iterator.remove pass that drops every element matching a random residue
+                int residue = random(5);
+                debug("Iterator.remove of elements = " + residue + " mod 5");
+                Iterator<Integer> it = list.iterator();
+                Iterator<Integer> origIt = orig.iterator();
+                while (origIt.hasNext())
+                {
+                    Integer next = origIt.next();
+                    check("it.next()", it.next(), next);
+                    if (next % 5 == residue)
+                    {
+                        it.remove();
+                        origIt.remove();
+                    }
+                }
+                if (it.hasNext())
+                    throw new RuntimeException("it.hasNext() should be false at the end of the list");
+
+                if (!list.toString().equals(orig.toString()))
+                    throw new RuntimeException("Check your iterator and linked list implementation, and " +
+                        "also your add*() and remove*() methods.");
+            }
+        }
+
+        Iterator<Integer> it = list.iterator();
+        list.addFirst(1);
+        try
+        {
+            it.next();
+            throw new RuntimeException("next() should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+
+        try
+        {
+            new MyUnrolledLinkedList<Integer>().removeFirst();
+            throw new RuntimeException("removeFirst() on an empty list should throw NoSuchElementException");
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+
+        System.out.println("CONGRATULATIONS! Your unrolled LinkedList works.");
+    }
+
+    /**
+     * Checks that a call returned the expected element.
+     * @param call the call that was made
+     * @param yours the element it returned
+     * @param expected the element it should have returned
+     */
+    private static void check(String call, Integer yours, Integer expected)
+    {
+        if (!Objects.equals(yours, expected))
+            throw new RuntimeException(call + " returned " + yours + " and should return " + expected);
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}
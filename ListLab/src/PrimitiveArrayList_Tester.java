@@ -0,0 +1,216 @@
+import java.util.*;
+
+/**
+ * Tester for IntArrayList and DoubleArrayList. Runs random add, remove, set and iterator
+ * calls against java.util.ArrayList, then checks toArray, sort and binarySearch.
+ * @author Nelson Gou
+ * @version 10/18/2026
+ */
+public class PrimitiveArrayList_Tester
+{
+    //determines whether it prints each operation
+    private static final boolean DEBUG = false;
+    private static final int NUM_OPERATIONS = 100000;
+
+    /**
+     * Main method.
+     * @param args arguments from the command line
+     */
+    public static void main(String[] args)
+    {
+        testIntArrayList();
+        System.out.println("IntArrayList works!");
+        testDoubleArrayList();
+        System.out.println("DoubleArrayList works!");
+    }
+
+    /**
+     * Runs random operations on an IntArrayList and an ArrayList.
+     */
+    private static void testIntArrayList()
+    {
+        IntArrayList your = new IntArrayList();
+        ArrayList<Integer> real = new ArrayList<Integer>();
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            int op = random(4);
+            int value = random(1000) - 500;
+            if (op == 0 || real.size() < 2)
+            {
+                int index = random(real.size() + 1);
+                debug("add(" + index + ", " + value + ")");
+                real.add(index, value);
+                your.add(index, value);
+            }
+            else if (op == 1 && real.size() > 100)
+            {
+                int index = random(real.size());
+                debug("remove(" + index + ")");
+                int realValue = real.remove(index);
+                int yourValue = your.remove(index);
+                if (realValue != yourValue)
+                    throw new RuntimeException("remove(" + index + ") returned " + yourValue +
+                        " and should return " + realValue);
+            }
+            else if (op == 2)
+            {
+                int index = random(real.size());
+                debug("set(" + index + ", " + value + ")");
+                int realOld = real.set(index, value);
+                int yourOld = your.set(index, value);
+                if (realOld != yourOld)
+                    throw new RuntimeException("set(" + index + ", " + value + ") returned " + yourOld +
+                        " and should return " + realOld);
+            }
+            else
+            {
+                debug("iterator remove of " + value);
+                Iterator<Integer> realIt = real.iterator();
+                PrimitiveIterator.OfInt yourIt = your.iterator();
+                while (realIt.hasNext())
+                {
+                    int realNext = realIt.next();
+                    int yourNext = yourIt.nextInt();
+                    if (realNext != yourNext)
+                        throw new RuntimeException("nextInt() returned " + yourNext + " and should return "
+                            + realNext);
+                    if (realNext % 50 == value % 50)
+                    {
+                        realIt.remove();
+                        yourIt.remove();
+                    }
+                }
+                if (yourIt.hasNext())
+                    throw new RuntimeException("hasNext() should be false at the end of the list");
+            }
+
+            if (your.size() != real.size())
+                throw new RuntimeException("Size is " + your.size() + " and should be " + real.size());
+        }
+
+        if (!your.toString().equals(real.toString()))
+            throw new RuntimeException("toString doesn't match");
+
+        int[] array = your.toArray();
+        for (int i = 0; i < array.length; i++)
+            if (array[i] != real.get(i))
+                throw new RuntimeException("toArray()[" + i + "] is " + array[i] + " and should be " +
+                    real.get(i));
+
+        your.sort();
+        Collections.sort(real);
+        if (!your.toString().equals(real.toString()))
+            throw new RuntimeException("sort() doesn't match Collections.sort");
+
+        for (int value = -510; value < 510; value++)
+        {
+            int realIndex = Collections.binarySearch(real, value);
+            int yourIndex = your.binarySearch(value);
+            if ((realIndex >= 0) != (yourIndex >= 0) || (realIndex < 0 && realIndex != yourIndex)
+                    || (yourIndex >= 0 && your.get(yourIndex) != value))
+                throw new RuntimeException("binarySearch(" + value + ") returned " + yourIndex +
+                    " and should return " + realIndex);
+        }
+
+        try
+        {
+            PrimitiveIterator.OfInt it = your.iterator();
+            your.add(0);
+            it.nextInt();
+            throw new RuntimeException("nextInt() should throw ConcurrentModificationException");
+        }
+        catch (ConcurrentModificationException e)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Runs random operations on a DoubleArrayList and an ArrayList.
+     */
+    private static void testDoubleArrayList()
+    {
+        DoubleArrayList your = new DoubleArrayList(0);
+        ArrayList<Double> real = new ArrayList<Double>();
+
+        for (int i = 0; i < NUM_OPERATIONS; i++)
+        {
+            int op = random(3);
+            double value = random(1000) / 8.0;
+            if (op == 0 || real.size() < 2)
+            {
+                int index = random(real.size() + 1);
+                debug("add(" + index + ", " + value + ")");
+                real.add(index, value);
+                your.add(index, value);
+            }
+            else if (op == 1 && real.size() > 100)
+            {
+                int index = random(real.size());
+                debug("remove(" + index + ")");
+                double realValue = real.remove(index);
+                double yourValue = your.remove(index);
+                if (realValue != yourValue)
+                    throw new RuntimeException("remove(" + index + ") returned " + yourValue +
+                        " and should return " + realValue);
+            }
+            else
+            {
+                int index = random(real.size());
+                debug("set(" + index + ", " + value + ")");
+                double realOld = real.set(index, value);
+                double yourOld = your.set(index, value);
+                if (realOld != yourOld)
+                    throw new RuntimeException("set(" + index + ", " + value + ") returned " + yourOld +
+                        " and should return " + realOld);
+            }
+
+            if (your.size() != real.size())
+                throw new RuntimeException("Size is " + your.size() + " and should be " + real.size());
+        }
+
+        if (!your.toString().equals(real.toString()))
+            throw new RuntimeException("toString doesn't match");
+
+        your.sort();
+        Collections.sort(real);
+        double[] array = your.toArray();
+        PrimitiveIterator.OfDouble it = your.iterator();
+        for (int i = 0; i < array.length; i++)
+        {
+            double next = it.nextDouble();
+            if (array[i] != real.get(i) || next != real.get(i))
+                throw new RuntimeException("element " + i + " is " + array[i] + " and should be " +
+                    real.get(i));
+        }
+
+        for (int i = 0; i < 1000; i++)
+        {
+            double value = i / 8.0;
+            int yourIndex = your.binarySearch(value);
+            if ((yourIndex >= 0) != real.contains(value) || (yourIndex >= 0) != your.contains(value))
+                throw new RuntimeException("binarySearch(" + value + ") returned " + yourIndex);
+        }
+    }
+
+    /**
+     * Prints a String if DEBUG is on.
+     * @param s the String to print
+     */
+    private static void debug(String s)
+    {
+        if (DEBUG)
+            System.out.println(s);
+    }
+
+    /**
+     * Returns a random integer in [0, n).
+     * @param n the upper bound
+     * @return a random integer in [0, n)
+     */
+    private static int random(int n)
+    {
+        return (int) (n * Math.random());
+    }
+}